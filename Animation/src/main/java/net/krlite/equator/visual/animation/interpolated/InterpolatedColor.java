@@ -1,8 +1,11 @@
 package net.krlite.equator.visual.animation.interpolated;
 
+import net.krlite.equator.math.algebra.Theory;
 import net.krlite.equator.visual.animation.base.Interpolation;
 import net.krlite.equator.visual.color.AccurateColor;
+import net.krlite.equator.visual.color.ColorRamp;
 import net.krlite.equator.visual.color.base.ColorStandard;
+import org.jetbrains.annotations.Nullable;
 
 public class InterpolatedColor extends Interpolation<AccurateColor> {
 	public InterpolatedColor(AccurateColor initial, double ratio, ColorStandard.MixMode mixMode) {
@@ -15,6 +18,10 @@ public class InterpolatedColor extends Interpolation<AccurateColor> {
 	}
 
 	private ColorStandard.MixMode mixMode;
+	private int rampSamples;
+	private @Nullable ColorRamp ramp;
+	private @Nullable AccurateColor rampValue;
+	private double rampProgress;
 
 	public ColorStandard.MixMode mixMode() {
 		return mixMode;
@@ -24,6 +31,27 @@ public class InterpolatedColor extends Interpolation<AccurateColor> {
 		this.mixMode = mixMode;
 	}
 
+	/**
+	 * Samples the values from a {@link ColorRamp} baked from the current value to the target instead of mixing
+	 * them on every frame. A new ramp is baked whenever the target, the mix mode or the value changes from
+	 * outside, so this is meant for colors that are retargeted rarely.
+	 * @param samples	the number of samples to bake.
+	 */
+	public void bake(int samples) {
+		this.rampSamples = samples;
+		this.ramp = null;
+	}
+
+	public void bake() {
+		bake(ColorRamp.DEFAULT_SAMPLES);
+	}
+
+	public void unbake() {
+		this.rampSamples = 0;
+		this.ramp = null;
+		this.rampValue = null;
+	}
+
 	@Override
 	public boolean isCompleted() {
 		return value().approximates(target());
@@ -31,6 +59,15 @@ public class InterpolatedColor extends Interpolation<AccurateColor> {
 
 	@Override
 	public AccurateColor interpolate(AccurateColor value, AccurateColor target) {
-		return value.mix(target, ratio(), mixMode());
+		if (rampSamples <= 0) return value.mix(target, ratio(), mixMode());
+
+		if (ramp == null || value != rampValue || ramp.end() != target || ramp.mixMode() != mixMode()) {
+			ramp = new ColorRamp(value, target, mixMode(), rampSamples);
+			rampProgress = 0;
+		}
+
+		// Approaching the target by the same ratio every frame, as the mixing above does
+		rampProgress = Theory.lerp(rampProgress, 1, ratio());
+		return rampValue = ramp.sample(rampProgress);
 	}
 }
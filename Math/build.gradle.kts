@@ -21,6 +21,9 @@ dependencies {
 	minecraft(libs.minecraft)
 	mappings(libs.yarn)
 	modImplementation(libs.bundles.fabric)
+
+	testImplementation(libs.junit.jupiter)
+	testRuntimeOnly(libs.junit.platform.launcher)
 }
 
 java {
@@ -30,6 +33,18 @@ java {
 	withSourcesJar()
 }
 
+tasks.test {
+	useJUnitPlatform()
+}
+
+tasks.register<JavaExec>("benchmark") {
+	description = "Compares the cost of Theory.Fast against Math."
+	group = "verification"
+
+	classpath = sourceSets.test.get().runtimeClasspath
+	mainClass.set("net.krlite.equator.math.algebra.TheoryFastBenchmark")
+}
+
 publishing {
 	publications {
 		create<MavenPublication>("mavenJava") {
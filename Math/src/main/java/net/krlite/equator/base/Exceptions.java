@@ -21,6 +21,18 @@ public class Exceptions {
 		}
 	}
 
+	public static class AffineNotInvertibleException extends ArithmeticException {
+		public AffineNotInvertibleException(double determinant) {
+			super("Affine transformation is not invertible, its determinant was " + determinant);
+		}
+	}
+
+	public static class CellSizeMustBePositiveException extends IllegalArgumentException {
+		public CellSizeMustBePositiveException(double cellSize) {
+			super("Cell size must be positive and finite, but was " + cellSize);
+		}
+	}
+
 	public static class IdentifierNotFoundException extends IOException {
 		public IdentifierNotFoundException(Identifier identifier, Throwable cause) {
 			super("Resource " + identifier.toString() + " not found", cause);
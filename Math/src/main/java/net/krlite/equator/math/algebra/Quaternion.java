@@ -1,12 +1,132 @@
 package net.krlite.equator.math.algebra;
 
+import net.krlite.equator.math.geometry.volume.MutablePos;
 import net.krlite.equator.math.geometry.volume.Pos;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3f;
 import org.joml.Quaterniond;
 import org.joml.Quaterniondc;
 import org.joml.Quaternionf;
 import org.joml.Quaternionfc;
 
-public record Quaternion(double x, double y, double z, double w) {
+import java.util.Objects;
+
+/**
+ * <h1>Quaternion</h1>
+ * An immutable quaternion, mostly used as a rotation. Its {@link #asFloat() float} and {@link #toMatrix() matrix}
+ * forms are computed once and cached, so a quaternion reused every frame converts only once. To compose rotations
+ * without allocating, use a {@link MutableQuaternion}.
+ */
+public final class Quaternion {
+	/**
+	 * The {@code 3×3} rotation matrix of a {@link Quaternion}, for rotating many points. Applying it costs nine
+	 * multiply-adds per point, rather than deriving the matrix from the quaternion every time.
+	 */
+	public record RotationMatrix(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22) {
+		public static RotationMatrix from(Quaternion quaternion) {
+			double
+					x = quaternion.x(), y = quaternion.y(), z = quaternion.z(), w = quaternion.w(),
+					xx = x * x, yy = y * y, zz = z * z,
+					xy = x * y, xz = x * z, yz = y * z,
+					xw = x * w, yw = y * w, zw = z * w;
+
+			return new RotationMatrix(
+					Math.fma(-2, yy + zz, 1), 2 * (xy - zw), 2 * (xz + yw),
+					2 * (xy + zw), Math.fma(-2, xx + zz, 1), 2 * (yz - xw),
+					2 * (xz - yw), 2 * (yz + xw), Math.fma(-2, xx + yy, 1)
+			);
+		}
+
+		public Pos transform(double x, double y, double z) {
+			return new Pos(
+					Math.fma(m00, x, Math.fma(m01, y, m02 * z)),
+					Math.fma(m10, x, Math.fma(m11, y, m12 * z)),
+					Math.fma(m20, x, Math.fma(m21, y, m22 * z))
+			);
+		}
+
+		/**
+		 * Rotates a position, keeping its dimension.
+		 */
+		public Pos transform(Pos pos) {
+			double x = pos.x(), y = pos.y(), z = pos.z();
+			return new Pos(
+					pos.dimension(),
+					Math.fma(m00, x, Math.fma(m01, y, m02 * z)),
+					Math.fma(m10, x, Math.fma(m11, y, m12 * z)),
+					Math.fma(m20, x, Math.fma(m21, y, m22 * z))
+			);
+		}
+
+		public MutablePos transform(MutablePos pos) {
+			double x = pos.x(), y = pos.y(), z = pos.z();
+			return pos.set(
+					Math.fma(m00, x, Math.fma(m01, y, m02 * z)),
+					Math.fma(m10, x, Math.fma(m11, y, m12 * z)),
+					Math.fma(m20, x, Math.fma(m21, y, m22 * z))
+			);
+		}
+
+		/**
+		 * Rotates packed points, {@code x0, y0, z0, x1, y1, z1, ...}, in place.
+		 * @param coordinates	the packed coordinates.
+		 * @param offset		the index of the first point's {@code x}.
+		 * @param count			the number of points.
+		 */
+		public void transform(double[] coordinates, int offset, int count) {
+			Objects.checkFromIndexSize(offset, count * 3, coordinates.length);
+
+			for (int i = offset; i < offset + count * 3; i += 3) {
+				double x = coordinates[i], y = coordinates[i + 1], z = coordinates[i + 2];
+				coordinates[i] = Math.fma(m00, x, Math.fma(m01, y, m02 * z));
+				coordinates[i + 1] = Math.fma(m10, x, Math.fma(m11, y, m12 * z));
+				coordinates[i + 2] = Math.fma(m20, x, Math.fma(m21, y, m22 * z));
+			}
+		}
+
+		/**
+		 * Rotates packed points, {@code x0, y0, z0, x1, y1, z1, ...}, in place.
+		 * @param coordinates	the packed coordinates.
+		 * @param offset		the index of the first point's {@code x}.
+		 * @param count			the number of points.
+		 */
+		public void transform(float[] coordinates, int offset, int count) {
+			Objects.checkFromIndexSize(offset, count * 3, coordinates.length);
+
+			float
+					m00 = (float) this.m00, m01 = (float) this.m01, m02 = (float) this.m02,
+					m10 = (float) this.m10, m11 = (float) this.m11, m12 = (float) this.m12,
+					m20 = (float) this.m20, m21 = (float) this.m21, m22 = (float) this.m22;
+
+			for (int i = offset; i < offset + count * 3; i += 3) {
+				float x = coordinates[i], y = coordinates[i + 1], z = coordinates[i + 2];
+				coordinates[i] = m00 * x + m01 * y + m02 * z;
+				coordinates[i + 1] = m10 * x + m11 * y + m12 * z;
+				coordinates[i + 2] = m20 * x + m21 * y + m22 * z;
+			}
+		}
+
+		public void transform(double[] coordinates) {
+			transform(coordinates, 0, coordinates.length / 3);
+		}
+
+		public void transform(float[] coordinates) {
+			transform(coordinates, 0, coordinates.length / 3);
+		}
+
+		public Matrix3f toMatrix3f() {
+			return new Matrix3f(
+					(float) m00, (float) m10, (float) m20,
+					(float) m01, (float) m11, (float) m21,
+					(float) m02, (float) m12, (float) m22
+			);
+		}
+	}
+
+	// Constants
+
+	public static final Quaternion IDENTITY = new Quaternion();
+
 	// Static Constructors
 
 	public static Quaternion from(Quaternionfc quaternion) {
@@ -19,12 +139,12 @@ public record Quaternion(double x, double y, double z, double w) {
 
 	public static Quaternion fromAxis(Pos axis, double angle) {
 		double halfAngle = angle / 2;
-		double sin = Math.sin(halfAngle);
+		double sin = Theory.sin(halfAngle);
 		return new Quaternion(
 				axis.x() * sin,
 				axis.y() * sin,
 				axis.z() * sin,
-				Math.cos(halfAngle)
+				Theory.cos(halfAngle)
 		);
 	}
 
@@ -34,8 +154,8 @@ public record Quaternion(double x, double y, double z, double w) {
 
 	public static Quaternion rotationXYZ(double x, double y, double z) {
 		double halfX = x / 2, halfY = y / 2, halfZ = z / 2;
-		double sinX = Math.sin(halfX), sinY = Math.sin(halfY), sinZ = Math.sin(halfZ);
-		double cosX = Math.cos(halfX), cosY = Math.cos(halfY), cosZ = Math.cos(halfZ);
+		double sinX = Theory.sin(halfX), sinY = Theory.sin(halfY), sinZ = Theory.sin(halfZ);
+		double cosX = Theory.cos(halfX), cosY = Theory.cos(halfY), cosZ = Theory.cos(halfZ);
 		return new Quaternion(
 				sinX * cosY * cosZ - cosX * sinY * sinZ,
 				cosX * sinY * cosZ + sinX * cosY * sinZ,
@@ -50,8 +170,8 @@ public record Quaternion(double x, double y, double z, double w) {
 
 	public static Quaternion rotationZYX(double x, double y, double z) {
 		double halfX = x / 2, halfY = y / 2, halfZ = z / 2;
-		double sinX = Math.sin(halfX), sinY = Math.sin(halfY), sinZ = Math.sin(halfZ);
-		double cosX = Math.cos(halfX), cosY = Math.cos(halfY), cosZ = Math.cos(halfZ);
+		double sinX = Theory.sin(halfX), sinY = Theory.sin(halfY), sinZ = Theory.sin(halfZ);
+		double cosX = Theory.cos(halfX), cosY = Theory.cos(halfY), cosZ = Theory.cos(halfZ);
 		return new Quaternion(
 				sinX * cosY * cosZ + cosX * sinY * sinZ,
 				cosX * sinY * cosZ - sinX * cosY * sinZ,
@@ -66,8 +186,8 @@ public record Quaternion(double x, double y, double z, double w) {
 
 	public static Quaternion rotationYXZ(double x, double y, double z) {
 		double halfX = x / 2, halfY = y / 2, halfZ = z / 2;
-		double sinX = Math.sin(halfX), sinY = Math.sin(halfY), sinZ = Math.sin(halfZ);
-		double cosX = Math.cos(halfX), cosY = Math.cos(halfY), cosZ = Math.cos(halfZ);
+		double sinX = Theory.sin(halfX), sinY = Theory.sin(halfY), sinZ = Theory.sin(halfZ);
+		double cosX = Theory.cos(halfX), cosY = Theory.cos(halfY), cosZ = Theory.cos(halfZ);
 		return new Quaternion(
 				sinX * cosY * cosZ + cosX * sinY * sinZ,
 				cosX * sinY * cosZ - sinX * cosY * sinZ,
@@ -83,10 +203,10 @@ public record Quaternion(double x, double y, double z, double w) {
 	public static Quaternion rotationX(double angle) {
 		double halfAngle = angle / 2;
 		return new Quaternion(
-				Math.sin(halfAngle),
+				Theory.sin(halfAngle),
 				0,
 				0,
-				Math.cos(halfAngle)
+				Theory.cos(halfAngle)
 		);
 	}
 
@@ -98,9 +218,9 @@ public record Quaternion(double x, double y, double z, double w) {
 		double halfAngle = angle / 2;
 		return new Quaternion(
 				0,
-				Math.sin(halfAngle),
+				Theory.sin(halfAngle),
 				0,
-				Math.cos(halfAngle)
+				Theory.cos(halfAngle)
 		);
 	}
 
@@ -113,8 +233,8 @@ public record Quaternion(double x, double y, double z, double w) {
 		return new Quaternion(
 				0,
 				0,
-				Math.sin(halfAngle),
-				Math.cos(halfAngle)
+				Theory.sin(halfAngle),
+				Theory.cos(halfAngle)
 		);
 	}
 
@@ -132,18 +252,20 @@ public record Quaternion(double x, double y, double z, double w) {
 		this(0, 0, 0, 1);
 	}
 
+	// Fields
+
+	private final double x, y, z, w;
+	private volatile @Nullable Quaternionf floatCache;
+	private volatile @Nullable RotationMatrix matrixCache;
+
 	// Accessors
 
-	@Override
 	public double x() { return x; }
 
-	@Override
 	public double y() { return y; }
 
-	@Override
 	public double z() { return z; }
 
-	@Override
 	public double w() { return w; }
 
 	public double angle() {
@@ -174,12 +296,12 @@ public record Quaternion(double x, double y, double z, double w) {
 
 	public Quaternion angle(double angle) {
 		double halfAngle = angle / 2;
-		double sin = Math.sin(halfAngle);
+		double sin = Theory.sin(halfAngle);
 		return new Quaternion(
 				x() * sin,
 				y() * sin,
 				z() * sin,
-				Math.cos(halfAngle)
+				Theory.cos(halfAngle)
 		);
 	}
 
@@ -249,9 +371,9 @@ public record Quaternion(double x, double y, double z, double w) {
 	}
 
 	public Quaternion rotateXYZ(double x, double y, double z) {
-		double xSin = Math.sin(x / 2), xCos = Math.cos(x / 2);
-		double ySin = Math.sin(y / 2), yCos = Math.cos(y / 2);
-		double zSin = Math.sin(z / 2), zCos = Math.cos(z / 2);
+		double xSin = Theory.sin(x / 2), xCos = Theory.cos(x / 2);
+		double ySin = Theory.sin(y / 2), yCos = Theory.cos(y / 2);
+		double zSin = Theory.sin(z / 2), zCos = Theory.cos(z / 2);
 
 		double yCosZCos = yCos * zCos, yCosZSin = yCos * zSin, ySinZCos = ySin * zCos, ySinZSin = ySin * zSin;
 
@@ -274,9 +396,9 @@ public record Quaternion(double x, double y, double z, double w) {
 	}
 
 	public Quaternion rotateZYX(double x, double y, double z) {
-		double xSin = Math.sin(x / 2), xCos = Math.cos(x / 2);
-		double ySin = Math.sin(y / 2), yCos = Math.cos(y / 2);
-		double zSin = Math.sin(z / 2), zCos = Math.cos(z / 2);
+		double xSin = Theory.sin(x / 2), xCos = Theory.cos(x / 2);
+		double ySin = Theory.sin(y / 2), yCos = Theory.cos(y / 2);
+		double zSin = Theory.sin(z / 2), zCos = Theory.cos(z / 2);
 
 		double yCosZCos = yCos * zCos, yCosZSin = yCos * zSin, ySinZCos = ySin * zCos, ySinZSin = ySin * zSin;
 
@@ -299,9 +421,9 @@ public record Quaternion(double x, double y, double z, double w) {
 	}
 
 	public Quaternion rotateYXZ(double x, double y, double z) {
-		double xSin = Math.sin(x / 2), xCos = Math.cos(x / 2);
-		double ySin = Math.sin(y / 2), yCos = Math.cos(y / 2);
-		double zSin = Math.sin(z / 2), zCos = Math.cos(z / 2);
+		double xSin = Theory.sin(x / 2), xCos = Theory.cos(x / 2);
+		double ySin = Theory.sin(y / 2), yCos = Theory.cos(y / 2);
+		double zSin = Theory.sin(z / 2), zCos = Theory.cos(z / 2);
 
 		double yCosXCos = yCos * xCos, yCosXSin = yCos * xSin, ySinXCos = ySin * xCos, ySinXSin = ySin * xSin;
 
@@ -332,6 +454,12 @@ public record Quaternion(double x, double y, double z, double w) {
 		);
 	}
 
+	/**
+	 * Interpolates along the shortest arc between two rotations, at a constant angular speed.
+	 * @param another	the rotation to interpolate to.
+	 * @param ratio		the ratio, {@code 0} for this rotation and {@code 1} for the given one.
+	 * @see #fastSphericalInterpolation(Quaternion, double)
+	 */
 	public Quaternion sphericalInterpolation(Quaternion another, double ratio) {
 		double dot = dot(another);
 
@@ -341,24 +469,59 @@ public record Quaternion(double x, double y, double z, double w) {
 		}
 
 		if (dot > 0.9995) {
-			return interpolation(another, ratio);
+			return interpolation(another, ratio).normalize();
 		}
 
 		double theta = Math.acos(dot);
-		double sinTheta = Math.sin(theta);
-		double sinRatioTheta = Math.sin(ratio * theta);
-		double sinOneMinusRatioTheta = Math.sin((1 - ratio) * theta);
+		double sinTheta = Theory.sin(theta);
+		double weight = Theory.sin((1 - ratio) * theta) / sinTheta, anotherWeight = Theory.sin(ratio * theta) / sinTheta;
 
 		return new Quaternion(
-				(1 - ratio) * x() * sinTheta / sinOneMinusRatioTheta + ratio * another.x() * sinTheta / sinRatioTheta,
-				(1 - ratio) * y() * sinTheta / sinOneMinusRatioTheta + ratio * another.y() * sinTheta / sinRatioTheta,
-				(1 - ratio) * z() * sinTheta / sinOneMinusRatioTheta + ratio * another.z() * sinTheta / sinRatioTheta,
-				(1 - ratio) * w() * sinTheta / sinOneMinusRatioTheta + ratio * another.w() * sinTheta / sinRatioTheta
+				weight * x() + anotherWeight * another.x(),
+				weight * y() + anotherWeight * another.y(),
+				weight * z() + anotherWeight * another.z(),
+				weight * w() + anotherWeight * another.w()
 		);
 	}
 
+	/**
+	 * Approximates {@link #sphericalInterpolation(Quaternion, double)} of two normalized quaternions without any
+	 * trigonometry. The ratio is first corrected by a polynomial in the cosine of the angle between them, which
+	 * undoes most of the speed distortion of a normalized linear interpolation, then the quaternions are linearly
+	 * interpolated and normalized.
+	 * <br />
+	 * For ratios in {@code [0, 1]}, the resulting rotation is within {@code 0.001} radians (about {@code 0.06°}) of
+	 * the exact one, where an uncorrected normalized linear interpolation strays by up to {@code 0.15} radians. The
+	 * result is always normalized.
+	 * @param another	the rotation to interpolate to.
+	 * @param ratio		the ratio, {@code 0} for this rotation and {@code 1} for the given one.
+	 */
+	public Quaternion fastSphericalInterpolation(Quaternion another, double ratio) {
+		double dot = dot(another), sign = dot < 0 ? -1 : 1, corrected = correctRatio(Math.abs(dot), ratio);
+
+		return new Quaternion(
+				Theory.lerp(x(), sign * another.x(), corrected),
+				Theory.lerp(y(), sign * another.y(), corrected),
+				Theory.lerp(z(), sign * another.z(), corrected),
+				Theory.lerp(w(), sign * another.w(), corrected)
+		).normalize();
+	}
+
+	/**
+	 * Corrects the ratio of a normalized linear interpolation so that it follows the angle of a spherical one.
+	 * @param cos	the absolute cosine of the angle between the two quaternions.
+	 * @param ratio	the ratio.
+	 * @return	the corrected ratio.
+	 */
+	static double correctRatio(double cos, double ratio) {
+		double a = 1.0904 + cos * (-3.2452 + cos * (3.55645 - cos * 1.43519));
+		double b = 0.848013 + cos * (-1.06021 + cos * 0.215638);
+		double k = a * (ratio - 0.5) * (ratio - 0.5) + b;
+		return ratio + ratio * (ratio - 0.5) * (ratio - 1) * k;
+	}
+
 	public Quaternion rotateX(double angle) {
-		double sin = Math.sin(angle / 2), cos = Math.cos(angle / 2);
+		double sin = Theory.sin(angle / 2), cos = Theory.cos(angle / 2);
 
 		return new Quaternion(
 				w() * sin + x() * cos,
@@ -373,7 +536,7 @@ public record Quaternion(double x, double y, double z, double w) {
 	}
 
 	public Quaternion rotateY(double angle) {
-		double sin = Math.sin(angle / 2), cos = Math.cos(angle / 2);
+		double sin = Theory.sin(angle / 2), cos = Theory.cos(angle / 2);
 
 		return new Quaternion(
 				x() * cos - z() * sin,
@@ -388,7 +551,7 @@ public record Quaternion(double x, double y, double z, double w) {
 	}
 
 	public Quaternion rotateZ(double angle) {
-		double sin = Math.sin(angle / 2), cos = Math.cos(angle / 2);
+		double sin = Theory.sin(angle / 2), cos = Theory.cos(angle / 2);
 
 		return new Quaternion(
 				x() * cos + y() * sin,
@@ -403,7 +566,7 @@ public record Quaternion(double x, double y, double z, double w) {
 	}
 
 	public Quaternion rotateLocalX(double angle) {
-		double sin = Math.sin(angle / 2), cos = Math.cos(angle / 2);
+		double sin = Theory.sin(angle / 2), cos = Theory.cos(angle / 2);
 
 		return new Quaternion(
 				w() * sin + x() * cos,
@@ -418,7 +581,7 @@ public record Quaternion(double x, double y, double z, double w) {
 	}
 
 	public Quaternion rotateLocalY(double angle) {
-		double sin = Math.sin(angle / 2), cos = Math.cos(angle / 2);
+		double sin = Theory.sin(angle / 2), cos = Theory.cos(angle / 2);
 
 		return new Quaternion(
 				x() * cos + z() * sin,
@@ -433,7 +596,7 @@ public record Quaternion(double x, double y, double z, double w) {
 	}
 
 	public Quaternion rotateLocalZ(double angle) {
-		double sin = Math.sin(angle / 2), cos = Math.cos(angle / 2);
+		double sin = Theory.sin(angle / 2), cos = Theory.cos(angle / 2);
 
 		return new Quaternion(
 				x() * cos - y() * sin,
@@ -464,8 +627,75 @@ public record Quaternion(double x, double y, double z, double w) {
 		);
 	}
 
+	/**
+	 * Rotates packed points, {@code x0, y0, z0, x1, y1, z1, ...}, in place, the same as {@link #transform(double, double, double)}
+	 * on every point.
+	 * @param coordinates	the packed coordinates.
+	 * @param offset		the index of the first point's {@code x}.
+	 * @param count			the number of points.
+	 * @see RotationMatrix#transform(double[], int, int)
+	 */
+	public void transform(double[] coordinates, int offset, int count) {
+		toMatrix().transform(coordinates, offset, count);
+	}
+
+	public void transform(double[] coordinates) {
+		toMatrix().transform(coordinates);
+	}
+
+	/**
+	 * Rotates packed points, {@code x0, y0, z0, x1, y1, z1, ...}, in place.
+	 * @param coordinates	the packed coordinates.
+	 * @param offset		the index of the first point's {@code x}.
+	 * @param count			the number of points.
+	 * @see RotationMatrix#transform(float[], int, int)
+	 */
+	public void transform(float[] coordinates, int offset, int count) {
+		toMatrix().transform(coordinates, offset, count);
+	}
+
+	public void transform(float[] coordinates) {
+		toMatrix().transform(coordinates);
+	}
+
+	public MutablePos transform(MutablePos pos) {
+		return toMatrix().transform(pos);
+	}
+
+	/**
+	 * @return	the rotation matrix of this quaternion, computed on the first call and cached.
+	 */
+	public RotationMatrix toMatrix() {
+		RotationMatrix matrix = matrixCache;
+		if (matrix == null) matrixCache = matrix = RotationMatrix.from(this);
+		return matrix;
+	}
+
+	/**
+	 * @return	a read-only view of the float form of this quaternion, computed on the first call and cached, so that
+	 * reading it every frame allocates nothing.
+	 * @see #toFloat()
+	 */
+	public Quaternionfc asFloat() {
+		Quaternionf quaternion = floatCache;
+		if (quaternion == null) floatCache = quaternion = toFloat(new Quaternionf());
+		return quaternion;
+	}
+
+	/**
+	 * @return	a new float form of this quaternion, which the caller may modify.
+	 * @see #asFloat()
+	 */
 	public Quaternionf toFloat() {
-		return new Quaternionf((float) x(), (float) y(), (float) z(), (float) w());
+		return toFloat(new Quaternionf());
+	}
+
+	/**
+	 * Writes the float form of this quaternion into the given one, without allocating.
+	 * @return	the given quaternion.
+	 */
+	public Quaternionf toFloat(Quaternionf destination) {
+		return destination.set((float) x(), (float) y(), (float) z(), (float) w());
 	}
 
 	public Quaterniond toDouble() {
@@ -491,6 +721,19 @@ public record Quaternion(double x, double y, double z, double w) {
 		return toString(false);
 	}
 
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof Quaternion another)) return false;
+		return Double.compare(x(), another.x()) == 0 && Double.compare(y(), another.y()) == 0
+					   && Double.compare(z(), another.z()) == 0 && Double.compare(w(), another.w()) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * (31 * Double.hashCode(x()) + Double.hashCode(y())) + Double.hashCode(z())) + Double.hashCode(w());
+	}
+
 	public String toString(boolean precisely) {
 		return getClass().getSimpleName()
 					   + (isZero()
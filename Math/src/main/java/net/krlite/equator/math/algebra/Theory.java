@@ -5,6 +5,158 @@ package net.krlite.equator.math.algebra;
  * A collection of mathematical functions that are used in the library.
  */
 public class Theory {
+	/**
+	 * <h1>Fast</h1>
+	 * Approximations of the elementary functions, accurate to far below a pixel for anything drawn on the screen, but
+	 * several times cheaper than their counterparts in {@link Math}. Call them directly where an approximation is
+	 * always acceptable, or through {@link Theory#sin(double)} and the like to follow the
+	 * {@link Theory#approximate() approximate mode}.
+	 * <table>
+	 *     <tr>
+	 *         <th>Function</th>
+	 *         <th>Error</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>{@link #sin(double)}, {@link #cos(double)}</td>
+	 *         <td>absolute, below {@code 3e-7}</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>{@link #atan2(double, double)}</td>
+	 *         <td>absolute, below {@code 2e-6} radians</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>{@link #exp2(double)}</td>
+	 *         <td>relative, below {@code 1e-8}</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>{@link #cbrt(double)}</td>
+	 *         <td>relative, below {@code 1e-14}</td>
+	 *     </tr>
+	 * </table>
+	 * Arguments outside the ranges the approximations are built for, such as infinities, {@code NaN}s or angles
+	 * beyond {@code ±1e6}, fall back to {@link Math}, and so do zeros where the sign of the result follows them.
+	 */
+	public static final class Fast {
+		/**
+		 * The number of samples of the sine table per turn, a power of {@code 2}.
+		 */
+		private static final int SIN_SAMPLES = 4096;
+		private static final double SIN_SCALAR = SIN_SAMPLES / TAU;
+		/**
+		 * Rounding an angle to a table index loses precision as the angle grows, which pushes angles around
+		 * {@code 1e9} beyond the error bound.
+		 */
+		private static final double MAX_ANGLE = 1e6;
+		private static final double[] SIN = new double[SIN_SAMPLES + 1];
+
+		static {
+			for (int i = 0; i <= SIN_SAMPLES; i++) {
+				SIN[i] = Math.sin(i / SIN_SCALAR);
+			}
+		}
+
+		private Fast() {
+		}
+
+		/**
+		 * Samples the sine table, linearly interpolated between the samples.
+		 * @param index	the angle in samples.
+		 */
+		private static double sample(double index) {
+			double floor = Math.floor(index);
+			int i = (int) ((long) floor & (SIN_SAMPLES - 1));
+			return SIN[i] + (SIN[i + 1] - SIN[i]) * (index - floor);
+		}
+
+		public static double sin(double angle) {
+			if (!(Math.abs(angle) < MAX_ANGLE) || angle == 0) return Math.sin(angle);
+			return sample(angle * SIN_SCALAR);
+		}
+
+		public static double cos(double angle) {
+			if (!(Math.abs(angle) < MAX_ANGLE)) return Math.cos(angle);
+			return sample(angle * SIN_SCALAR + SIN_SAMPLES / 4.0);
+		}
+
+		/**
+		 * Approximates the arctangent of {@code y / x} with an odd polynomial on the octant, keeping the quadrants
+		 * and the signed zeros the same as {@link Math#atan2(double, double)}.
+		 */
+		public static double atan2(double y, double x) {
+			double xAbs = Math.abs(x), yAbs = Math.abs(y);
+			if (!(xAbs < Double.POSITIVE_INFINITY && yAbs < Double.POSITIVE_INFINITY) || (xAbs == 0 && yAbs == 0)) {
+				return Math.atan2(y, x);
+			}
+
+			double ratio = Math.min(xAbs, yAbs) / Math.max(xAbs, yAbs), squared = ratio * ratio;
+			double angle = ratio * (0.99997726 + squared * (-0.33262347 + squared * (0.19354346
+					+ squared * (-0.11643287 + squared * (0.05265332 + squared * -0.01172120)))));
+
+			if (yAbs > xAbs) angle = Math.PI / 2 - angle;
+			if (x < 0) angle = Math.PI - angle;
+			return Math.copySign(angle, y);
+		}
+
+		/**
+		 * <h1>{@code 2^x}</h1>
+		 * Splits the exponent into an integer, which is placed into the exponent bits directly, and a fraction in
+		 * {@code [-0.5, 0.5]}, which is approximated by a polynomial.
+		 */
+		public static double exp2(double x) {
+			if (!(Math.abs(x) < 1022)) return Math.pow(2, x);
+
+			double rounded = Math.rint(x), f = (x - rounded) * LN_2;
+			double fraction = 1 + f * (1 + f * (1 / 2.0 + f * (1 / 6.0 + f * (1 / 24.0 + f * (1 / 120.0
+					+ f * (1 / 720.0 + f * (1 / 5040.0)))))));
+
+			return fraction * Double.longBitsToDouble((long) (rounded + 1023) << 52);
+		}
+
+		/**
+		 * Approximates the cube root of a double with a bit-level guess refined by two Halley iterations, for a
+		 * relative error below {@code 1e-14} over the whole domain, subnormals included.
+		 */
+		public static double cbrt(double value) {
+			if (value <= 0) return value == 0 ? value : -cbrt(-value);
+			if (!(value < Double.POSITIVE_INFINITY)) return value;
+
+			// Rescales by 2^±600 so that neither the bit-level guess nor the cubed root leaves the normal range
+			if (value < 0x1p-600) return cbrt(value * 0x1p600) * 0x1p-200;
+			if (value > 0x1p600) return cbrt(value * 0x1p-600) * 0x1p200;
+
+			double root = Double.longBitsToDouble(Double.doubleToRawLongBits(value) / 3 + 0x2A9F7893782DA1CEL);
+			root = halley(root, value);
+			return halley(root, value);
+		}
+
+		/**
+		 * Approximates the cube root of a float, for a relative error below {@code 1e-6} over the whole domain,
+		 * subnormals included.
+		 */
+		public static float cbrt(float value) {
+			if (value <= 0) return value == 0 ? value : -cbrt(-value);
+			if (!(value < Float.POSITIVE_INFINITY)) return value;
+
+			// Rescales by 2^±90 so that neither the bit-level guess nor the cubed root leaves the normal range
+			if (value < 0x1p-60f) return cbrt(value * 0x1p90f) * 0x1p-30f;
+			if (value > 0x1p60f) return cbrt(value * 0x1p-90f) * 0x1p30f;
+
+			float root = Float.intBitsToFloat(Float.floatToRawIntBits(value) / 3 + 0x2A5137A0);
+			root = halley(root, value);
+			return halley(root, value);
+		}
+
+		private static double halley(double root, double value) {
+			double cubed = root * root * root;
+			return root * ((cubed + 2 * value) / (2 * cubed + value));
+		}
+
+		private static float halley(float root, float value) {
+			float cubed = root * root * root;
+			return root * ((cubed + 2 * value) / (2 * cubed + value));
+		}
+	}
+
 	/**
 	 * A small margin of error for comparing doubles. The value is {@code 1e-6}, which equals to {@code 0.000001}.
 	 */
@@ -12,6 +164,84 @@ public class Theory {
 	
 	public static final double TAU = 2 * Math.PI;
 
+	private static final double LN_2 = Math.log(2);
+
+	private static boolean approximate = false;
+
+	/**
+	 * @return	{@code true -} if the functions such as {@link #sin(double)} use the {@link Fast} approximations.
+	 * <br />	{@code false -} if they use {@link Math}, which is the default.
+	 */
+	public static boolean approximate() {
+		return approximate;
+	}
+
+	/**
+	 * Switches the approximate mode for the geometry, the curves and the renderers, which compute their
+	 * trigonometry through {@link #sin(double)} and the like. Meant to be set once, such as on initialization, rather
+	 * than toggled between frames.
+	 * @param approximate	whether to use the {@link Fast} approximations.
+	 */
+	public static void approximate(boolean approximate) {
+		Theory.approximate = approximate;
+	}
+
+	public static double sin(double angle, boolean approximate) {
+		return approximate ? Fast.sin(angle) : Math.sin(angle);
+	}
+
+	/**
+	 * @see #approximate()
+	 */
+	public static double sin(double angle) {
+		return sin(angle, approximate);
+	}
+
+	public static double cos(double angle, boolean approximate) {
+		return approximate ? Fast.cos(angle) : Math.cos(angle);
+	}
+
+	/**
+	 * @see #approximate()
+	 */
+	public static double cos(double angle) {
+		return cos(angle, approximate);
+	}
+
+	public static double atan2(double y, double x, boolean approximate) {
+		return approximate ? Fast.atan2(y, x) : Math.atan2(y, x);
+	}
+
+	/**
+	 * @see #approximate()
+	 */
+	public static double atan2(double y, double x) {
+		return atan2(y, x, approximate);
+	}
+
+	public static double exp2(double x, boolean approximate) {
+		return approximate ? Fast.exp2(x) : Math.pow(2, x);
+	}
+
+	/**
+	 * <h1>{@code 2^x}</h1>
+	 * @see #approximate()
+	 */
+	public static double exp2(double x) {
+		return exp2(x, approximate);
+	}
+
+	public static double cbrt(double value, boolean approximate) {
+		return approximate ? Fast.cbrt(value) : Math.cbrt(value);
+	}
+
+	/**
+	 * @see #approximate()
+	 */
+	public static double cbrt(double value) {
+		return cbrt(value, approximate);
+	}
+
 	/**
 	 * <h1>{@code a ≈ b}</h1>
 	 * Checks if the two doubles are equal within a small margin of error.
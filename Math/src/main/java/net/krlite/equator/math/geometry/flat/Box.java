@@ -9,11 +9,13 @@ import net.krlite.equator.render.frame.FrameInfo;
  * <h1>Box</h1>
  * Represents a rectangle in the {@link FrameInfo.Convertor Scaled Coordinate}
  * and is not rotatable.
+ * <br />
+ * The box is stored as the four primitives {@code x, y, w, h}, so the edges, the dimensions and the
+ * containment tests are plain arithmetic. The {@link Vector}s, such as {@link #origin()} and {@link #size()}, are
+ * derived on demand.
  * @see Vector
- * @param origin	the top left corner.
- * @param size		the size.
  */
-public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box> {
+public final class Box implements Convertible.Scaled<Box> {
 	// Constants
 
 	public static final Box ZERO = new Box(Vector.ZERO);
@@ -25,7 +27,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	// Static Constructors
 
 	public static Box fromCartesian(double x, double y, double width, double height) {
-		return new Box(Vector.fromCartesian(x, y), Vector.fromCartesian(width, height));
+		return new Box(x, y, width, height, 1, 1);
 	}
 
 	public static Box fromCartesian(double width, double height) {
@@ -41,7 +43,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	}
 
 	public static Box fromVector(Vector topLeft, Vector bottomRight) {
-		return new Box(topLeft, bottomRight.subtract(topLeft));
+		return new Box(topLeft.x(), topLeft.y(), bottomRight.x(), bottomRight.y());
 	}
 
 	public static Box fromVectorCentered(Vector center, Vector size) {
@@ -50,9 +52,23 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 
 	// Constructors
 
+	/**
+	 * Scales the size of a box, moving the origin of any negative side so that the size is kept positive.
+	 * @param xScalar	the scalar by which to scale the width.
+	 * @param yScalar	the scalar by which to scale the height.
+	 */
+	private Box(double x, double y, double w, double h, double xScalar, double yScalar) {
+		w *= xScalar;
+		h *= yScalar;
+
+		this.x = w < 0 ? x + w : x;
+		this.y = h < 0 ? y + h : y;
+		this.w = Math.abs(w);
+		this.h = Math.abs(h);
+	}
+
 	public Box(Vector origin, Vector size) {
-		this.origin = origin.min(origin.add(size));
-		this.size = origin.max(origin.add(size)).subtract(this.origin);
+		this(origin.x(), origin.y(), size.x(), size.y(), 1, 1);
 	}
 
 	public Box(Vector size) {
@@ -60,19 +76,24 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	}
 
 	public Box(double xMin, double yMin, double xMax, double yMax) {
-		this(Vector.fromCartesian(xMin, yMin), Vector.fromCartesian(xMax - xMin, yMax - yMin));
+		this.x = Math.min(xMin, xMax);
+		this.y = Math.min(yMin, yMax);
+		this.w = Math.abs(xMax - xMin);
+		this.h = Math.abs(yMax - yMin);
 	}
 
+	// Fields
+
+	private final double x, y, w, h;
+
 	// Accessors
 
-	@Override
 	public Vector origin() {
-		return origin;
+		return Vector.fromCartesian(x(), y());
 	}
 
-	@Override
 	public Vector size() {
-		return size;
+		return Vector.fromCartesian(w(), h());
 	}
 
 
@@ -82,107 +103,107 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	}
 
 	public Vector bottomLeft() {
-		return Vector.fromCartesian(topLeft().x(), bottomRight().y());
+		return Vector.fromCartesian(left(), bottom());
 	}
 
 	public Vector bottomRight() {
-		return origin().add(size());
+		return Vector.fromCartesian(right(), bottom());
 	}
 
 	public Vector topRight() {
-		return Vector.fromCartesian(bottomRight().x(), topLeft().y());
+		return Vector.fromCartesian(right(), top());
 	}
 
 	public Vector center() {
-		return topLeft().add(size().scale(0.5));
+		return Vector.fromCartesian(xCenter(), yCenter());
 	}
 
 
 
 	public Vector topCenter() {
-		return Vector.fromCartesian(center().x(), top());
+		return Vector.fromCartesian(xCenter(), top());
 	}
 
 	public Vector bottomCenter() {
-		return Vector.fromCartesian(center().x(), bottom());
+		return Vector.fromCartesian(xCenter(), bottom());
 	}
 
 	public Vector leftCenter() {
-		return Vector.fromCartesian(left(), center().y());
+		return Vector.fromCartesian(left(), yCenter());
 	}
 
 	public Vector rightCenter() {
-		return Vector.fromCartesian(right(), center().y());
+		return Vector.fromCartesian(right(), yCenter());
 	}
 
 	public Vector at(double xOffset, double yOffset) {
-		return origin().add(size().scale(xOffset, yOffset));
+		return Vector.fromCartesian(x() + w() * xOffset, y() + h() * yOffset);
 	}
 
 	
 
 	public double top() {
-		return topLeft().y();
+		return y;
 	}
 
 	public double bottom() {
-		return bottomLeft().y();
+		return y + h;
 	}
 
 	public double left() {
-		return topLeft().x();
+		return x;
 	}
 
 	public double right() {
-		return topRight().x();
+		return x + w;
 	}
 
 
 
 	public Vector width() {
-		return topRight().subtract(topLeft());
+		return Vector.fromCartesian(w(), 0);
 	}
 
 	public Vector height() {
-		return bottomLeft().subtract(topLeft());
+		return Vector.fromCartesian(0, h());
 	}
 
 
 
 	public double x() {
-		return topLeft().x();
+		return x;
 	}
 
 	public double y() {
-		return topLeft().y();
+		return y;
 	}
 
 	public double w() {
-		return width().magnitude();
+		return w;
 	}
 
 	public double h() {
-		return height().magnitude();
+		return h;
 	}
 
 	public double d() {
-		return size().magnitude();
+		return Math.sqrt(w * w + h * h);
 	}
 
 
 
 	public double xCenter() {
-		return center().x();
+		return x + w / 2;
 	}
 
 	public double yCenter() {
-		return center().y();
+		return y + h / 2;
 	}
 
 	// Mutators
 
 	public Box origin(Vector origin) {
-		return new Box(origin, size());
+		return fromCartesian(origin.x(), origin.y(), w(), h());
 	}
 
 	public Box size(Vector size) {
@@ -192,109 +213,113 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 
 
 	public Box topLeft(Vector topLeft) {
-		return Box.fromVector(topLeft, bottomRight());
+		return new Box(topLeft.x(), topLeft.y(), right(), bottom());
 	}
 
 	public Box bottomLeft(Vector bottomLeft) {
-		return Box.fromVector(bottomLeft, topRight());
+		return new Box(bottomLeft.x(), top(), right(), bottomLeft.y());
 	}
 
 	public Box bottomRight(Vector bottomRight) {
-		return Box.fromVector(topLeft(), bottomRight);
+		return new Box(left(), top(), bottomRight.x(), bottomRight.y());
 	}
 
 	public Box topRight(Vector topRight) {
-		return Box.fromVector(bottomLeft(), topRight);
+		return new Box(left(), topRight.y(), topRight.x(), bottom());
 	}
 
 
 
 	public Box topLeft(Box another) {
-		return topLeft(another.topLeft());
+		return new Box(another.left(), another.top(), right(), bottom());
 	}
 
 	public Box bottomLeft(Box another) {
-		return bottomLeft(another.bottomLeft());
+		return new Box(another.left(), top(), right(), another.bottom());
 	}
 
 	public Box bottomRight(Box another) {
-		return bottomRight(another.bottomRight());
+		return new Box(left(), top(), another.right(), another.bottom());
 	}
 
 	public Box topRight(Box another) {
-		return topRight(another.topRight());
+		return new Box(left(), another.top(), another.right(), bottom());
 	}
 
 
 
 	public Box center(Vector center) {
-		return new Box(center.subtract(size().scale(0.5)), size());
+		return center(center.x(), center.y());
 	}
 
 	public Box topCenter(Vector topCenter) {
-		return center(topCenter.add(height().scale(0.5)));
+		return center(topCenter.x(), topCenter.y() + h() / 2);
 	}
 
 	public Box bottomCenter(Vector bottomCenter) {
-		return center(bottomCenter.subtract(height().scale(0.5)));
+		return center(bottomCenter.x(), bottomCenter.y() - h() / 2);
 	}
 
 	public Box leftCenter(Vector leftCenter) {
-		return center(leftCenter.add(width().scale(0.5)));
+		return center(leftCenter.x() + w() / 2, leftCenter.y());
 	}
 
 	public Box rightCenter(Vector rightCenter) {
-		return center(rightCenter.subtract(width().scale(0.5)));
+		return center(rightCenter.x() - w() / 2, rightCenter.y());
 	}
 
 
 
 	public Box center(Box another) {
-		return center(another.center());
+		return center(another.xCenter(), another.yCenter());
 	}
 
 	public Box topCenter(Box another) {
-		return topCenter(another.topCenter());
+		return center(another.xCenter(), another.top() + h() / 2);
 	}
 
 	public Box bottomCenter(Box another) {
-		return bottomCenter(another.bottomCenter());
+		return center(another.xCenter(), another.bottom() - h() / 2);
 	}
 
 	public Box leftCenter(Box another) {
-		return leftCenter(another.leftCenter());
+		return center(another.left() + w() / 2, another.yCenter());
 	}
 
 	public Box rightCenter(Box another) {
-		return rightCenter(another.rightCenter());
+		return center(another.right() - w() / 2, another.yCenter());
+	}
+
+	private Box center(double xCenter, double yCenter) {
+		return fromCartesian(xCenter - w() / 2, yCenter - h() / 2, w(), h());
 	}
 
 
 
 	public Box top(double y) {
-		return topLeft(topLeft().y(y));
+		return new Box(left(), y, right(), bottom());
 	}
 
 	public Box bottom(double y) {
-		return bottomLeft(bottomLeft().y(y));
+		return new Box(left(), top(), right(), y);
 	}
 
 	public Box left(double x) {
-		return topLeft(topLeft().x(x));
+		return new Box(x, top(), right(), bottom());
 	}
 
 	public Box right(double x) {
-		return topRight(topRight().x(x));
+		return new Box(left(), top(), x, bottom());
 	}
 
 
 
 	public Box width(double width) {
-		return new Box(topLeft(), width().magnitude(width).add(height()));
+		return fromCartesian(x(), y(), width, h());
 	}
 
 	public Box height(double height) {
-		return new Box(topLeft(), height().magnitude(height).add(width()));
+		return fromCartesian(x(), y(), w(), height);
 	}
 
 	// Properties
@@ -322,21 +347,20 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	}
 
 	/**
-	 * @return	{@code true -} if the box contains the given vector.
+	 * @return	{@code true -} if the box contains the given vector, including the edges.
 	 * <br />	{@code false -} otherwise.
 	 */
 	public boolean contains(Vector vector) {
-		return height().negate().cross(vector.subtract(bottomLeft())) * height().cross(vector.subtract(topRight())) >= 0
-					   && width().cross(vector.subtract(topLeft())) * width().negate().cross(vector.subtract(bottomRight())) >= 0;
+		return contains(vector.x(), vector.y());
 	}
 
 	/**
-	 * @return	{@code true -} if the box contains the given coordinate.
+	 * @return	{@code true -} if the box contains the given coordinate, including the edges.
 	 * <br />	{@code false -} otherwise.
 	 * @see #contains(Vector)
 	 */
 	public boolean contains(double x, double y) {
-		return contains(Vector.fromCartesian(x, y));
+		return x >= left() && x <= right() && y >= top() && y <= bottom();
 	}
 
 	/**
@@ -345,7 +369,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * <br />	{@code false -} otherwise.
 	 */
 	public boolean contains(Box another) {
-		return contains(another.topLeft()) && contains(another.bottomRight());
+		return contains(another.left(), another.top()) && contains(another.right(), another.bottom());
 	}
 
 	/**
@@ -355,8 +379,8 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 */
 	public boolean intersects(Box another) {
 		return !(Theory.isZero(area()) || Theory.isZero(another.area()) ||
-						 (Theory.looseGreater(left(), another.right()) && Theory.looseGreater(another.left(), right())) ||
-						 (Theory.looseGreater(bottom(), another.top()) && Theory.looseGreater(another.bottom(), top())));
+						 Theory.looseGreater(left(), another.right()) || Theory.looseGreater(another.left(), right()) ||
+						 Theory.looseGreater(top(), another.bottom()) || Theory.looseGreater(another.top(), bottom()));
 	}
 
 	// Operations
@@ -365,16 +389,16 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	the smallest square that contains this box, whose center is the same.
 	 */
 	public Box squareOuter() {
-		double max = width().magnitudeMax(height());
-		return width(max).height(max).center(center());
+		double max = Math.max(w(), h());
+		return fromCartesianCentered(xCenter(), yCenter(), max, max);
 	}
 	
 	/**
 	 * @return	the largest square that is contained by this box, whose center is the same.
 	 */
 	public Box squareInner() {
-		double min = width().magnitudeMin(height());
-		return width(min).height(min).center(center());
+		double min = Math.min(w(), h());
+		return fromCartesianCentered(xCenter(), yCenter(), min, min);
 	}
 
 
@@ -392,7 +416,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose top left corner is translated by the given factors.
 	 */
 	public Box translateTopLeft(double xFactor, double yFactor) {
-		return topLeft(topLeft().add(width().scale(xFactor)).add(height().scale(yFactor)));
+		return new Box(left() + w() * xFactor, top() + h() * yFactor, right(), bottom());
 	}
 
 	/**
@@ -409,7 +433,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose bottom left corner is translated by the given factors.
 	 */
 	public Box translateBottomLeft(double xFactor, double yFactor) {
-		return bottomLeft(bottomLeft().add(width().scale(xFactor)).add(height().scale(yFactor)));
+		return new Box(left() + w() * xFactor, top(), right(), bottom() + h() * yFactor);
 	}
 
 	/**
@@ -426,7 +450,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose bottom right corner is translated by the given factors.
 	 */
 	public Box translateBottomRight(double xFactor, double yFactor) {
-		return bottomRight(bottomRight().add(width().scale(xFactor)).add(height().scale(yFactor)));
+		return new Box(left(), top(), right() + w() * xFactor, bottom() + h() * yFactor);
 	}
 
 	/**
@@ -443,7 +467,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose top right corner is translated by the given factors.
 	 */
 	public Box translateTopRight(double xFactor, double yFactor) {
-		return topRight(topRight().add(width().scale(xFactor)).add(height().scale(yFactor)));
+		return new Box(left(), top() + h() * yFactor, right() + w() * xFactor, bottom());
 	}
 
 
@@ -514,7 +538,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose width is multiplied by the given factor.
 	 */
 	public Box translateWidth(double factor) {
-		return width(w() + width().scale(factor).magnitude());
+		return width(w() + Math.abs(w() * factor));
 	}
 
 	/**
@@ -523,7 +547,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose height is multiplied by the given factor.
 	 */
 	public Box translateHeight(double factor) {
-		return height(h() + height().scale(factor).magnitude());
+		return height(h() + Math.abs(h() * factor));
 	}
 
 	/**
@@ -539,7 +563,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box translated by the given factors.
 	 */
 	public Box translate(double xFactor, double yFactor) {
-		return center(center().add(width().scale(xFactor)).add(height().scale(yFactor)));
+		return shift(w() * xFactor, h() * yFactor);
 	}
 
 
@@ -553,7 +577,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose top left corner is shifted by the given offset.
 	 */
 	public Box shiftTopLeft(Vector offset) {
-		return topLeft(topLeft().add(offset));
+		return new Box(left() + offset.x(), top() + offset.y(), right(), bottom());
 	}
 
 	/**
@@ -565,7 +589,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose bottom left corner is shifted by the given offset.
 	 */
 	public Box shiftBottomLeft(Vector offset) {
-		return bottomLeft(bottomLeft().add(offset));
+		return new Box(left() + offset.x(), top(), right(), bottom() + offset.y());
 	}
 
 	/**
@@ -577,7 +601,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose bottom right corner is shifted by the given offset.
 	 */
 	public Box shiftBottomRight(Vector offset) {
-		return bottomRight(bottomRight().add(offset));
+		return new Box(left(), top(), right() + offset.x(), bottom() + offset.y());
 	}
 
 	/**
@@ -589,7 +613,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose top right corner is shifted by the given offset.
 	 */
 	public Box shiftTopRight(Vector offset) {
-		return topRight(topRight().add(offset));
+		return new Box(left(), top() + offset.y(), right() + offset.x(), bottom());
 	}
 
 
@@ -601,7 +625,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose top edge is shifted by the given offset.
 	 */
 	public Box shiftTop(double yOffset) {
-		return shiftTopLeft(Vector.fromCartesian(0, yOffset));
+		return top(top() + yOffset);
 	}
 
 	/**
@@ -612,7 +636,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose bottom edge is shifted by the given offset.
 	 */
 	public Box shiftBottom(double yOffset) {
-		return shiftBottomLeft(Vector.fromCartesian(0, yOffset));
+		return bottom(bottom() + yOffset);
 	}
 
 	/**
@@ -623,7 +647,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose left edge is shifted by the given offset.
 	 */
 	public Box shiftLeft(double xOffset) {
-		return shiftTopLeft(Vector.fromCartesian(xOffset, 0));
+		return left(left() + xOffset);
 	}
 
 	/**
@@ -634,7 +658,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose right edge is shifted by the given offset.
 	 */
 	public Box shiftRight(double xOffset) {
-		return shiftTopRight(Vector.fromCartesian(xOffset, 0));
+		return right(right() + xOffset);
 	}
 
 
@@ -647,7 +671,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box shifted by the given offset.
 	 */
 	public Box shift(Vector offset) {
-		return center(center().add(offset));
+		return shift(offset.x(), offset.y());
 	}
 
 	/**
@@ -661,7 +685,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @see #shift(Vector)
 	 */
 	public Box shift(double xOffset, double yOffset) {
-		return shift(Vector.fromCartesian(xOffset, yOffset));
+		return fromCartesian(x() + xOffset, y() + yOffset, w(), h());
 	}
 
 
@@ -671,7 +695,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose top left corner is aligned with the given vector.
 	 */
 	public Box alignTopLeft(Vector topLeft) {
-		return new Box(topLeft, size());
+		return origin(topLeft);
 	}
 
 	/**
@@ -680,7 +704,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose bottom left corner is aligned with the given vector.
 	 */
 	public Box alignBottomLeft(Vector bottomLeft) {
-		return Box.fromVector(bottomLeft.subtract(height()), bottomLeft.add(width()));
+		return fromCartesian(bottomLeft.x(), bottomLeft.y() - h(), w(), h());
 	}
 
 	/**
@@ -689,7 +713,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose bottom right corner is aligned with the given vector.
 	 */
 	public Box alignBottomRight(Vector bottomRight) {
-		return Box.fromVector(bottomRight.subtract(size()), bottomRight);
+		return fromCartesian(bottomRight.x() - w(), bottomRight.y() - h(), w(), h());
 	}
 
 	/**
@@ -698,7 +722,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose top right corner is aligned with the given vector.
 	 */
 	public Box alignTopRight(Vector topRight) {
-		return Box.fromVector(topRight.subtract(width()), topRight.add(height()));
+		return fromCartesian(topRight.x() - w(), topRight.y(), w(), h());
 	}
 
 
@@ -708,7 +732,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose top edge is aligned with the given {@code y}.
 	 */
 	public Box alignTop(double y) {
-		return alignTopLeft(Vector.fromCartesian(topLeft().x(), y));
+		return fromCartesian(x(), y, w(), h());
 	}
 
 	/**
@@ -717,7 +741,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose bottom edge is aligned with the given {@code y}.
 	 */
 	public Box alignBottom(double y) {
-		return alignBottomLeft(Vector.fromCartesian(bottomLeft().x(), y));
+		return fromCartesian(x(), y - h(), w(), h());
 	}
 
 	/**
@@ -726,7 +750,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose left edge is aligned with the given {@code x}.
 	 */
 	public Box alignLeft(double x) {
-		return alignTopLeft(Vector.fromCartesian(x, topLeft().y()));
+		return fromCartesian(x, y(), w(), h());
 	}
 
 	/**
@@ -735,7 +759,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box whose right edge is aligned with the given {@code x}.
 	 */
 	public Box alignRight(double x) {
-		return alignTopRight(Vector.fromCartesian(x, topRight().y()));
+		return fromCartesian(x - w(), y(), w(), h());
 	}
 
 
@@ -850,7 +874,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box scaled by the given scalars.
 	 */
 	public Box scale(double xScalar, double yScalar) {
-		return width(w() * xScalar).height(h() * yScalar);
+		return new Box(x(), y(), w(), h(), xScalar, yScalar);
 	}
 
 	/**
@@ -891,7 +915,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box expanded by the given expansion.
 	 */
 	public Box expand(Vector expansion) {
-		return Box.fromVector(topLeft().subtract(expansion), bottomRight().add(expansion));
+		return expand(expansion.x(), expansion.y());
 	}
 
 	/**
@@ -904,7 +928,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @see #expand(Vector)
 	 */
 	public Box expand(double xExpansion, double yExpansion) {
-		return expand(Vector.fromCartesian(xExpansion, yExpansion));
+		return new Box(left() - xExpansion, top() - yExpansion, right() + xExpansion, bottom() + yExpansion);
 	}
 
 	/**
@@ -942,7 +966,8 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	public Box min(Box another) {
 		if (!intersects(another)) return Box.ZERO;
 		else {
-			return Box.fromVector(topLeft().max(another.topLeft()), bottomRight().min(another.bottomRight()));
+			return new Box(Math.max(left(), another.left()), Math.max(top(), another.top()),
+					Math.min(right(), another.right()), Math.min(bottom(), another.bottom()));
 		}
 	}
 
@@ -953,7 +978,8 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 	 * @return	a new box which is the union of this box and the given box.
 	 */
 	public Box max(Box another) {
-		return Box.fromVector(topLeft().min(another.topLeft()), bottomRight().max(another.bottomRight()));
+		return new Box(Math.min(left(), another.left()), Math.min(top(), another.top()),
+				Math.max(right(), another.right()), Math.max(bottom(), another.bottom()));
 	}
 
 	public Box interpolate(Vector vector, double factor) {
@@ -1013,8 +1039,7 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 
 		for (int x = 0; x < xStep; x++) {
 			for (int y = 0; y < yStep; y++) {
-				grid[x][y] = new Box(topLeft().add(width().scale(x / (double) xStep)).add(height().scale(y / (double) yStep)),
-						width().scale(1 / (double) xStep).add(height().scale(1 / (double) yStep)));
+				grid[x][y] = fromCartesian(x() + w() * x / xStep, y() + h() * y / yStep, w() / xStep, h() / yStep);
 			}
 		}
 
@@ -1053,6 +1078,28 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 		return grid(step, step);
 	}
 
+	/**
+	 * Gets a view of the {@link #grid(int, int) grid} with the given steps, which addresses the cells by index instead
+	 * of allocating them all.
+	 * @param xStep	the step in the x-direction.
+	 * @param yStep	the step in the y-direction.
+	 * @return	a grid view of this box.
+	 * @see BoxGrid
+	 */
+	public BoxGrid gridView(int xStep, int yStep) {
+		return new BoxGrid(this, xStep, yStep);
+	}
+
+	/**
+	 * Gets a view of the {@link #grid(int) grid} with the given step.
+	 * @param step	the step in both the x-direction and the y-direction.
+	 * @return	a grid view of this box.
+	 * @see #gridView(int, int)
+	 */
+	public BoxGrid gridView(int step) {
+		return gridView(step, step);
+	}
+
 	// Interface Implementations
 
 	/**
@@ -1093,6 +1140,19 @@ public record Box(Vector origin, Vector size) implements Convertible.Scaled<Box>
 		return getClass().getSimpleName() + String.format("[%s, %s]", topLeft().toStringAsCartesian(precisely), bottomRight().toStringAsCartesian(precisely));
 	}
 
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof Box another)) return false;
+		return Double.compare(x(), another.x()) == 0 && Double.compare(y(), another.y()) == 0
+					   && Double.compare(w(), another.w()) == 0 && Double.compare(h(), another.h()) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * (31 * Double.hashCode(x()) + Double.hashCode(y())) + Double.hashCode(w())) + Double.hashCode(h());
+	}
+
 	@Override
 	public String toString() {
 		return toString(false);
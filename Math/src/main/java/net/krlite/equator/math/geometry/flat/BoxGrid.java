@@ -0,0 +1,196 @@
+package net.krlite.equator.math.geometry.flat;
+
+import net.krlite.equator.base.Exceptions;
+
+/**
+ * <h1>BoxGrid</h1>
+ * A view of a {@link Box} split into {@code columns × rows} equal cells, addressed by index instead of materialized
+ * like {@link Box#grid(int, int)}. Locating the cell under a point is {@code O(1)}, and visiting the cells passes
+ * their primitive coordinates, so neither allocates.
+ * <br />
+ * Cells are addressed by {@code (column, row)}, the same as {@code Box.grid(columns, rows)[column][row]}, or by the
+ * flat index {@code column · rows + row}.
+ * @see Box#gridView(int, int)
+ */
+public final class BoxGrid {
+	/**
+	 * Visits a cell by its primitive coordinates.
+	 */
+	@FunctionalInterface
+	public interface CellVisitor {
+		void visit(int column, int row, double x, double y, double w, double h);
+	}
+
+	/**
+	 * Visits a cell of a recursive subdivision.
+	 */
+	@FunctionalInterface
+	public interface SubdivisionVisitor {
+		/**
+		 * @param depth	the depth of the cell, {@code 0} for the cells of the grid itself.
+		 * @return	{@code true} to subdivide the cell further, {@code false} to stop at it.
+		 */
+		boolean visit(int depth, double x, double y, double w, double h);
+	}
+
+	// Constructors
+
+	public BoxGrid(Box box, int columns, int rows) {
+		if (columns <= 0 || rows <= 0) {
+			throw new Exceptions.StepMustBePositiveException(columns, rows);
+		}
+
+		this.box = box;
+		this.columns = columns;
+		this.rows = rows;
+		this.cellWidth = box.w() / columns;
+		this.cellHeight = box.h() / rows;
+	}
+
+	// Fields
+
+	private final Box box;
+	private final int columns, rows;
+	private final double cellWidth, cellHeight;
+
+	// Accessors
+
+	public Box box() {
+		return box;
+	}
+
+	public int columns() {
+		return columns;
+	}
+
+	public int rows() {
+		return rows;
+	}
+
+	public int size() {
+		return columns * rows;
+	}
+
+	public double cellWidth() {
+		return cellWidth;
+	}
+
+	public double cellHeight() {
+		return cellHeight;
+	}
+
+	// Operations
+
+	/**
+	 * @return	the cell at the given column and row, equal to {@code box().grid(columns(), rows())[column][row]}.
+	 */
+	public Box cellAt(int column, int row) {
+		checkCell(column, row);
+		return Box.fromCartesian(cellX(column), cellY(row), cellWidth, cellHeight);
+	}
+
+	public Box cellAt(int index) {
+		return cellAt(index / rows, index % rows);
+	}
+
+	/**
+	 * Writes the cell at the given column and row into a {@link MutableBox}, without allocating.
+	 * @return	the given mutable box.
+	 */
+	public MutableBox cellAt(int column, int row, MutableBox out) {
+		checkCell(column, row);
+		return out.set(cellX(column), cellY(row), cellWidth, cellHeight);
+	}
+
+	/**
+	 * @return	the column containing the given {@code x}, or {@code -1} if it is outside the grid.
+	 */
+	public int columnOf(double x) {
+		return indexOf(x, box.left(), box.right(), cellWidth, columns);
+	}
+
+	/**
+	 * @return	the row containing the given {@code y}, or {@code -1} if it is outside the grid.
+	 */
+	public int rowOf(double y) {
+		return indexOf(y, box.top(), box.bottom(), cellHeight, rows);
+	}
+
+	/**
+	 * Locates the cell containing a point. A point on the edge between two cells belongs to the one after it,
+	 * except on the right and bottom edges of the grid.
+	 * @return	the flat index of the cell containing the given point, or {@code -1} if it is outside the grid.
+	 */
+	public int cellIndexOf(double x, double y) {
+		int column = columnOf(x), row = rowOf(y);
+		return column < 0 || row < 0 ? -1 : column * rows + row;
+	}
+
+	public int cellIndexOf(Vector point) {
+		return cellIndexOf(point.x(), point.y());
+	}
+
+	/**
+	 * Visits every cell, column by column.
+	 */
+	public void forEachCell(CellVisitor visitor) {
+		for (int column = 0; column < columns; column++) {
+			for (int row = 0; row < rows; row++) {
+				visitor.visit(column, row, cellX(column), cellY(row), cellWidth, cellHeight);
+			}
+		}
+	}
+
+	/**
+	 * Streams a recursive subdivision, where every cell the visitor accepts is split into {@code columns × rows}
+	 * cells again, depth first. A {@code 2 × 2} grid yields a quadtree. Nothing is allocated, so the visitor may stop
+	 * early on cells it does not need, such as the ones outside the screen.
+	 * @param maxDepth	the deepest depth to subdivide to, {@code 0} visits only the cells of this grid.
+	 * @param visitor	the visitor.
+	 */
+	public void subdivide(int maxDepth, SubdivisionVisitor visitor) {
+		subdivide(box.x(), box.y(), box.w(), box.h(), 0, maxDepth, visitor);
+	}
+
+	private void subdivide(double x, double y, double w, double h, int depth, int maxDepth, SubdivisionVisitor visitor) {
+		double cellWidth = w / columns, cellHeight = h / rows;
+
+		for (int column = 0; column < columns; column++) {
+			for (int row = 0; row < rows; row++) {
+				double cellX = x + w * column / columns, cellY = y + h * row / rows;
+
+				if (visitor.visit(depth, cellX, cellY, cellWidth, cellHeight) && depth < maxDepth) {
+					subdivide(cellX, cellY, cellWidth, cellHeight, depth + 1, maxDepth, visitor);
+				}
+			}
+		}
+	}
+
+	private double cellX(int column) {
+		return box.x() + box.w() * column / columns;
+	}
+
+	private double cellY(int row) {
+		return box.y() + box.h() * row / rows;
+	}
+
+	private static int indexOf(double value, double start, double end, double cellSize, int count) {
+		// Bounded by the box itself, the same as Box#contains, since cellSize · count may round below the extent
+		if (!(value >= start) || value > end) return -1;
+		if (cellSize == 0) return 0;
+		return Math.min((int) ((value - start) / cellSize), count - 1);
+	}
+
+	private void checkCell(int column, int row) {
+		if (column < 0 || column >= columns || row < 0 || row >= rows) {
+			throw new IndexOutOfBoundsException("Cell (" + column + ", " + row + ") out of bounds " + columns + " × " + rows);
+		}
+	}
+
+	// Object Methods
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + String.format("[%d × %d, box=%s]", columns, rows, box);
+	}
+}
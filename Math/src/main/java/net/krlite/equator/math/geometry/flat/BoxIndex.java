@@ -0,0 +1,341 @@
+package net.krlite.equator.math.geometry.flat;
+
+import net.krlite.equator.base.Exceptions;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * <h1>BoxIndex</h1>
+ * A spatial index of values placed by {@link Box}es, for hit-testing and overlap queries without iterating every
+ * value. For example, finding the widget under the mouse is a
+ * {@link #topmost(Vector)} query.
+ * <br />
+ * The index is a uniform grid: every box is registered in the cells it covers, so a point query only tests the
+ * boxes of one cell. The cell size fits the boxes best when it is about their typical size, which
+ * {@link #rebuild(Collection, Function, ToDoubleFunction)} picks on its own. Boxes covering too many cells are kept
+ * aside and tested on every query instead.
+ * <br />
+ * Points on the edges of a box are inside it. A box index is not thread-safe.
+ * @param <T>	the type of the indexed values, compared by {@link Object#equals(Object)}.
+ */
+public class BoxIndex<T> {
+	private static final class Entry<T> {
+		private final T value;
+		private Box box;
+		private double z;
+		private long order;
+		private int visited;
+
+		private Entry(T value) {
+			this.value = value;
+		}
+	}
+
+	public static final double DEFAULT_CELL_SIZE = 32;
+
+	/**
+	 * The number of cells a box may cover before it is kept aside.
+	 */
+	private static final int MAX_CELLS_PER_BOX = 256;
+
+	// Constructors
+
+	/**
+	 * @param cellSize	the side length of the grid cells.
+	 */
+	public BoxIndex(double cellSize) {
+		this.cellSize = checkCellSize(cellSize);
+	}
+
+	public BoxIndex() {
+		this(DEFAULT_CELL_SIZE);
+	}
+
+	// Fields
+
+	private final Map<T, Entry<T>> entries = new HashMap<>();
+	private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+	private final List<Entry<T>> oversized = new ArrayList<>();
+	private double cellSize;
+	private long order;
+	private int query;
+
+	// Accessors
+
+	public double cellSize() {
+		return cellSize;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	public boolean contains(T value) {
+		return entries.containsKey(value);
+	}
+
+	public @Nullable Box box(T value) {
+		Entry<T> entry = entries.get(value);
+		return entry == null ? null : entry.box;
+	}
+
+	// Mutators
+
+	/**
+	 * Inserts a value, or moves it if it is already indexed. Among overlapping boxes of the same {@code z}, the one
+	 * inserted or updated last is the topmost, the same as the one rendered last.
+	 * @param value	the value.
+	 * @param box	the box of the value.
+	 * @param z		the depth of the value, a greater {@code z} is on top.
+	 */
+	public void insert(T value, Box box, double z) {
+		Entry<T> entry = entries.get(value);
+
+		if (entry == null) {
+			entry = new Entry<>(value);
+			entries.put(value, entry);
+		}
+		else unlink(entry);
+
+		entry.box = box;
+		entry.z = z;
+		entry.order = order++;
+		link(entry);
+	}
+
+	public void insert(T value, Box box) {
+		insert(value, box, 0);
+	}
+
+	/**
+	 * Moves an indexed value, keeping its {@code z}. Inserts it at {@code z = 0} if it is not indexed yet.
+	 */
+	public void update(T value, Box box) {
+		Entry<T> entry = entries.get(value);
+		insert(value, box, entry == null ? 0 : entry.z);
+	}
+
+	public void update(T value, Box box, double z) {
+		insert(value, box, z);
+	}
+
+	public boolean remove(T value) {
+		Entry<T> entry = entries.remove(value);
+		if (entry == null) return false;
+
+		unlink(entry);
+		return true;
+	}
+
+	public void clear() {
+		entries.clear();
+		cells.clear();
+		oversized.clear();
+	}
+
+	/**
+	 * Replaces the whole index with the given values, and picks the cell size from their boxes. This is faster than
+	 * removing and inserting the values one by one when most of them change, such as when a screen is resized.
+	 * @param values	the values, in the order they are rendered.
+	 * @param box		a function that gives the box of a value.
+	 * @param z			a function that gives the {@code z} of a value.
+	 */
+	public void rebuild(Collection<? extends T> values, Function<? super T, Box> box, ToDoubleFunction<? super T> z) {
+		clear();
+
+		List<Entry<T>> rebuilt = new ArrayList<>(values.size());
+
+		for (T value : values) {
+			Entry<T> entry = new Entry<>(value);
+			entry.box = box.apply(value);
+			entry.z = z.applyAsDouble(value);
+			entry.order = order++;
+
+			if (entries.put(value, entry) != null) {
+				// A repeated value keeps only its last box
+				rebuilt.removeIf(previous -> previous.value.equals(value));
+			}
+
+			rebuilt.add(entry);
+		}
+
+		if (!rebuilt.isEmpty()) {
+			// The median size, so that a few huge boxes do not coarsen the grid for all the others
+			double[] sizes = rebuilt.stream().mapToDouble(entry -> Math.max(entry.box.w(), entry.box.h())).sorted().toArray();
+			cellSize = Math.max(1, sizes[sizes.length / 2]);
+		}
+
+		for (Entry<T> entry : rebuilt) {
+			link(entry);
+		}
+	}
+
+	public void rebuild(Collection<? extends T> values, Function<? super T, Box> box) {
+		rebuild(values, box, value -> 0);
+	}
+
+	// Operations
+
+	/**
+	 * @return	the values whose boxes contain the given point, in no particular order.
+	 */
+	public List<T> query(double x, double y) {
+		List<T> result = new ArrayList<>();
+
+		for (Entry<T> entry : cellAt(x, y)) {
+			if (entry.box.contains(x, y)) result.add(entry.value);
+		}
+
+		for (Entry<T> entry : oversized) {
+			if (entry.box.contains(x, y)) result.add(entry.value);
+		}
+
+		return result;
+	}
+
+	public List<T> query(Vector point) {
+		return query(point.x(), point.y());
+	}
+
+	/**
+	 * @return	the values whose boxes overlap the given range, edges included, in no particular order.
+	 */
+	public List<T> query(Box range) {
+		List<T> result = new ArrayList<>();
+		int stamp = ++query;
+
+		// Walking every cell is cheaper than walking a range much larger than the occupied cells
+		Iterable<List<Entry<T>>> candidates = cellCount(range) > cells.size() ? cells.values() : cellsIn(range);
+
+		for (List<Entry<T>> cell : candidates) {
+			for (Entry<T> entry : cell) {
+				if (entry.visited != stamp && overlaps(entry.box, range)) {
+					entry.visited = stamp;
+					result.add(entry.value);
+				}
+			}
+		}
+
+		for (Entry<T> entry : oversized) {
+			if (overlaps(entry.box, range)) result.add(entry.value);
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return	the value on top among those whose boxes contain the given point, or {@code null} if there is none.
+	 */
+	public @Nullable T topmost(double x, double y) {
+		Entry<T> topmost = null;
+
+		for (Entry<T> entry : cellAt(x, y)) {
+			if (entry.box.contains(x, y) && isAbove(entry, topmost)) topmost = entry;
+		}
+
+		for (Entry<T> entry : oversized) {
+			if (entry.box.contains(x, y) && isAbove(entry, topmost)) topmost = entry;
+		}
+
+		return topmost == null ? null : topmost.value;
+	}
+
+	public @Nullable T topmost(Vector point) {
+		return topmost(point.x(), point.y());
+	}
+
+	private void link(Entry<T> entry) {
+		if (cellCount(entry.box) > MAX_CELLS_PER_BOX) {
+			oversized.add(entry);
+			return;
+		}
+
+		for (long column = cellOf(entry.box.left()); column <= cellOf(entry.box.right()); column++) {
+			for (long row = cellOf(entry.box.top()); row <= cellOf(entry.box.bottom()); row++) {
+				cells.computeIfAbsent(key(column, row), key -> new ArrayList<>()).add(entry);
+			}
+		}
+	}
+
+	private void unlink(Entry<T> entry) {
+		if (cellCount(entry.box) > MAX_CELLS_PER_BOX) {
+			oversized.remove(entry);
+			return;
+		}
+
+		for (long column = cellOf(entry.box.left()); column <= cellOf(entry.box.right()); column++) {
+			for (long row = cellOf(entry.box.top()); row <= cellOf(entry.box.bottom()); row++) {
+				long key = key(column, row);
+				List<Entry<T>> cell = cells.get(key);
+
+				if (cell != null && cell.remove(entry) && cell.isEmpty()) {
+					cells.remove(key);
+				}
+			}
+		}
+	}
+
+	private List<Entry<T>> cellAt(double x, double y) {
+		return cells.getOrDefault(key(cellOf(x), cellOf(y)), List.of());
+	}
+
+	private List<List<Entry<T>>> cellsIn(Box range) {
+		List<List<Entry<T>>> found = new ArrayList<>();
+
+		for (long column = cellOf(range.left()); column <= cellOf(range.right()); column++) {
+			for (long row = cellOf(range.top()); row <= cellOf(range.bottom()); row++) {
+				List<Entry<T>> cell = cells.get(key(column, row));
+				if (cell != null) found.add(cell);
+			}
+		}
+
+		return found;
+	}
+
+	private long cellCount(Box box) {
+		long columns = cellOf(box.right()) - cellOf(box.left()) + 1, rows = cellOf(box.bottom()) - cellOf(box.top()) + 1;
+
+		// Each span takes up to 33 bits, so the product of two huge spans overflows and is saturated instead
+		try {
+			return Math.multiplyExact(columns, rows);
+		} catch (ArithmeticException overflow) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	private long cellOf(double coordinate) {
+		// Clamped so that far-off or infinite coordinates still map to a valid cell
+		return (long) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, Math.floor(coordinate / cellSize)));
+	}
+
+	private static long key(long column, long row) {
+		return (column << 32) | (row & 0xFFFFFFFFL);
+	}
+
+	private static boolean overlaps(Box box, Box range) {
+		return box.left() <= range.right() && range.left() <= box.right() && box.top() <= range.bottom() && range.top() <= box.bottom();
+	}
+
+	private static <T> boolean isAbove(Entry<T> entry, @Nullable Entry<T> another) {
+		return another == null || entry.z > another.z || (entry.z == another.z && entry.order > another.order);
+	}
+
+	private static double checkCellSize(double cellSize) {
+		if (!(cellSize > 0) || Double.isInfinite(cellSize)) {
+			throw new Exceptions.CellSizeMustBePositiveException(cellSize);
+		}
+
+		return cellSize;
+	}
+}
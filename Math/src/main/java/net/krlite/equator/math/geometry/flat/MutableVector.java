@@ -0,0 +1,155 @@
+package net.krlite.equator.math.geometry.flat;
+
+import net.krlite.equator.math.algebra.Theory;
+import net.krlite.equator.render.frame.FrameInfo;
+
+/**
+ * <h1>MutableVector</h1>
+ * A scratch {@link Vector} whose operations modify it in place and return itself, so that a chain of operations
+ * inside a render or hit-test loop allocates nothing. Convert it back with {@link #toVector()} once the result
+ * needs to be kept.
+ * <br />
+ * A mutable vector is not thread-safe, and should be owned by the code that reuses it rather than shared.
+ * @see Vector
+ * @see MutableBox
+ */
+public final class MutableVector {
+	// Constructors
+
+	public MutableVector(double x, double y) {
+		set(x, y);
+	}
+
+	public MutableVector(Vector vector) {
+		set(vector);
+	}
+
+	public MutableVector() {
+		this(0, 0);
+	}
+
+	// Fields
+
+	private double x, y;
+
+	// Accessors
+
+	public double x() {
+		return x;
+	}
+
+	public double y() {
+		return y;
+	}
+
+	public double magnitude() {
+		return Math.sqrt(x * x + y * y);
+	}
+
+	// Mutators
+
+	public MutableVector x(double x) {
+		this.x = x;
+		return this;
+	}
+
+	public MutableVector y(double y) {
+		this.y = y;
+		return this;
+	}
+
+	public MutableVector set(double x, double y) {
+		this.x = x;
+		this.y = y;
+		return this;
+	}
+
+	public MutableVector set(Vector vector) {
+		return set(vector.x(), vector.y());
+	}
+
+	public MutableVector set(MutableVector another) {
+		return set(another.x(), another.y());
+	}
+
+	// Operations
+
+	public MutableVector add(double x, double y) {
+		return set(this.x + x, this.y + y);
+	}
+
+	public MutableVector add(Vector another) {
+		return add(another.x(), another.y());
+	}
+
+	public MutableVector subtract(double x, double y) {
+		return add(-x, -y);
+	}
+
+	public MutableVector subtract(Vector another) {
+		return subtract(another.x(), another.y());
+	}
+
+	public MutableVector scale(double xScalar, double yScalar) {
+		return set(x * xScalar, y * yScalar);
+	}
+
+	public MutableVector scale(double scalar) {
+		return scale(scalar, scalar);
+	}
+
+	public MutableVector negate() {
+		return scale(-1);
+	}
+
+	public MutableVector rotate(double angle) {
+		double cos = Theory.cos(angle), sin = Theory.sin(angle);
+		return set(x * cos - y * sin, x * sin + y * cos);
+	}
+
+	/**
+	 * @see Vector#magnitude(double)
+	 */
+	public MutableVector magnitude(double magnitude) {
+		double current = magnitude();
+		return current == 0 ? set(magnitude, 0) : scale(magnitude / current);
+	}
+
+	/**
+	 * Normalizes the vector, turning the zero vector into {@code (1, 0)} the same as {@link Vector#normalize()}.
+	 */
+	public MutableVector normalize() {
+		return magnitude(1);
+	}
+
+	public MutableVector interpolate(Vector another, double factor) {
+		return set(x + (another.x() - x) * factor, y + (another.y() - y) * factor);
+	}
+
+	public MutableVector fitToScreen() {
+		return FrameInfo.Convertor.scaledToScreen(this);
+	}
+
+	public MutableVector fitToOpenGL() {
+		return FrameInfo.Convertor.scaledToOpenGL(this);
+	}
+
+	public MutableVector fitFromScreen() {
+		return FrameInfo.Convertor.screenToScaled(this);
+	}
+
+	public MutableVector fitFromOpenGL() {
+		return FrameInfo.Convertor.openGLToScaled(this);
+	}
+
+	public Vector toVector() {
+		return Vector.fromCartesian(x, y);
+	}
+
+	// Object Methods
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + String.format("(%f, %f)", x, y);
+	}
+}
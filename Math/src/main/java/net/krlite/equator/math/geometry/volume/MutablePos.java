@@ -0,0 +1,232 @@
+package net.krlite.equator.math.geometry.volume;
+
+import net.krlite.equator.math.algebra.MutableQuaternion;
+import net.krlite.equator.math.algebra.Quaternion;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <h1>MutablePos</h1>
+ * A scratch {@link Pos} whose operations modify it in place and return itself, so that rotating or offsetting many
+ * positions inside a render loop allocates nothing. Every operation gives the same result as its counterpart in
+ * {@link Pos}. Convert it back with {@link #toPos()} once the result needs to be kept.
+ * <br />
+ * A mutable position is not thread-safe, and should be owned by the code that reuses it rather than shared.
+ * @see Pos
+ * @see MutableQuaternion
+ */
+public final class MutablePos {
+	// Constructors
+
+	public MutablePos(@Nullable RegistryKey<World> dimension, double x, double y, double z) {
+		this.dimension = dimension;
+		set(x, y, z);
+	}
+
+	public MutablePos(double x, double y, double z) {
+		this(null, x, y, z);
+	}
+
+	public MutablePos(Pos pos) {
+		this(pos.dimension(), pos.x(), pos.y(), pos.z());
+	}
+
+	public MutablePos() {
+		this(0, 0, 0);
+	}
+
+	// Fields
+
+	private @Nullable RegistryKey<World> dimension;
+	private double x, y, z;
+
+	// Accessors
+
+	public @Nullable RegistryKey<World> dimension() {
+		return dimension;
+	}
+
+	public double x() {
+		return x;
+	}
+
+	public double y() {
+		return y;
+	}
+
+	public double z() {
+		return z;
+	}
+
+	// Mutators
+
+	public MutablePos dimension(@Nullable RegistryKey<World> dimension) {
+		this.dimension = dimension;
+		return this;
+	}
+
+	public MutablePos x(double x) {
+		this.x = x;
+		return this;
+	}
+
+	public MutablePos y(double y) {
+		this.y = y;
+		return this;
+	}
+
+	public MutablePos z(double z) {
+		this.z = z;
+		return this;
+	}
+
+	/**
+	 * Sets the coordinates, keeping the dimension.
+	 */
+	public MutablePos set(double x, double y, double z) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		return this;
+	}
+
+	public MutablePos set(Pos pos) {
+		return dimension(pos.dimension()).set(pos.x(), pos.y(), pos.z());
+	}
+
+	public MutablePos set(MutablePos another) {
+		return dimension(another.dimension()).set(another.x(), another.y(), another.z());
+	}
+
+	// Properties
+
+	public double magnitude() {
+		return Math.sqrt(x * x + y * y + z * z);
+	}
+
+	public double dot(double x, double y, double z) {
+		return this.x * x + this.y * y + this.z * z;
+	}
+
+	public double dot(Pos another) {
+		return dot(another.x(), another.y(), another.z());
+	}
+
+	public double distanceTo(double x, double y, double z) {
+		double dx = this.x - x, dy = this.y - y, dz = this.z - z;
+		return Math.sqrt(dx * dx + dy * dy + dz * dz);
+	}
+
+	public double distanceTo(Pos another) {
+		return distanceTo(another.x(), another.y(), another.z());
+	}
+
+	// Operations
+
+	public MutablePos scale(double xScalar, double yScalar, double zScalar) {
+		return set(x * xScalar, y * yScalar, z * zScalar);
+	}
+
+	public MutablePos scale(double scalar) {
+		return scale(scalar, scalar, scalar);
+	}
+
+	public MutablePos add(double x, double y, double z) {
+		return set(this.x + x, this.y + y, this.z + z);
+	}
+
+	public MutablePos add(Pos another) {
+		return add(another.x(), another.y(), another.z());
+	}
+
+	public MutablePos add(MutablePos another) {
+		return add(another.x(), another.y(), another.z());
+	}
+
+	public MutablePos subtract(double x, double y, double z) {
+		return set(this.x - x, this.y - y, this.z - z);
+	}
+
+	public MutablePos subtract(Pos another) {
+		return subtract(another.x(), another.y(), another.z());
+	}
+
+	public MutablePos subtract(MutablePos another) {
+		return subtract(another.x(), another.y(), another.z());
+	}
+
+	public MutablePos negate() {
+		return scale(-1);
+	}
+
+	/**
+	 * @see Pos#magnitude(double)
+	 */
+	public MutablePos magnitude(double magnitude) {
+		return scale(magnitude / magnitude());
+	}
+
+	public MutablePos normalize() {
+		return magnitude(1);
+	}
+
+	public MutablePos min(Pos another) {
+		return set(Math.min(x, another.x()), Math.min(y, another.y()), Math.min(z, another.z()));
+	}
+
+	public MutablePos max(Pos another) {
+		return set(Math.max(x, another.x()), Math.max(y, another.y()), Math.max(z, another.z()));
+	}
+
+	/**
+	 * @see Pos#interpolate(Pos, double)
+	 */
+	public MutablePos interpolate(Pos another, double factor) {
+		return add((another.x() - x) * factor, (another.y() - y) * factor, (another.z() - z) * factor);
+	}
+
+	/**
+	 * Rotates the position by a quaternion, which is not required to be normalized.
+	 * @see Pos#rotate(Quaternion)
+	 */
+	public MutablePos rotate(double i, double j, double k, double w) {
+		double x = this.x, y = this.y, z = this.z, w2 = w * w, i2 = i * i, j2 = j * j, k2 = k * k;
+
+		return set(
+				x * (w2 + i2 - j2 - k2) + y * 2 * (i * j - w * k) + z * 2 * (i * k + w * j),
+				x * 2 * (i * j + w * k) + y * (w2 - i2 + j2 - k2) + z * 2 * (j * k - w * i),
+				x * 2 * (i * k - w * j) + y * 2 * (j * k + w * i) + z * (w2 - i2 - j2 + k2)
+		);
+	}
+
+	public MutablePos rotate(Quaternion quaternion) {
+		return rotate(quaternion.x(), quaternion.y(), quaternion.z(), quaternion.w());
+	}
+
+	public MutablePos rotate(MutableQuaternion quaternion) {
+		return rotate(quaternion.x(), quaternion.y(), quaternion.z(), quaternion.w());
+	}
+
+	/**
+	 * @see Pos#rotateAround(Pos, Quaternion)
+	 */
+	public MutablePos rotateAround(Pos pivot, Quaternion quaternion) {
+		return subtract(pivot).rotate(quaternion).add(pivot);
+	}
+
+	public MutablePos rotateAround(Pos pivot, MutableQuaternion quaternion) {
+		return subtract(pivot).rotate(quaternion).add(pivot);
+	}
+
+	public Pos toPos() {
+		return new Pos(dimension, x, y, z);
+	}
+
+	// Object Methods
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + String.format("[x=%f, y=%f, z=%f]", x, y, z);
+	}
+}
@@ -0,0 +1,280 @@
+package net.krlite.equator.math.geometry.volume;
+
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * <h1>PosIndex</h1>
+ * A spatial hash of values placed at {@link Pos positions}, such as waypoints or minimap markers, answering "what is
+ * near here" without scanning every value. Values are partitioned by {@link Pos#dimension() dimension}, then hashed
+ * into cells aligned with the {@code 16 × 16 × 16} chunk sections, so a query only visits the cells it overlaps.
+ * <br />
+ * Each value is placed at most once. Placing it again {@link #put(Object, Pos) moves} it, which only touches the
+ * hash when it leaves its cell. Positions without a dimension form their own partition, and are only found by
+ * queries without a dimension.
+ * <br />
+ * A position index is not thread-safe.
+ * @param <T>	the type of the values.
+ */
+public final class PosIndex<T> {
+	/**
+	 * Visits a value found by a query.
+	 */
+	@FunctionalInterface
+	public interface Visitor<T> {
+		void visit(T value, Pos pos);
+	}
+
+	private static final class Entry<T> {
+		private Entry(T value, Pos pos, long cell) {
+			this.value = value;
+			this.pos = pos;
+			this.cell = cell;
+		}
+
+		private final T value;
+		private Pos pos;
+		private long cell;
+		private int slot;
+	}
+
+	// Constants
+
+	/**
+	 * The cells are {@code 2^CELL_SHIFT = 16} blocks wide, the same as chunk sections.
+	 */
+	public static final int CELL_SHIFT = 4;
+
+	// Constructors
+
+	public PosIndex() {
+	}
+
+	// Fields
+
+	private final Map<T, Entry<T>> entries = new HashMap<>();
+	private final Map<RegistryKey<World>, Map<Long, List<Entry<T>>>> partitions = new HashMap<>();
+
+	// Accessors
+
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return	the position of the value, or {@code null} if it is not placed.
+	 */
+	public @Nullable Pos get(T value) {
+		Entry<T> entry = entries.get(value);
+		return entry == null ? null : entry.pos;
+	}
+
+	// Properties
+
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	public boolean contains(T value) {
+		return entries.containsKey(value);
+	}
+
+	// Mutators
+
+	/**
+	 * Places a value at a position, or moves it there if it is already placed.
+	 * @return	the previous position of the value, or {@code null} if it was not placed.
+	 */
+	public @Nullable Pos put(T value, Pos pos) {
+		long cell = cell(pos.x(), pos.y(), pos.z());
+		Entry<T> entry = entries.get(value);
+
+		if (entry == null) {
+			entry = new Entry<>(value, pos, cell);
+			entries.put(value, entry);
+			link(entry);
+			return null;
+		}
+
+		Pos previous = entry.pos;
+
+		if (entry.cell == cell && previous.dimension() == pos.dimension()) {
+			entry.pos = pos;
+		}
+		else {
+			unlink(entry);
+			entry.pos = pos;
+			entry.cell = cell;
+			link(entry);
+		}
+
+		return previous;
+	}
+
+	/**
+	 * @return	the position the value was removed from, or {@code null} if it was not placed.
+	 */
+	public @Nullable Pos remove(T value) {
+		Entry<T> entry = entries.remove(value);
+		if (entry == null) return null;
+
+		unlink(entry);
+		return entry.pos;
+	}
+
+	public void clear() {
+		entries.clear();
+		partitions.clear();
+	}
+
+	// Operations
+
+	/**
+	 * Visits the values within a distance of a position, in the dimension of the position.
+	 * @param center	the position to measure from.
+	 * @param radius	the inclusive distance.
+	 * @param visitor	the visitor of the values found, in no particular order.
+	 */
+	public void forEachInRadius(Pos center, double radius, Visitor<? super T> visitor) {
+		double radiusSquared = radius * radius;
+
+		forEachInCells(center.dimension(),
+				center.x() - radius, center.y() - radius, center.z() - radius,
+				center.x() + radius, center.y() + radius, center.z() + radius,
+				entry -> {
+					double dx = entry.pos.x() - center.x(), dy = entry.pos.y() - center.y(), dz = entry.pos.z() - center.z();
+					if (dx * dx + dy * dy + dz * dz <= radiusSquared) visitor.visit(entry.value, entry.pos);
+				});
+	}
+
+	/**
+	 * @see #forEachInRadius(Pos, double, Visitor)
+	 */
+	public List<T> inRadius(Pos center, double radius) {
+		ArrayList<T> found = new ArrayList<>();
+		forEachInRadius(center, radius, (value, pos) -> found.add(value));
+		return found;
+	}
+
+	/**
+	 * Visits the values inside an axis-aligned box, in the dimension of its first corner.
+	 * @param min		the corner with the smallest coordinates.
+	 * @param max		the corner with the largest coordinates.
+	 * @param visitor	the visitor of the values found, in no particular order.
+	 */
+	public void forEachInBox(Pos min, Pos max, Visitor<? super T> visitor) {
+		forEachInCells(min.dimension(), min.x(), min.y(), min.z(), max.x(), max.y(), max.z(), entry -> {
+			Pos pos = entry.pos;
+
+			if (pos.x() >= min.x() && pos.x() <= max.x()
+						&& pos.y() >= min.y() && pos.y() <= max.y()
+						&& pos.z() >= min.z() && pos.z() <= max.z()) {
+				visitor.visit(entry.value, pos);
+			}
+		});
+	}
+
+	/**
+	 * @see #forEachInBox(Pos, Pos, Visitor)
+	 */
+	public List<T> inBox(Pos min, Pos max) {
+		ArrayList<T> found = new ArrayList<>();
+		forEachInBox(min, max, (value, pos) -> found.add(value));
+		return found;
+	}
+
+	private void forEachInCells(
+			@Nullable RegistryKey<World> dimension,
+			double xMin, double yMin, double zMin, double xMax, double yMax, double zMax,
+			Consumer<Entry<T>> consumer
+	) {
+		Map<Long, List<Entry<T>>> cells = partitions.get(dimension);
+		if (cells == null || xMin > xMax || yMin > yMax || zMin > zMax) return;
+
+		int
+				cxMin = coordinate(xMin), cyMin = coordinate(yMin), czMin = coordinate(zMin),
+				cxMax = coordinate(xMax), cyMax = coordinate(yMax), czMax = coordinate(zMax);
+		long xSpan = (long) cxMax - cxMin + 1, ySpan = (long) cyMax - cyMin + 1, zSpan = (long) czMax - czMin + 1;
+
+		// A huge query overlaps more cells than are occupied, so scanning the occupied ones is cheaper.
+		// Each span is checked before multiplying, so that the product cannot overflow
+		if (xSpan > cells.size() || ySpan > cells.size() || zSpan > cells.size()
+					|| xSpan * ySpan > cells.size() || xSpan * ySpan * zSpan > cells.size()) {
+			for (List<Entry<T>> cell : cells.values()) {
+				for (int i = 0; i < cell.size(); i++) {
+					consumer.accept(cell.get(i));
+				}
+			}
+			return;
+		}
+
+		for (int cx = cxMin; cx <= cxMax; cx++) {
+			for (int cy = cyMin; cy <= cyMax; cy++) {
+				for (int cz = czMin; cz <= czMax; cz++) {
+					List<Entry<T>> cell = cells.get(pack(cx, cy, cz));
+					if (cell == null) continue;
+
+					for (int i = 0; i < cell.size(); i++) {
+						consumer.accept(cell.get(i));
+					}
+				}
+			}
+		}
+	}
+
+	private void link(Entry<T> entry) {
+		List<Entry<T>> cell = partitions
+									  .computeIfAbsent(entry.pos.dimension(), dimension -> new HashMap<>())
+									  .computeIfAbsent(entry.cell, key -> new ArrayList<>());
+
+		entry.slot = cell.size();
+		cell.add(entry);
+	}
+
+	private void unlink(Entry<T> entry) {
+		Map<Long, List<Entry<T>>> cells = partitions.get(entry.pos.dimension());
+		List<Entry<T>> cell = cells.get(entry.cell);
+
+		// Swaps the last entry into the freed slot, so that removing is constant-time
+		Entry<T> last = cell.remove(cell.size() - 1);
+		if (last != entry) {
+			cell.set(entry.slot, last);
+			last.slot = entry.slot;
+		}
+
+		if (cell.isEmpty()) {
+			cells.remove(entry.cell);
+			if (cells.isEmpty()) partitions.remove(entry.pos.dimension());
+		}
+	}
+
+	private static int coordinate(double value) {
+		return (int) Math.floor(value) >> CELL_SHIFT;
+	}
+
+	private static long cell(double x, double y, double z) {
+		return pack(coordinate(x), coordinate(y), coordinate(z));
+	}
+
+	/**
+	 * Packs the cell coordinates the same way as chunk section positions: {@code 22} bits for {@code x} and
+	 * {@code z}, and {@code 20} bits for {@code y}.
+	 */
+	private static long pack(int x, int y, int z) {
+		return ((long) x & 0x3FFFFF) << 42 | ((long) y & 0xFFFFF) | ((long) z & 0x3FFFFF) << 20;
+	}
+
+	// Object Methods
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[size=" + size() + ", dimensions=" + partitions.size() + "]";
+	}
+}
@@ -2,7 +2,42 @@ package net.krlite.equator.math.logic.base;
 
 @FunctionalInterface
 public interface Transform extends Transformative<Transform> {
-	Transform NONE = origin -> origin, NEGATE = origin -> -origin;
+	/**
+	 * A transform of the form {@code origin · scale + offset}. Chaining linear transforms folds them into a single
+	 * one instead of stacking lambdas, so a chain of shifts, scales and negations of any length costs one
+	 * multiply-add.
+	 * @param scale		the factor to multiply by.
+	 * @param offset	the offset to add after multiplying.
+	 */
+	record Linear(double scale, double offset) implements Transform {
+		@Override
+		public double value(double origin) {
+			return origin * scale() + offset();
+		}
+
+		@Override
+		public Transform andThen(Transform after) {
+			if (after instanceof Linear linear) {
+				return new Linear(scale() * linear.scale(), offset() * linear.scale() + linear.offset());
+			}
+
+			return isIdentity() ? after : Transform.super.andThen(after);
+		}
+
+		public boolean isIdentity() {
+			return scale() == 1 && offset() == 0;
+		}
+	}
+
+	Transform NONE = new Linear(1, 0), NEGATE = new Linear(-1, 0);
+
+	static Transform shift(double offset) {
+		return new Linear(1, offset);
+	}
+
+	static Transform scale(double scalar) {
+		return new Linear(scalar, 0);
+	}
 
 	double value(double origin);
 
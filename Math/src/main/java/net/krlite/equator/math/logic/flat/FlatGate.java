@@ -3,6 +3,9 @@ package net.krlite.equator.math.logic.flat;
 import net.krlite.equator.math.logic.base.Gate;
 import net.krlite.equator.math.logic.base.Gated;
 
+import java.util.BitSet;
+import java.util.Objects;
+
 public record FlatGate(Gate x, Gate y) implements Gated<FlatGate> {
 	// Constants
 
@@ -35,6 +38,16 @@ public record FlatGate(Gate x, Gate y) implements Gated<FlatGate> {
 		return new FlatGate(x(), y);
 	}
 
+	// Properties
+
+	/**
+	 * @return	{@code true -} if the gates of both axes are {@link Gate.Intervals compiled}.
+	 * <br />	{@code false -} otherwise.
+	 */
+	public boolean isCompiled() {
+		return x().isCompiled() && y().isCompiled();
+	}
+
 	// Operations
 
 	public boolean x(double x) {
@@ -49,6 +62,40 @@ public record FlatGate(Gate x, Gate y) implements Gated<FlatGate> {
 		return x(x) && y(y);
 	}
 
+	/**
+	 * Passes every point in a batch, where the {@code i}-th point is {@code (x[i], y[i])}.
+	 * @param x			the x-coordinates.
+	 * @param y			the y-coordinates.
+	 * @param out		the results, {@code out[i]} is whether the {@code i}-th point passes.
+	 * @param offset	the index of the first point.
+	 * @param length	the number of points.
+	 */
+	public void passAll(double[] x, double[] y, boolean[] out, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, y.length);
+		x().passAll(x, out, offset, length);
+
+		Gate yGate = y();
+		for (int i = offset; i < offset + length; i++) {
+			out[i] = out[i] && yGate.pass(y[i]);
+		}
+	}
+
+	public void passAll(double[] x, double[] y, boolean[] out) {
+		passAll(x, y, out, 0, x.length);
+	}
+
+	/**
+	 * Passes every point in a batch, setting bit {@code i} of {@code out} if the {@code i}-th point passes and
+	 * clearing it otherwise.
+	 */
+	public void passAll(double[] x, double[] y, BitSet out) {
+		Objects.checkFromIndexSize(0, x.length, y.length);
+
+		for (int i = 0; i < x.length; i++) {
+			out.set(i, pass(x[i], y[i]));
+		}
+	}
+
 	// Interface implementations
 
 	@Override
@@ -1,7 +1,10 @@
 package net.krlite.equator.math.logic.flat;
 
+import net.krlite.equator.math.algebra.Affine2D;
+import net.krlite.equator.math.geometry.flat.Vector;
 import net.krlite.equator.math.logic.base.Transform;
 import net.krlite.equator.math.logic.base.Transformative;
+import org.jetbrains.annotations.Nullable;
 
 public record FlatTransform(Transform x, Transform y) implements Transformative<FlatTransform> {
 	// Constants
@@ -11,7 +14,11 @@ public record FlatTransform(Transform x, Transform y) implements Transformative<
 	// Static Constructors
 
 	public static FlatTransform shift(double x, double y) {
-		return new FlatTransform(xOrigin -> xOrigin + x, yOrigin -> yOrigin + y);
+		return new FlatTransform(Transform.shift(x), Transform.shift(y));
+	}
+
+	public static FlatTransform scale(double x, double y) {
+		return new FlatTransform(Transform.scale(x), Transform.scale(y));
 	}
 
 	// Constructors
@@ -41,6 +48,17 @@ public record FlatTransform(Transform x, Transform y) implements Transformative<
 		return new FlatTransform(x(), y);
 	}
 
+	// Properties
+
+	/**
+	 * @return	{@code true -} if both axes are {@link Transform.Linear linear}, so that this transform can be
+	 * {@link #compile() compiled} into an {@link Affine2D}.
+	 * <br />	{@code false -} otherwise.
+	 */
+	public boolean isCompilable() {
+		return x() instanceof Transform.Linear && y() instanceof Transform.Linear;
+	}
+
 	// Operations
 
 	public double x(double x) {
@@ -51,6 +69,25 @@ public record FlatTransform(Transform x, Transform y) implements Transformative<
 		return y().value(y);
 	}
 
+	public Vector apply(Vector vector) {
+		return Vector.fromCartesian(x(vector.x()), y(vector.y()));
+	}
+
+	/**
+	 * Compiles this transform into an {@link Affine2D}. Transforms chained only from {@link #shift(double, double)},
+	 * {@link #scale(double, double)}, {@link #NEGATE} and other {@link Transform.Linear linear} transforms are
+	 * compilable.
+	 * @return	the equivalent {@link Affine2D}, or {@code null} if this transform is not
+	 * {@link #isCompilable() compilable}.
+	 */
+	public @Nullable Affine2D compile() {
+		if (x() instanceof Transform.Linear x && y() instanceof Transform.Linear y) {
+			return new Affine2D(x.scale(), 0, 0, y.scale(), x.offset(), y.offset());
+		}
+
+		return null;
+	}
+
 	// Interface Implementations
 
 	@Override
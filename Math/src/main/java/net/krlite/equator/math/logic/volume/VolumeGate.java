@@ -3,6 +3,9 @@ package net.krlite.equator.math.logic.volume;
 import net.krlite.equator.math.logic.base.Gate;
 import net.krlite.equator.math.logic.base.Gated;
 
+import java.util.BitSet;
+import java.util.Objects;
+
 public record VolumeGate(Gate x, Gate y, Gate z) implements Gated<VolumeGate> {
 	// Constants
 
@@ -44,6 +47,16 @@ public record VolumeGate(Gate x, Gate y, Gate z) implements Gated<VolumeGate> {
 		return new VolumeGate(x(), y(), z);
 	}
 
+	// Properties
+
+	/**
+	 * @return	{@code true -} if the gates of all axes are {@link Gate.Intervals compiled}.
+	 * <br />	{@code false -} otherwise.
+	 */
+	public boolean isCompiled() {
+		return x().isCompiled() && y().isCompiled() && z().isCompiled();
+	}
+
 	// Operations
 
 	public boolean x(double x) {
@@ -74,6 +87,43 @@ public record VolumeGate(Gate x, Gate y, Gate z) implements Gated<VolumeGate> {
 		return x(x) && y(y) && z(z);
 	}
 
+	/**
+	 * Passes every point in a batch, where the {@code i}-th point is {@code (x[i], y[i], z[i])}.
+	 * @param x			the x-coordinates.
+	 * @param y			the y-coordinates.
+	 * @param z			the z-coordinates.
+	 * @param out		the results, {@code out[i]} is whether the {@code i}-th point passes.
+	 * @param offset	the index of the first point.
+	 * @param length	the number of points.
+	 */
+	public void passAll(double[] x, double[] y, double[] z, boolean[] out, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, y.length);
+		Objects.checkFromIndexSize(offset, length, z.length);
+		x().passAll(x, out, offset, length);
+
+		Gate yGate = y(), zGate = z();
+		for (int i = offset; i < offset + length; i++) {
+			out[i] = out[i] && yGate.pass(y[i]) && zGate.pass(z[i]);
+		}
+	}
+
+	public void passAll(double[] x, double[] y, double[] z, boolean[] out) {
+		passAll(x, y, z, out, 0, x.length);
+	}
+
+	/**
+	 * Passes every point in a batch, setting bit {@code i} of {@code out} if the {@code i}-th point passes and
+	 * clearing it otherwise.
+	 */
+	public void passAll(double[] x, double[] y, double[] z, BitSet out) {
+		Objects.checkFromIndexSize(0, x.length, y.length);
+		Objects.checkFromIndexSize(0, x.length, z.length);
+
+		for (int i = 0; i < x.length; i++) {
+			out.set(i, pass(x[i], y[i], z[i]));
+		}
+	}
+
 	// Interface implementations
 
 	@Override
@@ -0,0 +1,120 @@
+package net.krlite.equator.math.algebra;
+
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Compares the cost of {@link Theory.Fast} against {@link Math}. Run through the {@code benchmark} task.
+ * <br />
+ * Each case sums a function over the same {@code 65536} random arguments, with the loop inside the case so that
+ * calling the case costs nothing per argument. The best of several rounds is reported, after a warm-up that lets
+ * the JIT compile every case.
+ */
+public final class TheoryFastBenchmark {
+	private static final int SIZE = 1 << 16, WARMUP = 200, ROUNDS = 10, ITERATIONS = 100;
+
+	/**
+	 * Keeps the sums alive, so that the JIT cannot drop the loops.
+	 */
+	private static double sink;
+
+	private record Case(String name, ToDoubleFunction<double[]> precise, ToDoubleFunction<double[]> fast, double[] arguments) {
+	}
+
+	public static void main(String[] args) {
+		Random random = new Random(0x5EED);
+		double[] angles = new double[SIZE], ys = new double[SIZE], xs = new double[SIZE], exponents = new double[SIZE], values = new double[SIZE];
+
+		for (int i = 0; i < SIZE; i++) {
+			angles[i] = (random.nextDouble() * 2 - 1) * 4 * Math.PI;
+			ys[i] = random.nextDouble() * 2 - 1;
+			xs[i] = random.nextDouble() * 2 - 1;
+			exponents[i] = (random.nextDouble() * 2 - 1) * 16;
+			values[i] = Math.scalb(1 + random.nextDouble(), random.nextInt(40) - 20);
+		}
+
+		Case[] cases = {
+				new Case("sin", arguments -> {
+					double sum = 0;
+					for (double angle : arguments) sum += Math.sin(angle);
+					return sum;
+				}, arguments -> {
+					double sum = 0;
+					for (double angle : arguments) sum += Theory.Fast.sin(angle);
+					return sum;
+				}, angles),
+				new Case("cos", arguments -> {
+					double sum = 0;
+					for (double angle : arguments) sum += Math.cos(angle);
+					return sum;
+				}, arguments -> {
+					double sum = 0;
+					for (double angle : arguments) sum += Theory.Fast.cos(angle);
+					return sum;
+				}, angles),
+				new Case("atan2", arguments -> {
+					double sum = 0;
+					for (int i = 0; i < arguments.length; i++) sum += Math.atan2(arguments[i], xs[i]);
+					return sum;
+				}, arguments -> {
+					double sum = 0;
+					for (int i = 0; i < arguments.length; i++) sum += Theory.Fast.atan2(arguments[i], xs[i]);
+					return sum;
+				}, ys),
+				new Case("exp2", arguments -> {
+					double sum = 0;
+					for (double exponent : arguments) sum += Math.pow(2, exponent);
+					return sum;
+				}, arguments -> {
+					double sum = 0;
+					for (double exponent : arguments) sum += Theory.Fast.exp2(exponent);
+					return sum;
+				}, exponents),
+				new Case("cbrt", arguments -> {
+					double sum = 0;
+					for (double value : arguments) sum += Math.cbrt(value);
+					return sum;
+				}, arguments -> {
+					double sum = 0;
+					for (double value : arguments) sum += Theory.Fast.cbrt(value);
+					return sum;
+				}, values)
+		};
+
+		for (Case benchmark : cases) {
+			measure(benchmark.precise(), benchmark.arguments(), WARMUP);
+			measure(benchmark.fast(), benchmark.arguments(), WARMUP);
+		}
+
+		System.out.printf("%-8s%14s%14s%10s%n", "", "Math ns/op", "Fast ns/op", "speedup");
+
+		for (Case benchmark : cases) {
+			double precise = best(benchmark.precise(), benchmark.arguments());
+			double fast = best(benchmark.fast(), benchmark.arguments());
+			System.out.printf("%-8s%14.2f%14.2f%9.1fx%n", benchmark.name(), precise, fast, precise / fast);
+		}
+	}
+
+	/**
+	 * @return	the nanoseconds per argument of the fastest round.
+	 */
+	private static double best(ToDoubleFunction<double[]> function, double[] arguments) {
+		double best = Double.POSITIVE_INFINITY;
+
+		for (int round = 0; round < ROUNDS; round++) {
+			best = Math.min(best, measure(function, arguments, ITERATIONS));
+		}
+
+		return best;
+	}
+
+	private static double measure(ToDoubleFunction<double[]> function, double[] arguments, int iterations) {
+		long start = System.nanoTime();
+
+		for (int i = 0; i < iterations; i++) {
+			sink += function.applyAsDouble(arguments);
+		}
+
+		return (double) (System.nanoTime() - start) / iterations / arguments.length;
+	}
+}
@@ -0,0 +1,160 @@
+package net.krlite.equator.math.algebra;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the error bounds documented on {@link Theory.Fast} against {@link Math}.
+ */
+class TheoryFastTest {
+	private static final int SAMPLES = 1_000_000;
+
+	private static final double SIN_BOUND = 3e-7, ATAN2_BOUND = 2e-6, EXP2_BOUND = 1e-8, CBRT_BOUND = 1e-14;
+	private static final float FLOAT_CBRT_BOUND = 1e-6F;
+
+	/**
+	 * Values that every function must handle like {@link Math} or within its bound: signed zeros, subnormals,
+	 * {@code ±2^600}, the extremes, {@code NaN} and the infinities.
+	 */
+	private static final double[] SPECIAL = {
+			0.0, -0.0, Double.MIN_VALUE, -Double.MIN_VALUE, 0x1p-1040, -0x1p-1040, Double.MIN_NORMAL, -Double.MIN_NORMAL,
+			0x1p600, -0x1p600, 0x1p-600, -0x1p-600, Double.MAX_VALUE, -Double.MAX_VALUE,
+			Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+	};
+
+	private static final float[] SPECIAL_FLOATS = {
+			0F, -0F, Float.MIN_VALUE, -Float.MIN_VALUE, 0x1p-140F, -0x1p-140F, Float.MIN_NORMAL, -Float.MIN_NORMAL,
+			0x1p100F, -0x1p100F, 0x1p-100F, -0x1p-100F, Float.MAX_VALUE, -Float.MAX_VALUE,
+			Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY
+	};
+
+	/**
+	 * @return	a value of a random sign whose magnitude is spread evenly over the exponents of the given range.
+	 */
+	private static double logUniform(Random random, int minExponent, int maxExponent) {
+		double magnitude = Math.scalb(1 + random.nextDouble(), minExponent + random.nextInt(maxExponent - minExponent));
+		return random.nextBoolean() ? magnitude : -magnitude;
+	}
+
+	private static void assertRelative(double expected, double actual, double bound, String message) {
+		assertTrue(Math.abs(actual - expected) <= bound * Math.abs(expected), message + ": " + actual + " != " + expected);
+	}
+
+	@Test
+	void sinAndCosStayWithinTheirBound() {
+		Random random = new Random(0x5EED);
+
+		for (int i = 0; i < SAMPLES; i++) {
+			double angle = i % 2 == 0 ? (random.nextDouble() * 2 - 1) * 4 * Math.PI : logUniform(random, -1074, 30);
+
+			assertEquals(Math.sin(angle), Theory.Fast.sin(angle), SIN_BOUND, "sin " + angle);
+			assertEquals(Math.cos(angle), Theory.Fast.cos(angle), SIN_BOUND, "cos " + angle);
+		}
+
+		for (double value : SPECIAL) {
+			assertEquals(Math.sin(value), Theory.Fast.sin(value), SIN_BOUND, "sin " + value);
+			assertEquals(Math.cos(value), Theory.Fast.cos(value), SIN_BOUND, "cos " + value);
+		}
+
+		assertEquals(-0.0, Theory.Fast.sin(-0.0));
+		assertEquals(1.0, Theory.Fast.cos(-0.0));
+	}
+
+	@Test
+	void atan2StaysWithinItsBound() {
+		Random random = new Random(0x5EED);
+
+		for (int i = 0; i < SAMPLES; i++) {
+			double y, x;
+
+			if (i % 2 == 0) {
+				y = random.nextDouble() * 2 - 1;
+				x = random.nextDouble() * 2 - 1;
+			}
+			else {
+				y = logUniform(random, -1074, 1023);
+				x = logUniform(random, -1074, 1023);
+			}
+
+			assertEquals(Math.atan2(y, x), Theory.Fast.atan2(y, x), ATAN2_BOUND, "atan2 " + y + ", " + x);
+		}
+
+		for (double y : SPECIAL) {
+			for (double x : SPECIAL) {
+				double expected = Math.atan2(y, x), actual = Theory.Fast.atan2(y, x);
+
+				// The quadrants and the signed zeros are kept exactly
+				assertEquals(Math.copySign(1, expected), Math.copySign(1, actual), "sign of atan2 " + y + ", " + x);
+				assertEquals(expected, actual, ATAN2_BOUND, "atan2 " + y + ", " + x);
+			}
+		}
+	}
+
+	@Test
+	void exp2StaysWithinItsBound() {
+		Random random = new Random(0x5EED);
+
+		for (int i = 0; i < SAMPLES; i++) {
+			double exponent = i % 2 == 0 ? (random.nextDouble() * 2 - 1) * 1022 : (random.nextDouble() * 2 - 1) * 2;
+			assertRelative(Math.pow(2, exponent), Theory.Fast.exp2(exponent), EXP2_BOUND, "exp2 " + exponent);
+		}
+
+		for (double value : SPECIAL) {
+			double expected = Math.pow(2, value);
+
+			if (Double.isNaN(expected) || Double.isInfinite(expected) || expected == 0) {
+				assertEquals(expected, Theory.Fast.exp2(value), "exp2 " + value);
+			}
+			else assertRelative(expected, Theory.Fast.exp2(value), EXP2_BOUND, "exp2 " + value);
+		}
+
+		assertEquals(1.0, Theory.Fast.exp2(0.0));
+		assertEquals(1.0, Theory.Fast.exp2(-0.0));
+	}
+
+	@Test
+	void cbrtStaysWithinItsBound() {
+		Random random = new Random(0x5EED);
+
+		for (int i = 0; i < SAMPLES; i++) {
+			double value = logUniform(random, -1074, 1023);
+			assertRelative(Math.cbrt(value), Theory.Fast.cbrt(value), CBRT_BOUND, "cbrt " + value);
+		}
+
+		for (double value : SPECIAL) {
+			double expected = Math.cbrt(value);
+
+			if (Double.isNaN(expected) || Double.isInfinite(expected) || expected == 0) {
+				assertEquals(expected, Theory.Fast.cbrt(value), "cbrt " + value);
+			}
+			else assertRelative(expected, Theory.Fast.cbrt(value), CBRT_BOUND, "cbrt " + value);
+		}
+
+		// Underflowed to 0 before the input was rescaled
+		assertRelative(1e-100, Theory.Fast.cbrt(1e-300), CBRT_BOUND, "cbrt 1e-300");
+	}
+
+	@Test
+	void floatCbrtStaysWithinItsBound() {
+		Random random = new Random(0x5EED);
+
+		for (int i = 0; i < SAMPLES; i++) {
+			float value = (float) logUniform(random, -149, 127);
+			if (value == 0) continue;
+
+			assertRelative(Math.cbrt(value), Theory.Fast.cbrt(value), FLOAT_CBRT_BOUND, "cbrt " + value);
+		}
+
+		for (float value : SPECIAL_FLOATS) {
+			float expected = (float) Math.cbrt(value);
+
+			if (Float.isNaN(expected) || Float.isInfinite(expected) || expected == 0) {
+				assertEquals(expected, Theory.Fast.cbrt(value), "cbrt " + value);
+			}
+			else assertRelative(expected, Theory.Fast.cbrt(value), FLOAT_CBRT_BOUND, "cbrt " + value);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package net.krlite.equator.math.geometry.flat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoxIndexTest {
+	@Test
+	void unboundedBoxesAreKeptAside() {
+		BoxIndex<String> index = new BoxIndex<>();
+
+		index.insert("huge", Box.fromCartesian(-1e12, -1e12, 2e12, 2e12));
+		index.insert("unbounded", new Box(-Double.MAX_VALUE, -Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE));
+		index.insert("small", Box.fromCartesian(10, 10, 20, 20), 1);
+
+		assertEquals(Set.of("huge", "unbounded"), Set.copyOf(index.query(-5e11, 7e11)));
+		assertEquals(3, index.query(15, 15).size());
+		assertEquals("small", index.topmost(15, 15));
+		assertEquals(3, index.query(new Box(-Double.MAX_VALUE, -Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE)).size());
+
+		assertTrue(index.remove("unbounded"));
+		assertTrue(index.remove("huge"));
+		assertEquals(List.of("small"), index.query(15, 15));
+	}
+}
@@ -24,6 +24,9 @@ dependencies {
 
 	implementation(project(":Math"))
 	api(libs.mixbox)
+
+	testImplementation(libs.junit.jupiter)
+	testRuntimeOnly(libs.junit.platform.launcher)
 }
 
 java {
@@ -33,6 +36,37 @@ java {
 	withSourcesJar()
 }
 
+tasks.withType<JavaCompile>().configureEach {
+	// The optional Vector API path of ColorBatch, only loaded at runtime when the module is present
+	options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+tasks.test {
+	useJUnitPlatform()
+}
+
+val testVectorized by tasks.registering(Test::class) {
+	description = "Runs the tests with the jdk.incubator.vector module, covering the Vector API paths."
+	group = "verification"
+
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	jvmArgs("--add-modules", "jdk.incubator.vector")
+	useJUnitPlatform()
+}
+
+tasks.check {
+	dependsOn(testVectorized)
+}
+
+tasks.register<JavaExec>("benchmark") {
+	description = "Compares the cost of the perceptual mix mode against pigment and LAB mixing."
+	group = "verification"
+
+	classpath = sourceSets.test.get().runtimeClasspath
+	mainClass.set("net.krlite.equator.visual.color.MixBenchmark")
+}
+
 publishing {
 	publications {
 		create<MavenPublication>("mavenJava") {
@@ -10,6 +10,207 @@ import static net.krlite.equator.visual.color.Colorspace.*;
 import static net.krlite.equator.visual.color.Palette.TRANSPARENT;
 
 public class AccurateColor {
+	/**
+	 * <h2>Builder</h2>
+	 * Edits a color in place. The components are converted only when an edit targets a different colorspace than
+	 * the previous one, so chained edits like {@code hue(h).saturation(s).opacity(a)} convert once, and only
+	 * {@link #build()} allocates. A builder can be {@link #set(AccurateColor) reset} and reused across frames.
+	 * <br />
+	 * Builders are not thread-safe.
+	 */
+	public static class Builder {
+		// Constructors
+
+		public Builder(@Nullable AccurateColor color) {
+			set(color);
+		}
+
+		public Builder() {
+			this(null);
+		}
+
+		// Fields
+
+		private Colorspace colorspace;
+		private final double[] color = new double[4];
+		private double opacity;
+		private boolean transparent;
+
+		// Accessors
+
+		public Colorspace colorspace() {
+			return colorspace;
+		}
+
+		/**
+		 * @param index	the index of the component in {@link #colorspace()}.
+		 * @return	the component.
+		 */
+		public double component(int index) {
+			return color[index];
+		}
+
+		public double opacity() {
+			return opacity;
+		}
+
+		// Mutators
+
+		/**
+		 * Resets this builder to the given color, keeping its colorspace as the working colorspace.
+		 * @param color	the color, {@code null} resets to {@link Palette#TRANSPARENT}.
+		 * @return	this builder.
+		 */
+		public Builder set(@Nullable AccurateColor color) {
+			color = notnull(color);
+
+			this.colorspace = color.colorspace();
+			this.color[0] = color.c0;
+			this.color[1] = color.c1;
+			this.color[2] = color.c2;
+			this.color[3] = color.c3;
+			this.opacity = color.opacity();
+			this.transparent = !color.hasColor();
+
+			return this;
+		}
+
+		/**
+		 * Converts the components into another working colorspace, without changing the color.
+		 * @param colorspace	the colorspace.
+		 * @return	this builder.
+		 */
+		public Builder colorspace(@Nullable Colorspace colorspace) {
+			colorspace = notnull(colorspace);
+
+			if (this.colorspace != colorspace) {
+				Colorspace.convert(color, this.colorspace, color, colorspace);
+				this.colorspace = colorspace;
+			}
+
+			return this;
+		}
+
+		public Builder component(Colorspace colorspace, int index, double component) {
+			colorspace(colorspace);
+			color[index] = component;
+			transparent = false;
+
+			return this;
+		}
+
+		public Builder opacity(double opacity) {
+			this.opacity = opacity;
+			transparent = false;
+
+			return this;
+		}
+
+		public Builder multiplyOpacity(double opacity) {
+			return opacity(opacity() * opacity);
+		}
+
+		// Mutators: Components
+
+		public Builder red(double red) {
+			return component(RGB, 0, red);
+		}
+
+		public Builder green(double green) {
+			return component(RGB, 1, green);
+		}
+
+		public Builder blue(double blue) {
+			return component(RGB, 2, blue);
+		}
+
+		public Builder hue(double hue) {
+			return component(HSV, 0, hue);
+		}
+
+		public Builder saturation(double saturation) {
+			return component(HSV, 1, saturation);
+		}
+
+		public Builder value(double value) {
+			return component(HSV, 2, value);
+		}
+
+		public Builder lightness(double lightness) {
+			return component(HSL, 2, lightness);
+		}
+
+		public Builder cyan(double cyan) {
+			return component(CMYK, 0, cyan);
+		}
+
+		public Builder magenta(double magenta) {
+			return component(CMYK, 1, magenta);
+		}
+
+		public Builder yellow(double yellow) {
+			return component(CMYK, 2, yellow);
+		}
+
+		public Builder black(double black) {
+			return component(CMYK, 3, black);
+		}
+
+		public Builder x(double x) {
+			return component(XYZ, 0, x);
+		}
+
+		public Builder y(double y) {
+			return component(XYZ, 1, y);
+		}
+
+		public Builder z(double z) {
+			return component(XYZ, 2, z);
+		}
+
+		public Builder L(double L) {
+			return component(LAB, 0, L);
+		}
+
+		public Builder a(double a) {
+			return component(LAB, 1, a);
+		}
+
+		public Builder b(double b) {
+			return component(LAB, 2, b);
+		}
+
+		public Builder C(double C) {
+			return component(LCH, 1, C);
+		}
+
+		public Builder H(double H) {
+			return component(LCH, 2, H);
+		}
+
+		// Operations
+
+		/**
+		 * @return	a new color holding the current components, in the working colorspace.
+		 */
+		public AccurateColor build() {
+			return new AccurateColor(colorspace, color[0], color[1], color[2], color[3], opacity, transparent);
+		}
+
+		/**
+		 * @param colorspace	the colorspace of the result.
+		 * @return	a new color holding the current components, converted into the given colorspace. The working
+		 * 			colorspace of this builder is left unchanged.
+		 */
+		public AccurateColor build(@Nullable Colorspace colorspace) {
+			colorspace = notnull(colorspace);
+			if (colorspace == this.colorspace) return build();
+
+			double[] converted = Colorspace.convert(color, this.colorspace, new double[4], colorspace);
+			return new AccurateColor(colorspace, converted[0], converted[1], converted[2], converted[3], opacity, transparent);
+		}
+	}
+
 	// Static Constructors
 
 	public static @NotNull AccurateColor notnull(@Nullable AccurateColor color) {
@@ -20,11 +221,20 @@ public class AccurateColor {
 		return colorspace == null ? RGB : colorspace;
 	}
 
+	/**
+	 * @param argb	the color, whose opacity is only read if it is above {@code 0xFFFFFF}, otherwise the color is opaque.
+	 * @return	the interned color.
+	 * @see ColorCache
+	 */
 	public static AccurateColor fromARGB(long argb) {
-		return new AccurateColor(RGB.fromInt((int) argb), argb > 0xFFFFFF ? ((argb >> 24) & 0xFF) / 255.0 : 1);
+		return fromPacked(pack(argb));
 	}
 
 	public static AccurateColor fromRGB(int red, int green, int blue, int alpha) {
+		if (((red | green | blue | alpha) & ~0xFF) == 0) {
+			return fromPacked(PackedColor.argb(alpha, red, green, blue));
+		}
+
 		return new AccurateColor(red / 255.0, green / 255.0, blue / 255.0, alpha / 255.0);
 	}
 
@@ -36,20 +246,50 @@ public class AccurateColor {
 		return color == null ? TRANSPARENT : new AccurateColor(RGB.fromColor(color), color.getAlpha() / 255.0);
 	}
 
+	public static AccurateColor fromPacked(int argb) {
+		return ColorCache.intern(argb, AccurateColor::createPacked);
+	}
+
 	public static AccurateColor fromHexString(String hexString) {
+		return ColorCache.intern(hexString, AccurateColor::parseHexString, AccurateColor::createPacked);
+	}
+
+	private static AccurateColor createPacked(int argb) {
+		AccurateColor color = new AccurateColor(RGB.fromInt(argb), PackedColor.alpha(argb) / 255.0);
+		color.cachePacked(argb);
+		return color;
+	}
+
+	private static int parseHexString(String hexString) {
 		long hex = Long.decode(hexString);
-		return fromARGB(hex | (hex > 0xFFFFFF ? 0x0 : 0xFF000000L));
+		return pack(hex | (hex > 0xFFFFFF ? 0x0 : 0xFF000000L));
+	}
+
+	private static int pack(long argb) {
+		int alpha = argb > 0xFFFFFF ? (int) ((argb >> 24) & 0xFF) : 0xFF;
+		return (alpha << 24) | (int) (argb & 0xFFFFFF);
 	}
 
 	// Constructors
 
-	protected AccurateColor(@Nullable Colorspace colorspace, double[] color, double opacity, boolean transparent) {
-		this.colorspace = notnull(colorspace);
-		this.color = color;
+	private AccurateColor(@NotNull Colorspace colorspace, double c0, double c1, double c2, double c3, double opacity, boolean transparent) {
+		this.colorspace = colorspace;
+		this.c0 = c0;
+		this.c1 = c1;
+		this.c2 = c2;
+		this.c3 = c3;
 		this.opacity = Theory.clamp(opacity, 0, 1);
 		this.transparent = transparent;
 	}
 
+	private AccurateColor(@NotNull Colorspace colorspace, double[] color, double opacity, int components) {
+		this(colorspace, color[0], color[1], color[2], components > 3 ? color[3] : 0, opacity, false);
+	}
+
+	protected AccurateColor(@Nullable Colorspace colorspace, double[] color, double opacity, boolean transparent) {
+		this(notnull(colorspace), color[0], color[1], color[2], notnull(colorspace).components() > 3 ? color[3] : 0, opacity, transparent);
+	}
+
 	public AccurateColor(@Nullable Colorspace colorspace, double[] color, double opacity) {
 		this(colorspace, color, opacity, false);
 	}
@@ -79,24 +319,53 @@ public class AccurateColor {
 	}
 
 	public AccurateColor(@Nullable AccurateColor another, @Nullable Colorspace colorspace) {
-		this(colorspace, notnull(colorspace).from(notnull(another).color(), notnull(another).colorspace()), notnull(another).opacity(), !notnull(another).hasColor());
+		this(colorspace, notnull(another).in(notnull(colorspace)), notnull(another).opacity(), !notnull(another).hasColor());
 	}
 
 	// Fields
 
+	// The components are stored inline rather than in an array, c3 is only used by four-component colorspaces
 	private final Colorspace colorspace;
-	private final double[] color;
+	private final double c0, c1, c2, c3;
 	private final double opacity;
 	private final boolean transparent;
 
+	// Lazily computed, see toPacked() and latent()
+	private int packed;
+	private boolean packedIsZero;
+	private volatile float[] latent;
+
 	// Accessors
 
 	public Colorspace colorspace() {
 		return colorspace;
 	}
 
+	/**
+	 * @return	a copy of the components of this color in its own colorspace, modifying it won't affect this color.
+	 */
 	public double[] color() {
-		return color;
+		return colorspace().components() > 3 ? new double[] { c0, c1, c2, c3 } : new double[] { c0, c1, c2 };
+	}
+
+	/**
+	 * Converts the components of this color into the given colorspace without creating an intermediate color.
+	 * @param colorspace	the target colorspace.
+	 * @return	a new array holding the converted components, which is always large enough for any colorspace.
+	 */
+	private double[] in(Colorspace colorspace) {
+		double[] color = { c0, c1, c2, c3 };
+		return colorspace() == colorspace ? color : Colorspace.convert(color, colorspace(), color, colorspace);
+	}
+
+	private double component(Colorspace colorspace, int index) {
+		if (colorspace() == colorspace) return switch (index) {
+			case 0 -> c0;
+			case 1 -> c1;
+			case 2 -> c2;
+			default -> c3;
+		};
+		return in(colorspace)[index];
 	}
 
 	public double opacity() {
@@ -114,7 +383,7 @@ public class AccurateColor {
 	// Accessors: RGB Components
 
 	public double red() {
-		return new AccurateColor(this, RGB).color()[0];
+		return component(RGB, 0);
 	}
 
 	public float redAsFloat() {
@@ -126,7 +395,7 @@ public class AccurateColor {
 	}
 
 	public double green() {
-		return new AccurateColor(this, RGB).color()[1];
+		return component(RGB, 1);
 	}
 
 	public float greenAsFloat() {
@@ -138,7 +407,7 @@ public class AccurateColor {
 	}
 
 	public double blue() {
-		return new AccurateColor(this, RGB).color()[2];
+		return component(RGB, 2);
 	}
 
 	public float blueAsFloat() {
@@ -152,73 +421,73 @@ public class AccurateColor {
 	// Accessors: HSV/HSL Components
 
 	public double hue() {
-		return new AccurateColor(this, HSV).color()[0];
+		return component(HSV, 0);
 	}
 
 	public double saturation() {
-		return new AccurateColor(this, HSV).color()[1];
+		return component(HSV, 1);
 	}
 
 	public double value() {
-		return new AccurateColor(this, HSV).color()[2];
+		return component(HSV, 2);
 	}
 
 	public double lightness() {
-		return new AccurateColor(this, HSL).color()[2];
+		return component(HSL, 2);
 	}
 
 	// Accessors: CMYK Components
 
 	public double cyan() {
-		return new AccurateColor(this, CMYK).color()[0];
+		return component(CMYK, 0);
 	}
 
 	public double magenta() {
-		return new AccurateColor(this, CMYK).color()[1];
+		return component(CMYK, 1);
 	}
 
 	public double yellow() {
-		return new AccurateColor(this, CMYK).color()[2];
+		return component(CMYK, 2);
 	}
 
 	public double black() {
-		return new AccurateColor(this, CMYK).color()[3];
+		return component(CMYK, 3);
 	}
 
 	// Accessors: XYZ Components
 
 	public double x() {
-		return new AccurateColor(this, XYZ).color()[0];
+		return component(XYZ, 0);
 	}
 
 	public double y() {
-		return new AccurateColor(this, XYZ).color()[1];
+		return component(XYZ, 1);
 	}
 
 	public double z() {
-		return new AccurateColor(this, XYZ).color()[2];
+		return component(XYZ, 2);
 	}
 
 	// Accessors: LAB/LCH Components
 
 	public double L() {
-		return new AccurateColor(this, LAB).color()[0];
+		return component(LAB, 0);
 	}
 
 	public double a() {
-		return new AccurateColor(this, LAB).color()[1];
+		return component(LAB, 1);
 	}
 
 	public double b() {
-		return new AccurateColor(this, LAB).color()[2];
+		return component(LAB, 2);
 	}
 
 	public double C() {
-		return new AccurateColor(this, LCH).color()[1];
+		return component(LCH, 1);
 	}
 
 	public double H() {
-		return new AccurateColor(this, LCH).color()[2];
+		return component(LCH, 2);
 	}
 
 	// Mutators
@@ -232,11 +501,21 @@ public class AccurateColor {
 	}
 
 	public AccurateColor color(double[] color, Colorspace colorspace) {
-		return colorspace() == colorspace ? color(color) : colorspace(colorspace).color(color).colorspace(colorspace());
+		if (colorspace() == colorspace) return color(color);
+
+		ColorConvertor.checkArrayLength(colorspace.getName(), color, colorspace.components());
+		double[] converted = Colorspace.convert(color, colorspace, new double[4], colorspace());
+		return new AccurateColor(colorspace(), converted, opacity(), colorspace().components());
 	}
 
 	public AccurateColor opacity(double opacity) {
-		return new AccurateColor(colorspace(), color(), opacity);
+		return new AccurateColor(colorspace(), c0, c1, c2, c3, opacity, false);
+	}
+
+	private AccurateColor with(Colorspace colorspace, int index, double component) {
+		double[] color = in(colorspace);
+		color[index] = component;
+		return new AccurateColor(colorspace(), colorspace() == colorspace ? color : Colorspace.convert(color, colorspace, color, colorspace()), opacity(), colorspace().components());
 	}
 
 	public AccurateColor multiplyOpacity(double opacity) {
@@ -246,87 +525,87 @@ public class AccurateColor {
 	// Mutators: RGB Components
 
 	public AccurateColor red(double red) {
-		return color(new double[] { red, green(), blue() }, RGB);
+		return with(RGB, 0, red);
 	}
 
 	public AccurateColor green(double green) {
-		return color(new double[] { red(), green, blue() }, RGB);
+		return with(RGB, 1, green);
 	}
 
 	public AccurateColor blue(double blue) {
-		return color(new double[] { red(), green(), blue }, RGB);
+		return with(RGB, 2, blue);
 	}
 
 	// Mutators: HSV/HSL Components
 
 	public AccurateColor hue(double hue) {
-		return color(new double[] { hue, saturation(), value() }, HSV);
+		return with(HSV, 0, hue);
 	}
 
 	public AccurateColor saturation(double saturation) {
-		return color(new double[] { hue(), saturation, value() }, HSV);
+		return with(HSV, 1, saturation);
 	}
 
 	public AccurateColor value(double value) {
-		return color(new double[] { hue(), saturation(), value }, HSV);
+		return with(HSV, 2, value);
 	}
 
 	public AccurateColor lightness(double lightness) {
-		return color(new double[] { hue(), saturation(), lightness }, HSL);
+		return with(HSL, 2, lightness);
 	}
 
 	// Mutators: CMYK Components
 
 	public AccurateColor cyan(double cyan) {
-		return color(new double[] { cyan, magenta(), yellow(), black() }, CMYK);
+		return with(CMYK, 0, cyan);
 	}
 
 	public AccurateColor magenta(double magenta) {
-		return color(new double[] { cyan(), magenta, yellow(), black() }, CMYK);
+		return with(CMYK, 1, magenta);
 	}
 
 	public AccurateColor yellow(double yellow) {
-		return color(new double[] { cyan(), magenta(), yellow, black() }, CMYK);
+		return with(CMYK, 2, yellow);
 	}
 
 	public AccurateColor black(double black) {
-		return color(new double[] { cyan(), magenta(), yellow(), black }, CMYK);
+		return with(CMYK, 3, black);
 	}
 
 	// Mutators: XYZ Components
 
 	public AccurateColor x(double x) {
-		return color(new double[] { x, y(), z() }, XYZ);
+		return with(XYZ, 0, x);
 	}
 
 	public AccurateColor y(double y) {
-		return color(new double[] { x(), y, z() }, XYZ);
+		return with(XYZ, 1, y);
 	}
 
 	public AccurateColor z(double z) {
-		return color(new double[] { x(), y(), z }, XYZ);
+		return with(XYZ, 2, z);
 	}
 
 	// Mutators: LAB/LCH Components
 
 	public AccurateColor L(double L) {
-		return color(new double[] { L, a(), b() }, LAB);
+		return with(LAB, 0, L);
 	}
 
 	public AccurateColor a(double a) {
-		return color(new double[] { L(), a, b() }, LAB);
+		return with(LAB, 1, a);
 	}
 
 	public AccurateColor b(double b) {
-		return color(new double[] { L(), a(), b }, LAB);
+		return with(LAB, 2, b);
 	}
 
 	public AccurateColor C(double C) {
-		return color(new double[] { L(), C, H() }, LCH);
+		return with(LCH, 1, C);
 	}
 
 	public AccurateColor H(double H) {
-		return color(new double[] { L(), C(), H }, LCH);
+		return with(LCH, 2, H);
 	}
 
 	// Properties
@@ -341,7 +620,7 @@ public class AccurateColor {
 
 	public boolean approximates(@Nullable AccurateColor another, boolean ignoreOpacity) {
 		if (another == null) return false;
-		double[] rgb = colorspace(Colorspace.RGB).color(), anotherRGB = another.colorspace(RGB).color();
+		double[] rgb = in(RGB), anotherRGB = another.in(RGB);
 		return Theory.looseEquals(rgb[0], anotherRGB[0]) && Theory.looseEquals(rgb[1], anotherRGB[1]) && Theory.looseEquals(rgb[2], anotherRGB[2]) && (ignoreOpacity || Theory.looseEquals(opacity(), another.opacity()));
 	}
 
@@ -361,6 +640,11 @@ public class AccurateColor {
 		if (!another.hasColor()) mixMode = MixMode.OPACITY_ONLY;
 		if (mixMode == MixMode.OPACITY_ONLY) return opacity(Theory.lerp(opacity(), another.opacity(), ratio));
 
+		if (mixMode == MixMode.PIGMENT) {
+			float[] rgb = Pigment.mixLatent(latent(), another.latent(), (float) ratio);
+			return new AccurateColor(RGB, new double[] { rgb[0], rgb[1], rgb[2] }, Theory.lerp(opacity(), another.opacity(), ratio), false).colorspace(colorspace());
+		}
+
 		return new AccurateColor(colorspace(), colorspace().mix(color(), another.color(), ratio, another.colorspace(), mixMode), Theory.lerp(opacity(), another.opacity(), ratio));
 	}
 
@@ -376,6 +660,14 @@ public class AccurateColor {
 		return mix(another, 0.5);
 	}
 
+	/**
+	 * @return	a {@link Builder} starting from this color, for chaining edits without converting or allocating on
+	 * 			every step.
+	 */
+	public Builder builder() {
+		return new Builder(this);
+	}
+
 	public AccurateColor orElse(AccurateColor color) {
 		return hasColor() ? this : color;
 	}
@@ -412,6 +704,43 @@ public class AccurateColor {
 		return colorspace().toInt(color()) + ((int) (opacity() * 255) << 24);
 	}
 
+	/**
+	 * Packs this color into a {@code 0xAARRGGBB} integer. The result is computed at most once per instance, so
+	 * renderers can call this on every vertex without converting the color again.
+	 * @return	the packed color.
+	 * @see PackedColor
+	 */
+	public int toPacked() {
+		int packed = this.packed;
+
+		if (packed == 0 && !packedIsZero) {
+			double[] rgb = in(RGB);
+			packed = PackedColor.pack(rgb[0], rgb[1], rgb[2], opacity());
+			cachePacked(packed);
+		}
+
+		return packed;
+	}
+
+	/**
+	 * The <a href="https://github.com/scrtwpns/mixbox">Mixbox</a> latent vector of this color, computed at most
+	 * once per instance so pigment mixes with the same endpoints don't convert them again.
+	 * @return	the cached latent vector, which must not be modified.
+	 * @see Pigment
+	 */
+	float[] latent() {
+		if (latent == null) {
+			latent = Pigment.latent(in(RGB));
+		}
+
+		return latent;
+	}
+
+	private void cachePacked(int packed) {
+		if (packed == 0) packedIsZero = true;
+		else this.packed = packed;
+	}
+
 	public Color toColor() {
 		return new Color(toInt(), true);
 	}
@@ -429,11 +758,12 @@ public class AccurateColor {
 
 	public String toString(boolean precisely) {
 		StringBuilder builder = new StringBuilder();
+		double[] color = color();
 
-		for (int i = 0; i < color().length; i++) {
-			builder.append(precisely ? color()[i] : String.format("%.2f", color()[i]));
+		for (int i = 0; i < color.length; i++) {
+			builder.append(precisely ? color[i] : String.format("%.2f", color[i]));
 
-			if (i < color().length - 1) {
+			if (i < color.length - 1) {
 				builder.append(", ");
 			}
 		}
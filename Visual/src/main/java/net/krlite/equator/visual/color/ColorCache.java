@@ -0,0 +1,120 @@
+package net.krlite.equator.visual.color;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * <h1>ColorCache</h1>
+ * Interns the colors created by {@link AccurateColor#fromARGB(long)}, {@link AccurateColor#fromRGB(int, int, int, int)},
+ * {@link AccurateColor#fromPacked(int)} and {@link AccurateColor#fromHexString(String)}, so that creating the same
+ * color again, typically inside a render call, returns the canonical instance instead of parsing and allocating.
+ * <br />
+ * The cache is a fixed-size, direct-mapped table: every key has exactly one slot, and a new key evicts whatever
+ * occupied its slot. Lookups and insertions never lock, and concurrent insertions into the same slot simply let one
+ * of them win. Since {@link AccurateColor} is immutable, handing out the same instance everywhere is safe.
+ */
+public class ColorCache {
+	private record PackedEntry(int argb, AccurateColor color) {}
+
+	private record StringEntry(String hexString, AccurateColor color) {}
+
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	private static volatile PackedEntry[] packedEntries = new PackedEntry[DEFAULT_CAPACITY];
+	private static volatile StringEntry[] stringEntries = new StringEntry[DEFAULT_CAPACITY];
+	private static final LongAdder hits = new LongAdder(), misses = new LongAdder();
+
+	// Accessors
+
+	public static int capacity() {
+		return packedEntries.length;
+	}
+
+	public static long hits() {
+		return hits.sum();
+	}
+
+	public static long misses() {
+		return misses.sum();
+	}
+
+	public static double hitRate() {
+		long hits = hits(), total = hits + misses();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	// Mutators
+
+	/**
+	 * Resizes the cache, dropping every interned color. Each slot costs about {@code 100} bytes once filled, so the
+	 * {@link #DEFAULT_CAPACITY default capacity} stays around {@code 200} kilobytes across both tables.
+	 * @param capacity	the number of slots for each of the packed and the hex string keys, rounded up to a power of
+	 *                  two. {@code 0} disables the cache.
+	 */
+	public static void capacity(int capacity) {
+		int size = capacity <= 0 ? 0 : Math.max(2, Integer.highestOneBit(Math.min(capacity, 1 << 30) - 1) << 1);
+		packedEntries = new PackedEntry[size];
+		stringEntries = new StringEntry[size];
+	}
+
+	public static void clear() {
+		capacity(capacity());
+	}
+
+	public static void resetStatistics() {
+		hits.reset();
+		misses.reset();
+	}
+
+	// Operations
+
+	static AccurateColor intern(int argb, IntFunction<AccurateColor> factory) {
+		return intern(argb, factory, true);
+	}
+
+	/**
+	 * A hex string missing from the cache falls through to the packed table, whose lookup is then not counted, so
+	 * that every public lookup counts exactly once.
+	 */
+	static AccurateColor intern(String hexString, ToIntFunction<String> parser, IntFunction<AccurateColor> factory) {
+		StringEntry[] entries = stringEntries;
+		if (entries.length == 0) return factory.apply(parser.applyAsInt(hexString));
+
+		int index = index(hexString.hashCode(), entries.length);
+		StringEntry entry = entries[index];
+
+		if (entry != null && entry.hexString().equals(hexString)) {
+			hits.increment();
+			return entry.color();
+		}
+
+		misses.increment();
+		AccurateColor color = intern(parser.applyAsInt(hexString), factory, false);
+		entries[index] = new StringEntry(hexString, color);
+		return color;
+	}
+
+	private static AccurateColor intern(int argb, IntFunction<AccurateColor> factory, boolean counted) {
+		PackedEntry[] entries = packedEntries;
+		if (entries.length == 0) return factory.apply(argb);
+
+		int index = index(argb, entries.length);
+		PackedEntry entry = entries[index];
+
+		if (entry != null && entry.argb() == argb) {
+			if (counted) hits.increment();
+			return entry.color();
+		}
+
+		if (counted) misses.increment();
+		AccurateColor color = factory.apply(argb);
+		entries[index] = new PackedEntry(argb, color);
+		return color;
+	}
+
+	private static int index(int hash, int length) {
+		// Fibonacci hashing spreads neighbouring colors over the whole table
+		return (hash * 0x9E3779B9) >>> (Integer.numberOfLeadingZeros(length) + 1);
+	}
+}
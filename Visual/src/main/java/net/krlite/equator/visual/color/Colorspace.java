@@ -1,6 +1,5 @@
 package net.krlite.equator.visual.color;
 
-import com.scrtwpns.Mixbox;
 import net.krlite.equator.math.algebra.Theory;
 import net.krlite.equator.visual.color.base.ColorStandard;
 
@@ -18,69 +17,15 @@ import static net.krlite.equator.visual.color.ColorConvertor.*;
  *     <li>{@link Colorspace#XYZ}	&emsp;<code>- x-axis,		y-axis,			z-axis			(CIE 1931 XYZ COLORSPACE)</code></li>
  *     <li>{@link Colorspace#LAB}	&emsp;<code>- Lightness*,	green-magenta*,	blue-yellow*	(CIELAB COLORSPACE)</code></li>
  *     <li>{@link Colorspace#LCH}	&emsp;<code>- Luminance*,	Chroma*,		hue*			(CLELCh COLORSPACE)</code></li>
+ *     <li>{@link Colorspace#OKLAB}	&ensp;<code>- Lightness,	green-red,		blue-yellow		(OKLAB COLORSPACE)</code></li>
+ *     <li>{@link Colorspace#OKLCH}	&ensp;<code>- Lightness,	Chroma,			hue				(OKLCH COLORSPACE)</code></li>
  * </ul>
  */
 public enum Colorspace implements ColorStandard {
-	RGB("RGB") {
+	RGB("RGB", 3) {
 		public static final double[] WHITE = {1, 1, 1};
 		public static final double[] BLACK = {0, 0, 0};
 
-		@Override
-		public double[] from(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> color;
-				case HSV -> ToRGB.fromHSV(color);
-				case HSL -> ToRGB.fromHSL(color);
-				case CMYK -> ToRGB.fromCMYK(color);
-				case XYZ -> ToRGB.fromXYZ(color);
-				case LAB -> ToRGB.fromLAB(color);
-				case LCH -> ToRGB.fromLCH(color);
-			};
-		}
-
-		@Override
-		public double[] fromInt(int color) {
-			return ToRGB.fromInt(color);
-		}
-
-		@Override
-		public double[] fromColor(Color color) {
-			return fromInt(color.getRGB());
-		}
-
-		@Override
-		public double[] fromHexString(String color) {
-			return fromInt(hexStringToIntRGB(color));
-		}
-
-		@Override
-		public double[] to(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> color;
-				case HSV -> FromRGB.toHSV(color);
-				case HSL -> FromRGB.toHSL(color);
-				case CMYK -> FromRGB.toCMYK(color);
-				case XYZ -> FromRGB.toXYZ(color);
-				case LAB -> FromRGB.toLAB(color);
-				case LCH -> FromRGB.toLCH(color);
-			};
-		}
-
-		@Override
-		public int toInt(double[] color) {
-			return FromRGB.toInt(color);
-		}
-
-		@Override
-		public Color toColor(double[] color) {
-			return new Color(toInt(color));
-		}
-
-		@Override
-		public String toHexString(double[] color) {
-			return intToHexStringRGB(toInt(color));
-		}
-
 		@Override
 		public double[] mix(double[] self, double[] another, double ratio, Colorspace colorspace, MixMode mixMode) {
 			double[] anotherRGB = from(another, colorspace);
@@ -91,7 +36,9 @@ public enum Colorspace implements ColorStandard {
 						Theory.lerp(self[1], anotherRGB[1], ratio),
 						Theory.lerp(self[2], anotherRGB[2], ratio)
 				};
-				case PIGMENT -> floatToDouble(Mixbox.lerpFloat(doubleToFloat(self), doubleToFloat(anotherRGB), (float) ratio));
+				case PIGMENT -> Pigment.mix(self, anotherRGB, ratio);
+				case LINEAR -> LinearLight.mix(self, anotherRGB, ratio);
+				case PERCEPTUAL -> from(OKLAB.mix(to(self, OKLAB), anotherRGB, ratio, RGB, MixMode.BLEND), OKLAB);
 				default -> self;
 			};
 		}
@@ -115,66 +62,10 @@ public enum Colorspace implements ColorStandard {
 			return mix(color, BLACK, ratio, RGB, MixMode.BLEND);
 		}
 	},
-	HSV("HSV") {
+	HSV("HSV", 3) {
 		public static final double[] WHITE = {0, 0, 1};
 		public static final double[] BLACK = {0, 0, 0};
 
-		@Override
-		public double[] from(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> RGB.to(color, HSV);
-				case HSV -> color;
-				case HSL -> RGB.to(RGB.from(color, HSL), HSV);
-				case CMYK -> RGB.to(RGB.from(color, CMYK), HSV);
-				case XYZ -> RGB.to(RGB.from(color, XYZ), HSV);
-				case LAB -> RGB.to(RGB.from(color, LAB), HSV);
-				case LCH -> RGB.to(RGB.from(color, LCH), HSV);
-			};
-		}
-
-		@Override
-		public double[] fromInt(int color) {
-			return RGB.to(RGB.fromInt(color), HSV);
-		}
-
-		@Override
-		public double[] fromColor(Color color) {
-			return RGB.to(RGB.fromColor(color), HSV);
-		}
-
-		@Override
-		public double[] fromHexString(String color) {
-			return RGB.to(RGB.fromHexString(color), HSV);
-		}
-
-		@Override
-		public double[] to(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> RGB.from(color, HSV);
-				case HSV -> color;
-				case HSL -> RGB.to(RGB.from(color, HSV), HSL);
-				case CMYK -> RGB.to(RGB.from(color, HSV), CMYK);
-				case XYZ -> RGB.to(RGB.from(color, HSV), XYZ);
-				case LAB -> RGB.to(RGB.from(color, HSV), LAB);
-				case LCH -> RGB.to(RGB.from(color, HSV), LCH);
-			};
-		}
-
-		@Override
-		public int toInt(double[] color) {
-			return RGB.toInt(RGB.from(color, HSV));
-		}
-
-		@Override
-		public Color toColor(double[] color) {
-			return RGB.toColor(RGB.from(color, HSV));
-		}
-
-		@Override
-		public String toHexString(double[] color) {
-			return RGB.toHexString(RGB.from(color, HSV));
-		}
-
 		@Override
 		public double[] mix(double[] self, double[] another, double ratio, Colorspace colorspace, MixMode mixMode) {
 			return switch (mixMode) {
@@ -188,8 +79,13 @@ public enum Colorspace implements ColorStandard {
 				}
 				case PIGMENT -> {
 					double[] anotherRGB = RGB.from(another, colorspace);
-					yield from(floatToDouble(Mixbox.lerpFloat(doubleToFloat(to(self, RGB)), doubleToFloat(anotherRGB), (float) ratio)), RGB);
+					yield from(Pigment.mix(to(self, RGB), anotherRGB, ratio), RGB);
+				}
+				case LINEAR -> {
+					double[] anotherRGB = RGB.from(another, colorspace);
+					yield from(LinearLight.mix(to(self, RGB), anotherRGB, ratio), RGB);
 				}
+				case PERCEPTUAL -> from(OKLAB.mix(to(self, OKLAB), another, ratio, colorspace, MixMode.BLEND), OKLAB);
 				default -> self;
 			};
 		}
@@ -213,66 +109,10 @@ public enum Colorspace implements ColorStandard {
 			return mix(color, BLACK, ratio, HSV, MixMode.BLEND);
 		}
 	},
-	HSL("HSL") {
+	HSL("HSL", 3) {
 		public static final double[] WHITE = {0, 0, 1};
 		public static final double[] BLACK = {0, 0, 0};
 
-		@Override
-		public double[] from(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> RGB.to(RGB.from(color, RGB), HSL);
-				case HSV -> RGB.to(RGB.from(color, HSV), HSL);
-				case HSL -> color;
-				case CMYK -> RGB.to(RGB.from(color, CMYK), HSL);
-				case XYZ -> RGB.to(RGB.from(color, XYZ), HSL);
-				case LAB -> RGB.to(RGB.from(color, LAB), HSL);
-				case LCH -> RGB.to(RGB.from(color, LCH), HSL);
-			};
-		}
-
-		@Override
-		public double[] fromInt(int color) {
-			return RGB.to(RGB.fromInt(color), HSL);
-		}
-
-		@Override
-		public double[] fromColor(Color color) {
-			return RGB.to(RGB.fromColor(color), HSL);
-		}
-
-		@Override
-		public double[] fromHexString(String color) {
-			return RGB.to(RGB.fromHexString(color), HSL);
-		}
-
-		@Override
-		public double[] to(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> RGB.from(color, HSL);
-				case HSV -> RGB.to(RGB.from(color, HSL), HSV);
-				case HSL -> color;
-				case CMYK -> RGB.to(RGB.from(color, HSL), CMYK);
-				case XYZ -> RGB.to(RGB.from(color, HSL), XYZ);
-				case LAB -> RGB.to(RGB.from(color, HSL), LAB);
-				case LCH -> RGB.to(RGB.from(color, HSL), LCH);
-			};
-		}
-
-		@Override
-		public int toInt(double[] color) {
-			return RGB.toInt(RGB.from(color, HSL));
-		}
-
-		@Override
-		public Color toColor(double[] color) {
-			return RGB.toColor(RGB.from(color, HSL));
-		}
-
-		@Override
-		public String toHexString(double[] color) {
-			return RGB.toHexString(RGB.from(color, HSL));
-		}
-
 		@Override
 		public double[] mix(double[] self, double[] another, double ratio, Colorspace colorspace, MixMode mixMode) {
 			return switch (mixMode) {
@@ -286,8 +126,13 @@ public enum Colorspace implements ColorStandard {
 				}
 				case PIGMENT -> {
 					double[] anotherRGB = RGB.from(another, colorspace);
-					yield from(floatToDouble(Mixbox.lerpFloat(doubleToFloat(to(self, RGB)), doubleToFloat(anotherRGB), (float) ratio)), RGB);
+					yield from(Pigment.mix(to(self, RGB), anotherRGB, ratio), RGB);
+				}
+				case LINEAR -> {
+					double[] anotherRGB = RGB.from(another, colorspace);
+					yield from(LinearLight.mix(to(self, RGB), anotherRGB, ratio), RGB);
 				}
+				case PERCEPTUAL -> from(OKLAB.mix(to(self, OKLAB), another, ratio, colorspace, MixMode.BLEND), OKLAB);
 				default -> self;
 			};
 		}
@@ -311,66 +156,10 @@ public enum Colorspace implements ColorStandard {
 			return mix(color, BLACK, ratio, HSL, MixMode.BLEND);
 		}
 	},
-	CMYK("CMYK") {
+	CMYK("CMYK", 4) {
 		public static final double[] WHITE = {0, 0, 0, 0};
 		public static final double[] BLACK = {0, 0, 0, 1};
 
-		@Override
-		public double[] from(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> RGB.to(RGB.from(color, RGB), CMYK);
-				case HSV -> RGB.to(RGB.from(color, HSV), CMYK);
-				case HSL -> RGB.to(RGB.from(color, HSL), CMYK);
-				case CMYK -> color;
-				case XYZ -> RGB.to(RGB.from(color, XYZ), CMYK);
-				case LAB -> RGB.to(RGB.from(color, LAB), CMYK);
-				case LCH -> RGB.to(RGB.from(color, LCH), CMYK);
-			};
-		}
-
-		@Override
-		public double[] fromInt(int color) {
-			return RGB.to(RGB.fromInt(color), CMYK);
-		}
-
-		@Override
-		public double[] fromColor(Color color) {
-			return RGB.to(RGB.fromColor(color), CMYK);
-		}
-
-		@Override
-		public double[] fromHexString(String color) {
-			return RGB.to(RGB.fromHexString(color), CMYK);
-		}
-
-		@Override
-		public double[] to(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> RGB.from(color, CMYK);
-				case HSV -> RGB.to(RGB.from(color, CMYK), HSV);
-				case HSL -> RGB.to(RGB.from(color, CMYK), HSL);
-				case CMYK -> color;
-				case XYZ -> RGB.to(RGB.from(color, CMYK), XYZ);
-				case LAB -> RGB.to(RGB.from(color, CMYK), LAB);
-				case LCH -> RGB.to(RGB.from(color, CMYK), LCH);
-			};
-		}
-
-		@Override
-		public int toInt(double[] color) {
-			return RGB.toInt(RGB.from(color, CMYK));
-		}
-
-		@Override
-		public Color toColor(double[] color) {
-			return RGB.toColor(RGB.from(color, CMYK));
-		}
-
-		@Override
-		public String toHexString(double[] color) {
-			return RGB.toHexString(RGB.from(color, CMYK));
-		}
-
 		@Override
 		public double[] mix(double[] self, double[] another, double ratio, Colorspace colorspace, MixMode mixMode) {
 			return switch (mixMode) {
@@ -385,8 +174,13 @@ public enum Colorspace implements ColorStandard {
 				}
 				case PIGMENT -> {
 					double[] anotherRGB = RGB.from(another, colorspace);
-					yield  from(floatToDouble(Mixbox.lerpFloat(doubleToFloat(to(self, RGB)), doubleToFloat(anotherRGB), (float) ratio)), RGB);
+					yield from(Pigment.mix(to(self, RGB), anotherRGB, ratio), RGB);
+				}
+				case LINEAR -> {
+					double[] anotherRGB = RGB.from(another, colorspace);
+					yield from(LinearLight.mix(to(self, RGB), anotherRGB, ratio), RGB);
 				}
+				case PERCEPTUAL -> from(OKLAB.mix(to(self, OKLAB), another, ratio, colorspace, MixMode.BLEND), OKLAB);
 				default -> self;
 			};
 		}
@@ -411,66 +205,10 @@ public enum Colorspace implements ColorStandard {
 			return mix(color, BLACK, ratio, CMYK, MixMode.BLEND);
 		}
 	},
-	XYZ("XYZ") {
+	XYZ("XYZ", 3) {
 		public static final double[] WHITE = {95.047, 100, 108.883};
 		public static final double[] BLACK = {0, 0, 0};
 
-		@Override
-		public double[] from(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> RGB.to(RGB.from(color, RGB), XYZ);
-				case HSV -> RGB.to(RGB.from(color, HSV), XYZ);
-				case HSL -> RGB.to(RGB.from(color, HSL), XYZ);
-				case CMYK -> RGB.to(RGB.from(color, CMYK), XYZ);
-				case XYZ -> color;
-				case LAB -> RGB.to(RGB.from(color, LAB), XYZ);
-				case LCH -> RGB.to(RGB.from(color, LCH), XYZ);
-			};
-		}
-
-		@Override
-		public double[] fromInt(int color) {
-			return RGB.to(RGB.fromInt(color), XYZ);
-		}
-
-		@Override
-		public double[] fromColor(Color color) {
-			return RGB.to(RGB.fromColor(color), XYZ);
-		}
-
-		@Override
-		public double[] fromHexString(String color) {
-			return RGB.to(RGB.fromHexString(color), XYZ);
-		}
-
-		@Override
-		public double[] to(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> RGB.from(color, XYZ);
-				case HSV -> RGB.to(RGB.from(color, XYZ), HSV);
-				case HSL -> RGB.to(RGB.from(color, XYZ), HSL);
-				case CMYK -> RGB.to(RGB.from(color, XYZ), CMYK);
-				case XYZ -> color;
-				case LAB -> RGB.to(RGB.from(color, XYZ), LAB);
-				case LCH -> RGB.to(RGB.from(color, XYZ), LCH);
-			};
-		}
-
-		@Override
-		public int toInt(double[] color) {
-			return RGB.toInt(RGB.from(color, XYZ));
-		}
-
-		@Override
-		public Color toColor(double[] color) {
-			return RGB.toColor(RGB.from(color, XYZ));
-		}
-
-		@Override
-		public String toHexString(double[] color) {
-			return RGB.toHexString(RGB.from(color, XYZ));
-		}
-
 		@Override
 		public double[] mix(double[] self, double[] another, double ratio, Colorspace colorspace, MixMode mixMode) {
 			return switch (mixMode) {
@@ -484,8 +222,13 @@ public enum Colorspace implements ColorStandard {
 				}
 				case PIGMENT -> {
 					double[] anotherRGB = RGB.from(another, colorspace);
-					yield from(floatToDouble(Mixbox.lerpFloat(doubleToFloat(to(self, RGB)), doubleToFloat(anotherRGB), (float) ratio)), RGB);
+					yield from(Pigment.mix(to(self, RGB), anotherRGB, ratio), RGB);
+				}
+				case LINEAR -> {
+					double[] anotherRGB = RGB.from(another, colorspace);
+					yield from(LinearLight.mix(to(self, RGB), anotherRGB, ratio), RGB);
 				}
+				case PERCEPTUAL -> from(OKLAB.mix(to(self, OKLAB), another, ratio, colorspace, MixMode.BLEND), OKLAB);
 				default -> self;
 			};
 		}
@@ -509,66 +252,10 @@ public enum Colorspace implements ColorStandard {
 			return mix(color, BLACK, ratio, XYZ, MixMode.BLEND);
 		}
 	},
-	LAB("L*a*b*") {
+	LAB("L*a*b*", 3) {
 		public static final double[] WHITE = {100, 0, 0};
 		public static final double[] BLACK = {0, 0, 0};
 
-		@Override
-		public double[] from(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> RGB.to(RGB.from(color, RGB), LAB);
-				case HSV -> RGB.to(RGB.from(color, HSV), LAB);
-				case HSL -> RGB.to(RGB.from(color, HSL), LAB);
-				case CMYK -> RGB.to(RGB.from(color, CMYK), LAB);
-				case XYZ -> RGB.to(RGB.from(color, XYZ), LAB);
-				case LAB -> color;
-				case LCH -> RGB.to(RGB.from(color, LCH), LAB);
-			};
-		}
-
-		@Override
-		public double[] fromInt(int color) {
-			return RGB.to(RGB.fromInt(color), LAB);
-		}
-
-		@Override
-		public double[] fromColor(Color color) {
-			return RGB.to(RGB.fromColor(color), LAB);
-		}
-
-		@Override
-		public double[] fromHexString(String color) {
-			return RGB.to(RGB.fromHexString(color), LAB);
-		}
-
-		@Override
-		public double[] to(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> RGB.from(color, LAB);
-				case HSV -> RGB.to(RGB.from(color, LAB), HSV);
-				case HSL -> RGB.to(RGB.from(color, LAB), HSL);
-				case CMYK -> RGB.to(RGB.from(color, LAB), CMYK);
-				case XYZ -> RGB.to(RGB.from(color, LAB), XYZ);
-				case LAB -> color;
-				case LCH -> RGB.to(RGB.from(color, LAB), LCH);
-			};
-		}
-
-		@Override
-		public int toInt(double[] color) {
-			return RGB.toInt(RGB.from(color, LAB));
-		}
-
-		@Override
-		public Color toColor(double[] color) {
-			return RGB.toColor(RGB.from(color, LAB));
-		}
-
-		@Override
-		public String toHexString(double[] color) {
-			return RGB.toHexString(RGB.from(color, LAB));
-		}
-
 		@Override
 		public double[] mix(double[] self, double[] another, double ratio, Colorspace colorspace, MixMode mixMode) {
 			return switch (mixMode) {
@@ -582,8 +269,13 @@ public enum Colorspace implements ColorStandard {
 				}
 				case PIGMENT -> {
 					double[] anotherRGB = RGB.from(another, colorspace);
-					yield from(floatToDouble(Mixbox.lerpFloat(doubleToFloat(to(self, RGB)), doubleToFloat(anotherRGB), (float) ratio)), RGB);
+					yield from(Pigment.mix(to(self, RGB), anotherRGB, ratio), RGB);
+				}
+				case LINEAR -> {
+					double[] anotherRGB = RGB.from(another, colorspace);
+					yield from(LinearLight.mix(to(self, RGB), anotherRGB, ratio), RGB);
 				}
+				case PERCEPTUAL -> from(OKLAB.mix(to(self, OKLAB), another, ratio, colorspace, MixMode.BLEND), OKLAB);
 				default -> self;
 			};
 		}
@@ -607,81 +299,123 @@ public enum Colorspace implements ColorStandard {
 			return mix(color, BLACK, ratio, LAB, MixMode.BLEND);
 		}
 	},
-	LCH("LCh") {
+	LCH("LCh", 3) {
 		public static final double[] WHITE = {100, 0, 0};
 		public static final double[] BLACK = {0, 0, 0};
 
 		@Override
-		public double[] from(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> RGB.to(RGB.from(color, RGB), LCH);
-				case HSV -> RGB.to(RGB.from(color, HSV), LCH);
-				case HSL -> RGB.to(RGB.from(color, HSL), LCH);
-				case CMYK -> RGB.to(RGB.from(color, CMYK), LCH);
-				case XYZ -> RGB.to(RGB.from(color, XYZ), LCH);
-				case LAB -> RGB.to(RGB.from(color, LAB), LCH);
-				case LCH -> color;
+		public double[] mix(double[] self, double[] another, double ratio, Colorspace colorspace, MixMode mixMode) {
+			return switch (mixMode) {
+				case BLEND -> {
+					double[] anotherLCH = from(another, colorspace);
+					yield  new double[] {
+							Theory.lerp(self[0], anotherLCH[0], ratio),
+							Theory.lerp(self[1], anotherLCH[1], ratio),
+							Theory.lerp(self[2], anotherLCH[2], ratio)
+					};
+				}
+				case PIGMENT -> {
+					double[] anotherRGB = RGB.from(another, colorspace);
+					yield from(Pigment.mix(to(self, RGB), anotherRGB, ratio), RGB);
+				}
+				case LINEAR -> {
+					double[] anotherRGB = RGB.from(another, colorspace);
+					yield from(LinearLight.mix(to(self, RGB), anotherRGB, ratio), RGB);
+				}
+				case PERCEPTUAL -> from(OKLAB.mix(to(self, OKLAB), another, ratio, colorspace, MixMode.BLEND), OKLAB);
+				default -> self;
 			};
 		}
 
 		@Override
-		public double[] fromInt(int color) {
-			return RGB.to(RGB.fromInt(color), LCH);
+		public double[] invert(double[] color) {
+			return new double[] {
+					100 - color[0],
+					-color[1],
+					-color[2]
+			};
 		}
 
 		@Override
-		public double[] fromColor(Color color) {
-			return RGB.to(RGB.fromColor(color), LCH);
+		public double[] lighten(double[] color, double ratio) {
+			return mix(color, WHITE, ratio, LCH, MixMode.BLEND);
 		}
 
 		@Override
-		public double[] fromHexString(String color) {
-			return RGB.to(RGB.fromHexString(color), LCH);
+		public double[] darken(double[] color, double ratio) {
+			return mix(color, BLACK, ratio, LCH, MixMode.BLEND);
 		}
+	},
+	OKLAB("OKLab", 3) {
+		public static final double[] WHITE = {1, 0, 0};
+		public static final double[] BLACK = {0, 0, 0};
 
 		@Override
-		public double[] to(double[] color, Colorspace colorspace) {
-			return switch (colorspace) {
-				case RGB -> RGB.from(color, LCH);
-				case HSV -> RGB.to(RGB.from(color, LCH), HSV);
-				case HSL -> RGB.to(RGB.from(color, LCH), HSL);
-				case CMYK -> RGB.to(RGB.from(color, LCH), CMYK);
-				case XYZ -> RGB.to(RGB.from(color, LCH), XYZ);
-				case LAB -> RGB.to(RGB.from(color, LCH), LAB);
-				case LCH -> color;
+		public double[] mix(double[] self, double[] another, double ratio, Colorspace colorspace, MixMode mixMode) {
+			return switch (mixMode) {
+				case BLEND, PERCEPTUAL -> {
+					double[] anotherOKLAB = from(another, colorspace);
+					yield new double[] {
+							Theory.lerp(self[0], anotherOKLAB[0], ratio),
+							Theory.lerp(self[1], anotherOKLAB[1], ratio),
+							Theory.lerp(self[2], anotherOKLAB[2], ratio)
+					};
+				}
+				case PIGMENT -> {
+					double[] anotherRGB = RGB.from(another, colorspace);
+					yield from(Pigment.mix(to(self, RGB), anotherRGB, ratio), RGB);
+				}
+				case LINEAR -> {
+					double[] anotherRGB = RGB.from(another, colorspace);
+					yield from(LinearLight.mix(to(self, RGB), anotherRGB, ratio), RGB);
+				}
+				default -> self;
 			};
 		}
 
 		@Override
-		public int toInt(double[] color) {
-			return RGB.toInt(RGB.from(color, LCH));
+		public double[] invert(double[] color) {
+			return new double[] {
+					1 - color[0],
+					-color[1],
+					-color[2]
+			};
 		}
 
 		@Override
-		public Color toColor(double[] color) {
-			return RGB.toColor(RGB.from(color, LCH));
+		public double[] lighten(double[] color, double ratio) {
+			return mix(color, WHITE, ratio, OKLAB, MixMode.BLEND);
 		}
 
 		@Override
-		public String toHexString(double[] color) {
-			return RGB.toHexString(RGB.from(color, LCH));
+		public double[] darken(double[] color, double ratio) {
+			return mix(color, BLACK, ratio, OKLAB, MixMode.BLEND);
 		}
+	},
+	OKLCH("OKLCh", 3) {
+		public static final double[] WHITE = {1, 0, 0};
+		public static final double[] BLACK = {0, 0, 0};
 
 		@Override
 		public double[] mix(double[] self, double[] another, double ratio, Colorspace colorspace, MixMode mixMode) {
 			return switch (mixMode) {
 				case BLEND -> {
-					double[] anotherLCH = from(another, colorspace);
-					yield  new double[] {
-							Theory.lerp(self[0], anotherLCH[0], ratio),
-							Theory.lerp(self[1], anotherLCH[1], ratio),
-							Theory.lerp(self[2], anotherLCH[2], ratio)
+					double[] anotherOKLCH = from(another, colorspace);
+					yield new double[] {
+							Theory.lerp(self[0], anotherOKLCH[0], ratio),
+							Theory.lerp(self[1], anotherOKLCH[1], ratio),
+							Theory.lerp(self[2], anotherOKLCH[2], ratio)
 					};
 				}
 				case PIGMENT -> {
 					double[] anotherRGB = RGB.from(another, colorspace);
-					yield  from(floatToDouble(Mixbox.lerpFloat(doubleToFloat(to(self, RGB)), doubleToFloat(anotherRGB), (float) ratio)), RGB);
+					yield from(Pigment.mix(to(self, RGB), anotherRGB, ratio), RGB);
+				}
+				case LINEAR -> {
+					double[] anotherRGB = RGB.from(another, colorspace);
+					yield from(LinearLight.mix(to(self, RGB), anotherRGB, ratio), RGB);
 				}
+				case PERCEPTUAL -> from(OKLAB.mix(to(self, OKLAB), another, ratio, colorspace, MixMode.BLEND), OKLAB);
 				default -> self;
 			};
 		}
@@ -689,30 +423,160 @@ public enum Colorspace implements ColorStandard {
 		@Override
 		public double[] invert(double[] color) {
 			return new double[] {
-					100 - color[0],
-					-color[1],
-					-color[2]
+					1 - color[0],
+					color[1],
+					(color[2] + 180) % 360
 			};
 		}
 
 		@Override
 		public double[] lighten(double[] color, double ratio) {
-			return mix(color, WHITE, ratio, LCH, MixMode.BLEND);
+			return mix(color, WHITE, ratio, OKLCH, MixMode.BLEND);
 		}
 
 		@Override
 		public double[] darken(double[] color, double ratio) {
-			return mix(color, BLACK, ratio, LCH, MixMode.BLEND);
+			return mix(color, BLACK, ratio, OKLCH, MixMode.BLEND);
 		}
 	};
 
 	private final String name;
+	private final int components;
 
-	Colorspace(String name) {
+	Colorspace(String name, int components) {
 		this.name = name;
+		this.components = components;
 	}
 
 	public String getName() {
 		return name;
 	}
+
+	/**
+	 * @return	the number of components a color in this colorspace consists of.
+	 */
+	public int components() {
+		return components;
+	}
+
+	// Conversions
+
+	/**
+	 * Converts a color between two colorspaces, writing the result into the given destination array.
+	 * <br />
+	 * Common pairs ({@code HSV ↔ HSL}, {@code XYZ ↔ LAB ↔ LCH}, {@code OKLAB ↔ OKLCH}) are converted directly, while
+	 * the others take a hop through {@link #RGB}, using the destination array as the intermediate storage. No array is
+	 * allocated, and the array lengths are not checked. The source and the destination may be the same array, as
+	 * long as it is large enough to hold a color in both colorspaces.
+	 * @param src	the source color.
+	 * @param from	the colorspace of the source color.
+	 * @param dst	the destination array, which must hold at least {@code max(to.components(), 3)} components.
+	 * @param to	the colorspace to convert to.
+	 * @return	the destination array.
+	 */
+	public static double[] convert(double[] src, Colorspace from, double[] dst, Colorspace to) {
+		if (from == to) {
+			if (src != dst) System.arraycopy(src, 0, dst, 0, to.components());
+			return dst;
+		}
+
+		return switch (from) {
+			case RGB -> switch (to) {
+				case HSV -> FromRGB.toHSV(src, dst);
+				case HSL -> FromRGB.toHSL(src, dst);
+				case CMYK -> FromRGB.toCMYK(src, dst);
+				case XYZ -> FromRGB.toXYZ(src, dst);
+				case LAB -> FromRGB.toLAB(src, dst);
+				case LCH -> FromRGB.toLCH(src, dst);
+				case OKLAB -> FromRGB.toOKLAB(src, dst);
+				case OKLCH -> FromRGB.toOKLCH(src, dst);
+				default -> dst;
+			};
+			case HSV -> switch (to) {
+				case RGB -> ToRGB.fromHSV(src, dst);
+				case HSL -> FromHSV.toHSL(src, dst);
+				default -> convert(ToRGB.fromHSV(src, dst), RGB, dst, to);
+			};
+			case HSL -> switch (to) {
+				case RGB -> ToRGB.fromHSL(src, dst);
+				case HSV -> FromHSL.toHSV(src, dst);
+				default -> convert(ToRGB.fromHSL(src, dst), RGB, dst, to);
+			};
+			case CMYK -> to == RGB ? ToRGB.fromCMYK(src, dst) : convert(ToRGB.fromCMYK(src, dst), RGB, dst, to);
+			case XYZ -> switch (to) {
+				case RGB -> ToRGB.fromXYZ(src, dst);
+				case LAB -> FromXYZ.toLAB(src, dst);
+				case LCH -> FromXYZ.toLCH(src, dst);
+				default -> convert(ToRGB.fromXYZ(src, dst), RGB, dst, to);
+			};
+			case LAB -> switch (to) {
+				case RGB -> ToRGB.fromLAB(src, dst);
+				case XYZ -> FromLAB.toXYZ(src, dst);
+				case LCH -> FromLAB.toLCH(src, dst);
+				default -> convert(ToRGB.fromLAB(src, dst), RGB, dst, to);
+			};
+			case LCH -> switch (to) {
+				case RGB -> ToRGB.fromLCH(src, dst);
+				case XYZ -> FromLCH.toXYZ(src, dst);
+				case LAB -> FromLCH.toLAB(src, dst);
+				default -> convert(ToRGB.fromLCH(src, dst), RGB, dst, to);
+			};
+			case OKLAB -> switch (to) {
+				case RGB -> ToRGB.fromOKLAB(src, dst);
+				case OKLCH -> FromOKLAB.toOKLCH(src, dst);
+				default -> convert(ToRGB.fromOKLAB(src, dst), RGB, dst, to);
+			};
+			case OKLCH -> switch (to) {
+				case RGB -> ToRGB.fromOKLCH(src, dst);
+				case OKLAB -> FromOKLCH.toOKLAB(src, dst);
+				default -> convert(ToRGB.fromOKLCH(src, dst), RGB, dst, to);
+			};
+		};
+	}
+
+	// Interface Implementations
+
+	@Override
+	public double[] from(double[] color, Colorspace colorspace) {
+		if (colorspace == this) return color;
+
+		checkArrayLength(colorspace.getName(), color, colorspace.components());
+		return convert(color, colorspace, new double[components()], this);
+	}
+
+	@Override
+	public double[] fromInt(int color) {
+		double[] rgb = ToRGB.fromInt(color, new double[components()]);
+		return convert(rgb, RGB, rgb, this);
+	}
+
+	@Override
+	public double[] fromColor(Color color) {
+		return fromInt(color.getRGB());
+	}
+
+	@Override
+	public double[] fromHexString(String color) {
+		return fromInt(hexStringToIntRGB(color));
+	}
+
+	@Override
+	public double[] to(double[] color, Colorspace colorspace) {
+		return colorspace.from(color, this);
+	}
+
+	@Override
+	public int toInt(double[] color) {
+		return FromRGB.toInt(RGB.from(color, this));
+	}
+
+	@Override
+	public Color toColor(double[] color) {
+		return new Color(toInt(color));
+	}
+
+	@Override
+	public String toHexString(double[] color) {
+		return intToHexStringRGB(toInt(color));
+	}
 }
@@ -1,5 +1,7 @@
 package net.krlite.equator.visual.color;
 
+import net.krlite.equator.math.algebra.Theory;
+
 import java.awt.*;
 
 import static net.krlite.equator.visual.color.Colorspace.RGB;
@@ -11,7 +13,7 @@ import static net.krlite.equator.visual.color.Colorspace.RGB;
  */
 public class Palette {
 	public static AccurateColor rainbow(double radians) {
-		return new AccurateColor(Colorspace.HSV, new double[] { Math.toDegrees(radians), 1, 0.72 }, 1);
+		return ColorRamp.HUE_WHEEL.sampleWrapped(radians / Theory.TAU);
 	}
 
 	public static final AccurateColor
@@ -138,6 +140,18 @@ public class Palette {
 				BACKGROUND_RED = AccurateColor.fromARGB(0x3F1515), BACKGROUND_LIGHT_PURPLE = AccurateColor.fromARGB(0x3F153F),
 				BACKGROUND_YELLOW = AccurateColor.fromARGB(0x3F3F15), BACKGROUND_WHITE = AccurateColor.fromARGB(0x3F3F3F);
 
+		/**
+		 * <b>Formatting</b>
+		 * <br />
+		 * The foreground colors indexed in the order of the <b>formatting codes</b> {@code 0} to {@code f}, for
+		 * quantizing arbitrary colors to them.
+		 */
+		public static final PaletteIndex FORMATTING = new PaletteIndex(
+				PaletteIndex.Metric.DELTA_E_OK,
+				BLACK, DARK_BLUE, DARK_GREEN, DARK_AQUA, DARK_RED, DARK_PURPLE, GOLD, GRAY,
+				DARK_GRAY, BLUE, GREEN, AQUA, RED, LIGHT_PURPLE, YELLOW, WHITE
+		);
+
 		/**
 		 * <b>Tooltip</b>
 		 * <br />
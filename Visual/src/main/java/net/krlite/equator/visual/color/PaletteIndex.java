@@ -0,0 +1,359 @@
+package net.krlite.equator.visual.color;
+
+import net.krlite.equator.base.Exceptions;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <h1>PaletteIndex</h1>
+ * Finds the nearest color of a fixed palette, for quantizing arbitrary colors to it.
+ * <br />
+ * The palette is converted into the colorspace of the {@link Metric} once, when the index is built. The Euclidean
+ * metrics search a k-d tree over the converted colors, while {@link Metric#DELTA_E_2000}, which isn't Euclidean and
+ * can't prune the tree, scans the converted colors linearly. Either way, a query converts only the queried color.
+ * <br />
+ * Batch queries over packed colors additionally remember the results of recently seen colors, since images tend
+ * to repeat the same colors many times.
+ */
+public class PaletteIndex {
+	public enum Metric {
+		/**
+		 * The CIE 1976 color difference, the Euclidean distance in {@link Colorspace#LAB}.
+		 */
+		DELTA_E_76(Colorspace.LAB, true),
+		/**
+		 * The CIEDE2000 color difference in {@link Colorspace#LAB}, more accurate to human perception, but slower.
+		 */
+		DELTA_E_2000(Colorspace.LAB, false),
+		/**
+		 * The Euclidean distance in {@link Colorspace#OKLAB}, about as accurate as {@link #DELTA_E_2000} for picking
+		 * the nearest color, at the cost of {@link #DELTA_E_76}.
+		 */
+		DELTA_E_OK(Colorspace.OKLAB, true);
+
+		private final Colorspace colorspace;
+		private final boolean euclidean;
+
+		Metric(Colorspace colorspace, boolean euclidean) {
+			this.colorspace = colorspace;
+			this.euclidean = euclidean;
+		}
+
+		public Colorspace colorspace() {
+			return colorspace;
+		}
+
+		public boolean euclidean() {
+			return euclidean;
+		}
+
+		/**
+		 * @return	the difference between two colors given in {@link #colorspace()}. For the Euclidean metrics, this
+		 * 			is the squared distance.
+		 */
+		double difference(double l1, double a1, double b1, double l2, double a2, double b2) {
+			if (this == DELTA_E_2000) return deltaE2000(l1, a1, b1, l2, a2, b2);
+
+			double dl = l1 - l2, da = a1 - a2, db = b1 - b2;
+			return dl * dl + da * da + db * db;
+		}
+	}
+
+	private static final int MEMO_SIZE = 4096;
+
+	// Constructors
+
+	public PaletteIndex(Collection<AccurateColor> colors, Metric metric) {
+		if (colors.isEmpty()) {
+			throw new Exceptions.PaletteEmptyException();
+		}
+
+		this.colors = List.copyOf(colors);
+		this.metric = metric;
+
+		int size = this.colors.size();
+		this.l = new double[size];
+		this.a = new double[size];
+		this.b = new double[size];
+
+		for (int i = 0; i < size; i++) {
+			double[] color = this.colors.get(i).colorspace(metric.colorspace()).color();
+			l[i] = color[0];
+			a[i] = color[1];
+			b[i] = color[2];
+		}
+
+		this.tree = new int[size];
+		for (int i = 0; i < size; i++) tree[i] = i;
+		if (metric.euclidean()) build(0, size, 0);
+	}
+
+	public PaletteIndex(Collection<AccurateColor> colors) {
+		this(colors, Metric.DELTA_E_OK);
+	}
+
+	public PaletteIndex(Metric metric, AccurateColor... colors) {
+		this(Arrays.asList(colors), metric);
+	}
+
+	// Fields
+
+	private final List<AccurateColor> colors;
+	private final Metric metric;
+	private final double[] l, a, b;
+	// The palette indices, ordered as an implicit k-d tree: the median of every range is the node splitting it
+	private final int[] tree;
+
+	// Accessors
+
+	public List<AccurateColor> colors() {
+		return colors;
+	}
+
+	public Metric metric() {
+		return metric;
+	}
+
+	public int size() {
+		return colors.size();
+	}
+
+	// Queries
+
+	public int nearestIndex(AccurateColor color) {
+		double[] converted = color.colorspace(metric.colorspace()).color();
+		return nearestIndex(converted[0], converted[1], converted[2]);
+	}
+
+	public AccurateColor nearest(AccurateColor color) {
+		return colors.get(nearestIndex(color));
+	}
+
+	/**
+	 * @param argb	the packed color, whose opacity is ignored.
+	 * @return	the index of the nearest palette color.
+	 */
+	public int nearestIndex(int argb) {
+		double[] converted = convert(argb, new double[3]);
+		return nearestIndex(converted[0], converted[1], converted[2]);
+	}
+
+	/**
+	 * Finds the nearest palette colors of many packed colors at once, ignoring their opacity.
+	 * @param argb		the packed colors.
+	 * @param indices	the destination of the palette indices, may be the same array as {@code argb}.
+	 * @param offset	the offset into both arrays.
+	 * @param length	the number of colors.
+	 */
+	public void nearestIndices(int[] argb, int[] indices, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, argb.length);
+		Objects.checkFromIndexSize(offset, length, indices.length);
+
+		int[] memoKeys = new int[MEMO_SIZE], memoValues = new int[MEMO_SIZE];
+		Arrays.fill(memoValues, -1);
+		double[] converted = new double[3];
+
+		for (int i = offset; i < offset + length; i++) {
+			int rgb = argb[i] & 0xFFFFFF;
+			int slot = (rgb * 0x9E3779B9) >>> (32 - 12);
+
+			if (memoValues[slot] >= 0 && memoKeys[slot] == rgb) {
+				indices[i] = memoValues[slot];
+				continue;
+			}
+
+			convert(rgb, converted);
+			int index = nearestIndex(converted[0], converted[1], converted[2]);
+
+			memoKeys[slot] = rgb;
+			memoValues[slot] = index;
+			indices[i] = index;
+		}
+	}
+
+	/**
+	 * Replaces every packed color with its nearest palette color, keeping its opacity.
+	 * @param argb		the packed colors.
+	 * @param dst		the destination, may be the same array as {@code argb}.
+	 * @param offset	the offset into both arrays.
+	 * @param length	the number of colors.
+	 */
+	public void quantize(int[] argb, int[] dst, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, argb.length);
+		Objects.checkFromIndexSize(offset, length, dst.length);
+
+		int[] packed = new int[size()];
+		for (int i = 0; i < packed.length; i++) packed[i] = colors.get(i).toPacked() & 0xFFFFFF;
+
+		int[] indices = new int[length];
+		nearestIndices(argb, indices, offset, length);
+		// Reads the opacity before writing, so argb and dst may be the same array
+		for (int i = 0; i < length; i++) dst[offset + i] = (argb[offset + i] & 0xFF000000) | packed[indices[i]];
+	}
+
+	private double[] convert(int argb, double[] dst) {
+		return Colorspace.convert(ColorConvertor.ToRGB.fromInt(argb, dst), Colorspace.RGB, dst, metric.colorspace());
+	}
+
+	private int nearestIndex(double l, double a, double b) {
+		if (!metric.euclidean()) {
+			int nearest = 0;
+			double best = Double.POSITIVE_INFINITY;
+
+			for (int i = 0; i < size(); i++) {
+				double difference = metric.difference(l, a, b, this.l[i], this.a[i], this.b[i]);
+				if (difference < best) {
+					best = difference;
+					nearest = i;
+				}
+			}
+
+			return nearest;
+		}
+
+		Search search = new Search(l, a, b);
+		search(search, 0, size(), 0);
+		return search.nearest;
+	}
+
+	// k-d Tree
+
+	private static final class Search {
+		final double l, a, b;
+		int nearest = -1;
+		double best = Double.POSITIVE_INFINITY;
+
+		Search(double l, double a, double b) {
+			this.l = l;
+			this.a = a;
+			this.b = b;
+		}
+	}
+
+	private void search(Search search, int from, int to, int depth) {
+		if (from >= to) return;
+
+		int middle = (from + to) >>> 1, node = tree[middle], axis = depth % 3;
+		double difference = metric.difference(search.l, search.a, search.b, l[node], a[node], b[node]);
+
+		if (difference < search.best) {
+			search.best = difference;
+			search.nearest = node;
+		}
+
+		double split = axis(search.l, search.a, search.b, axis) - axis(node, axis);
+		boolean lower = split < 0;
+
+		search(search, lower ? from : middle + 1, lower ? middle : to, depth + 1);
+		// The other side can only be nearer if the splitting plane is
+		if (split * split < search.best) {
+			search(search, lower ? middle + 1 : from, lower ? to : middle, depth + 1);
+		}
+	}
+
+	private void build(int from, int to, int depth) {
+		if (to - from <= 1) return;
+
+		int middle = (from + to) >>> 1, axis = depth % 3;
+		select(from, to - 1, middle, axis);
+
+		build(from, middle, depth + 1);
+		build(middle + 1, to, depth + 1);
+	}
+
+	/**
+	 * Partially sorts {@code tree[from..to]} so that {@code tree[k]} holds the node which would be there if the range
+	 * was sorted along the axis.
+	 */
+	private void select(int from, int to, int k, int axis) {
+		while (from < to) {
+			double pivot = axis(tree[(from + to) >>> 1], axis);
+			int i = from, j = to;
+
+			while (i <= j) {
+				while (axis(tree[i], axis) < pivot) i++;
+				while (axis(tree[j], axis) > pivot) j--;
+
+				if (i <= j) {
+					int swap = tree[i];
+					tree[i++] = tree[j];
+					tree[j--] = swap;
+				}
+			}
+
+			if (k <= j) to = j;
+			else if (k >= i) from = i;
+			else return;
+		}
+	}
+
+	private double axis(int node, int axis) {
+		return axis(l[node], a[node], b[node], axis);
+	}
+
+	private static double axis(double l, double a, double b, int axis) {
+		return axis == 0 ? l : axis == 1 ? a : b;
+	}
+
+	// Color Differences
+
+	/**
+	 * The CIEDE2000 color difference, following Sharma, Wu and Dalal's implementation notes.
+	 */
+	static double deltaE2000(double l1, double a1, double b1, double l2, double a2, double b2) {
+		double c1 = Math.sqrt(a1 * a1 + b1 * b1), c2 = Math.sqrt(a2 * a2 + b2 * b2);
+		double cMean7 = Math.pow((c1 + c2) / 2, 7);
+		double g = 0.5 * (1 - Math.sqrt(cMean7 / (cMean7 + 6103515625.0))); // 25^7
+
+		double a1Prime = (1 + g) * a1, a2Prime = (1 + g) * a2;
+		double c1Prime = Math.sqrt(a1Prime * a1Prime + b1 * b1), c2Prime = Math.sqrt(a2Prime * a2Prime + b2 * b2);
+		double h1Prime = hueAngle(b1, a1Prime), h2Prime = hueAngle(b2, a2Prime);
+
+		double deltaL = l2 - l1, deltaC = c2Prime - c1Prime;
+		double deltaH = 0;
+
+		if (c1Prime * c2Prime != 0) {
+			double deltaHue = h2Prime - h1Prime;
+			if (deltaHue > 180) deltaHue -= 360;
+			else if (deltaHue < -180) deltaHue += 360;
+
+			deltaH = 2 * Math.sqrt(c1Prime * c2Prime) * Math.sin(Math.toRadians(deltaHue / 2));
+		}
+
+		double lMean = (l1 + l2) / 2, cMeanPrime = (c1Prime + c2Prime) / 2;
+		double hMean = h1Prime + h2Prime;
+
+		if (c1Prime * c2Prime != 0) {
+			if (Math.abs(h1Prime - h2Prime) <= 180) hMean /= 2;
+			else hMean = hMean < 360 ? (hMean + 360) / 2 : (hMean - 360) / 2;
+		}
+
+		double t = 1
+						   - 0.17 * Math.cos(Math.toRadians(hMean - 30))
+						   + 0.24 * Math.cos(Math.toRadians(2 * hMean))
+						   + 0.32 * Math.cos(Math.toRadians(3 * hMean + 6))
+						   - 0.20 * Math.cos(Math.toRadians(4 * hMean - 63));
+
+		double lMean50 = (lMean - 50) * (lMean - 50);
+		double sL = 1 + 0.015 * lMean50 / Math.sqrt(20 + lMean50);
+		double sC = 1 + 0.045 * cMeanPrime;
+		double sH = 1 + 0.015 * cMeanPrime * t;
+
+		double cMeanPrime7 = Math.pow(cMeanPrime, 7);
+		double deltaTheta = 30 * Math.exp(-Math.pow((hMean - 275) / 25, 2));
+		double rT = -2 * Math.sqrt(cMeanPrime7 / (cMeanPrime7 + 6103515625.0)) * Math.sin(Math.toRadians(2 * deltaTheta));
+
+		double l = deltaL / sL, c = deltaC / sC, h = deltaH / sH;
+		return Math.sqrt(l * l + c * c + h * h + rT * c * h);
+	}
+
+	private static double hueAngle(double b, double aPrime) {
+		if (b == 0 && aPrime == 0) return 0;
+
+		double hue = Math.toDegrees(Math.atan2(b, aPrime));
+		return hue < 0 ? hue + 360 : hue;
+	}
+}
@@ -0,0 +1,116 @@
+package net.krlite.equator.visual.color;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks {@link ColorBatch} against {@link ColorConvertor} applied to every color. Runs on the scalar loops by
+ * default, and on the Vector API through the {@code testVectorized} task.
+ */
+class ColorBatchTest {
+	private static final int COUNT = 65539, OFFSET = 3, PADDING = 7;
+	private static final double DOUBLE_TOLERANCE = 1e-9;
+	private static final float FLOAT_TOLERANCE = 1e-3F;
+
+	/**
+	 * Random colors, half of them darker than {@code 0.15} per channel so that the linear segment of LAB is
+	 * covered, starting from black and white. The planes are padded on both sides, and the count is not a multiple
+	 * of any vector length, so that the scalar tail runs too.
+	 */
+	private static double[][] colors() {
+		Random random = new Random(0x5EED);
+		double[][] rgb = new double[3][OFFSET + COUNT + PADDING];
+
+		for (int i = 0; i < COUNT; i++) {
+			double scale = i == 1 ? 1 : i % 2 == 0 ? 0.15 : 1;
+
+			for (int channel = 0; channel < 3; channel++) {
+				rgb[channel][OFFSET + i] = i == 0 ? 0 : i == 1 ? 1 : random.nextDouble() * scale;
+			}
+		}
+
+		return rgb;
+	}
+
+	private static float[] toFloat(double[] plane) {
+		float[] floats = new float[plane.length];
+
+		for (int i = 0; i < plane.length; i++) {
+			floats[i] = (float) plane[i];
+		}
+
+		return floats;
+	}
+
+	@Test
+	void doublePlanesMatchTheConvertor() {
+		double[][] rgb = colors();
+		double[] L = new double[rgb[0].length], a = new double[L.length], b = new double[L.length];
+		Arrays.fill(L, Double.NaN);
+		double[] red = new double[L.length], green = new double[L.length], blue = new double[L.length];
+
+		ColorBatch.FromRGB.toLAB(rgb[0], rgb[1], rgb[2], L, a, b, OFFSET, COUNT);
+		ColorBatch.ToRGB.fromLAB(L, a, b, red, green, blue, OFFSET, COUNT);
+
+		for (int i = OFFSET; i < OFFSET + COUNT; i++) {
+			double[] lab = ColorConvertor.FromRGB.toLAB(new double[] { rgb[0][i], rgb[1][i], rgb[2][i] });
+			double[] back = ColorConvertor.ToRGB.fromLAB(lab);
+
+			assertEquals(lab[0], L[i], DOUBLE_TOLERANCE, "L at " + i);
+			assertEquals(lab[1], a[i], DOUBLE_TOLERANCE, "a at " + i);
+			assertEquals(lab[2], b[i], DOUBLE_TOLERANCE, "b at " + i);
+
+			assertEquals(back[0], red[i], DOUBLE_TOLERANCE, "red at " + i);
+			assertEquals(back[1], green[i], DOUBLE_TOLERANCE, "green at " + i);
+			assertEquals(back[2], blue[i], DOUBLE_TOLERANCE, "blue at " + i);
+		}
+
+		assertTrue(Double.isNaN(L[OFFSET - 1]) && Double.isNaN(L[OFFSET + COUNT]), "the padding was written");
+	}
+
+	@Test
+	void floatPlanesMatchTheConvertor() {
+		double[][] rgb = colors();
+		float[] redIn = toFloat(rgb[0]), greenIn = toFloat(rgb[1]), blueIn = toFloat(rgb[2]);
+		float[] L = new float[redIn.length], a = new float[L.length], b = new float[L.length];
+		Arrays.fill(L, Float.NaN);
+		float[] red = new float[L.length], green = new float[L.length], blue = new float[L.length];
+
+		ColorBatch.FromRGB.toLAB(redIn, greenIn, blueIn, L, a, b, OFFSET, COUNT);
+		ColorBatch.ToRGB.fromLAB(L, a, b, red, green, blue, OFFSET, COUNT);
+
+		for (int i = OFFSET; i < OFFSET + COUNT; i++) {
+			double[] lab = ColorConvertor.FromRGB.toLAB(new double[] { redIn[i], greenIn[i], blueIn[i] });
+			double[] back = ColorConvertor.ToRGB.fromLAB(lab);
+
+			assertEquals((float) lab[0], L[i], FLOAT_TOLERANCE, "L at " + i);
+			assertEquals((float) lab[1], a[i], FLOAT_TOLERANCE, "a at " + i);
+			assertEquals((float) lab[2], b[i], FLOAT_TOLERANCE, "b at " + i);
+
+			assertEquals((float) back[0], red[i], FLOAT_TOLERANCE, "red at " + i);
+			assertEquals((float) back[1], green[i], FLOAT_TOLERANCE, "green at " + i);
+			assertEquals((float) back[2], blue[i], FLOAT_TOLERANCE, "blue at " + i);
+		}
+
+		assertTrue(Float.isNaN(L[OFFSET - 1]) && Float.isNaN(L[OFFSET + COUNT]), "the padding was written");
+	}
+
+	@Test
+	void planesMayBeConvertedInPlace() {
+		double[][] rgb = colors();
+		double[] x = rgb[0].clone(), y = rgb[1].clone(), z = rgb[2].clone();
+
+		ColorBatch.FromXYZ.toLAB(x, y, z, x, y, z, OFFSET, COUNT);
+		ColorBatch.FromLAB.toXYZ(x, y, z, x, y, z, OFFSET, COUNT);
+
+		for (int i = OFFSET; i < OFFSET + COUNT; i++) {
+			assertEquals(rgb[0][i], x[i], DOUBLE_TOLERANCE, "x at " + i);
+			assertEquals(rgb[1][i], y[i], DOUBLE_TOLERANCE, "y at " + i);
+			assertEquals(rgb[2][i], z[i], DOUBLE_TOLERANCE, "z at " + i);
+		}
+	}
+}
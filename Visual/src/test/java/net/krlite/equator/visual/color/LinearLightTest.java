@@ -0,0 +1,52 @@
+package net.krlite.equator.visual.color;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the lookup tables of {@link LinearLight} against the exact transfer function.
+ */
+class LinearLightTest {
+	private static final int SAMPLES = 1_000_000;
+	private static final double DEVIATION_BOUND = 1e-8, ROUND_TRIP_BOUND = 1e-7;
+
+	@Test
+	void tablesStayWithinTheirBound() {
+		for (int i = 0; i <= SAMPLES; i++) {
+			double value = i / (double) SAMPLES;
+
+			assertEquals(LinearLight.decodeExactly(value), LinearLight.toLinear(value), DEVIATION_BOUND, "decode " + value);
+			assertEquals(LinearLight.encodeExactly(value), LinearLight.toSRGB(value), DEVIATION_BOUND, "encode " + value);
+			assertEquals(value, LinearLight.toSRGB(LinearLight.toLinear(value)), ROUND_TRIP_BOUND, "round trip " + value);
+		}
+	}
+
+	@Test
+	void kinksAndEndsAreExact() {
+		// The linear segments are computed, not interpolated
+		assertEquals(0.04045 / 12.92, LinearLight.toLinear(0.04045));
+		assertEquals(0.0031308 * 12.92, LinearLight.toSRGB(0.0031308));
+
+		assertEquals(1.0, LinearLight.toLinear(1.0));
+		assertEquals(1.0, LinearLight.toSRGB(1.0));
+	}
+
+	@Test
+	void outOfRangeComponentsAreClamped() {
+		assertEquals(0.0, LinearLight.toLinear(-0.5));
+		assertEquals(0.0, LinearLight.toSRGB(-0.5));
+		assertEquals(0.0, LinearLight.toLinear(Double.NaN));
+		assertEquals(0.0, LinearLight.toSRGB(Double.NaN));
+
+		assertEquals(1.0, LinearLight.toLinear(2.0));
+		assertEquals(1.0, LinearLight.toSRGB(2.0));
+	}
+
+	@Test
+	void eightBitComponentsAreExact() {
+		for (int i = 0; i < 256; i++) {
+			assertEquals((float) LinearLight.decodeExactly(i / 255.0), LinearLight.toLinear(i), "decode " + i);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package net.krlite.equator.visual.color;
+
+import net.krlite.equator.visual.color.base.ColorStandard.MixMode;
+
+import java.util.Random;
+
+/**
+ * Compares the cost of mixing two sRGB colors through {@link MixMode#PERCEPTUAL} against {@link MixMode#PIGMENT}
+ * and a blend in {@link Colorspace#LAB}, with {@link MixMode#BLEND} and {@link MixMode#LINEAR} for scale. Run
+ * through the {@code benchmark} task.
+ * <br />
+ * Each case mixes the same {@code 4096} random pairs of colors at random ratios, with the loop inside the case so
+ * that calling the case costs nothing per mix. The best of several rounds is reported, after a warm-up that lets
+ * the JIT compile every case.
+ */
+public final class MixBenchmark {
+	private static final int SIZE = 1 << 12, WARMUP = 200, ROUNDS = 10, ITERATIONS = 20;
+
+	/**
+	 * Keeps the sums alive, so that the JIT cannot drop the loops.
+	 */
+	private static double sink;
+
+	@FunctionalInterface
+	private interface Mixer {
+		double[] mix(double[] rgb, double[] anotherRGB, double ratio);
+	}
+
+	private record Case(String name, Mixer mixer) {
+	}
+
+	public static void main(String[] args) {
+		Random random = new Random(0x5EED);
+		double[][] colors = new double[SIZE][], anotherColors = new double[SIZE][];
+		double[] ratios = new double[SIZE];
+
+		for (int i = 0; i < SIZE; i++) {
+			colors[i] = new double[] { random.nextDouble(), random.nextDouble(), random.nextDouble() };
+			anotherColors[i] = new double[] { random.nextDouble(), random.nextDouble(), random.nextDouble() };
+			ratios[i] = random.nextDouble();
+		}
+
+		// The first case is the one the others are compared against
+		Case[] cases = {
+				new Case("PERCEPTUAL", (rgb, anotherRGB, ratio) -> Colorspace.RGB.mix(rgb, anotherRGB, ratio, Colorspace.RGB, MixMode.PERCEPTUAL)),
+				// The way PERCEPTUAL mixes through OKLab, but through CIELAB
+				new Case("LAB", (rgb, anotherRGB, ratio) -> Colorspace.RGB.from(
+						Colorspace.LAB.mix(Colorspace.RGB.to(rgb, Colorspace.LAB), anotherRGB, ratio, Colorspace.RGB, MixMode.BLEND),
+						Colorspace.LAB
+				)),
+				new Case("PIGMENT", (rgb, anotherRGB, ratio) -> Colorspace.RGB.mix(rgb, anotherRGB, ratio, Colorspace.RGB, MixMode.PIGMENT)),
+				new Case("BLEND", (rgb, anotherRGB, ratio) -> Colorspace.RGB.mix(rgb, anotherRGB, ratio, Colorspace.RGB, MixMode.BLEND)),
+				new Case("LINEAR", (rgb, anotherRGB, ratio) -> Colorspace.RGB.mix(rgb, anotherRGB, ratio, Colorspace.RGB, MixMode.LINEAR))
+		};
+
+		for (Case benchmark : cases) {
+			measure(benchmark.mixer(), colors, anotherColors, ratios, WARMUP);
+		}
+
+		double[] costs = new double[cases.length];
+
+		for (int i = 0; i < cases.length; i++) {
+			costs[i] = best(cases[i].mixer(), colors, anotherColors, ratios);
+		}
+
+		System.out.printf("%-12s%10s%14s%n", "", "ns/mix", "x PERCEPTUAL");
+
+		for (int i = 0; i < cases.length; i++) {
+			System.out.printf("%-12s%10.1f%13.2fx%n", cases[i].name(), costs[i], costs[i] / costs[0]);
+		}
+	}
+
+	/**
+	 * @return	the nanoseconds per mix of the fastest round.
+	 */
+	private static double best(Mixer mixer, double[][] colors, double[][] anotherColors, double[] ratios) {
+		double best = Double.POSITIVE_INFINITY;
+
+		for (int round = 0; round < ROUNDS; round++) {
+			best = Math.min(best, measure(mixer, colors, anotherColors, ratios, ITERATIONS));
+		}
+
+		return best;
+	}
+
+	private static double measure(Mixer mixer, double[][] colors, double[][] anotherColors, double[] ratios, int iterations) {
+		long start = System.nanoTime();
+
+		for (int i = 0; i < iterations; i++) {
+			double sum = 0;
+
+			for (int j = 0; j < colors.length; j++) {
+				sum += mixer.mix(colors[j], anotherColors[j], ratios[j])[0];
+			}
+
+			sink += sum;
+		}
+
+		return (double) (System.nanoTime() - start) / iterations / colors.length;
+	}
+}
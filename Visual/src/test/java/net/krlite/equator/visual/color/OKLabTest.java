@@ -0,0 +1,79 @@
+package net.krlite.equator.visual.color;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the OKLab conversions of {@link ColorConvertor} to the reference values published with OKLab, and their
+ * round trips to {@code 1e-7}, so that neither the matrices nor the {@link LinearLight} tables drift.
+ */
+class OKLabTest {
+	private static final int SAMPLES = 1_000_000;
+	private static final double REFERENCE_TOLERANCE = 1e-6, WHITE_TOLERANCE = 1e-7, ROUND_TRIP_BOUND = 1e-7;
+
+	private static void assertOKLab(double L, double a, double b, double[] rgb) {
+		double[] Lab = ColorConvertor.FromRGB.toOKLAB(rgb);
+
+		assertEquals(L, Lab[0], REFERENCE_TOLERANCE, "L");
+		assertEquals(a, Lab[1], REFERENCE_TOLERANCE, "a");
+		assertEquals(b, Lab[2], REFERENCE_TOLERANCE, "b");
+	}
+
+	@Test
+	void primariesMatchTheReference() {
+		assertOKLab(0.627955, 0.224863, 0.125846, new double[] { 1, 0, 0 });
+		assertOKLab(0.866440, -0.233888, 0.179498, new double[] { 0, 1, 0 });
+		assertOKLab(0.452014, -0.032457, -0.311528, new double[] { 0, 0, 1 });
+	}
+
+	@Test
+	void whiteAndBlackAreNeutral() {
+		double[] white = ColorConvertor.FromRGB.toOKLAB(new double[] { 1, 1, 1 });
+
+		assertEquals(1, white[0], WHITE_TOLERANCE, "L of white");
+		assertEquals(0, white[1], WHITE_TOLERANCE, "a of white");
+		assertEquals(0, white[2], WHITE_TOLERANCE, "b of white");
+
+		assertArrayEquals(new double[] { 0, 0, 0 }, ColorConvertor.FromRGB.toOKLAB(new double[] { 0, 0, 0 }));
+	}
+
+	@Test
+	void oklchIsThePolarForm() {
+		double[] LCh = ColorConvertor.FromRGB.toOKLCH(new double[] { 1, 0, 0 });
+
+		assertEquals(0.627955, LCh[0], REFERENCE_TOLERANCE, "L");
+		assertEquals(0.257683, LCh[1], REFERENCE_TOLERANCE, "C");
+		assertEquals(29.2339, LCh[2], 1e-4, "h");
+	}
+
+	/**
+	 * Random colors, half of them darker than {@code 0.1} per channel, where encoding back to sRGB is steepest.
+	 */
+	@Test
+	void roundTripsStayWithinTheirBound() {
+		Random random = new Random(0x5EED);
+
+		for (int i = 0; i < SAMPLES; i++) {
+			double scale = i % 2 == 0 ? 0.1 : 1;
+			double[] rgb = { random.nextDouble() * scale, random.nextDouble() * scale, random.nextDouble() * scale };
+
+			double[] Lab = ColorConvertor.FromRGB.toOKLAB(rgb);
+			double[] back = ColorConvertor.ToRGB.fromOKLAB(Lab);
+			double[] LabBack = ColorConvertor.FromRGB.toOKLAB(back);
+
+			for (int channel = 0; channel < 3; channel++) {
+				assertEquals(rgb[channel], back[channel], ROUND_TRIP_BOUND, "sRGB round trip of channel " + channel + " at " + i);
+				assertEquals(Lab[channel], LabBack[channel], ROUND_TRIP_BOUND, "OKLab round trip of channel " + channel + " at " + i);
+			}
+
+			double[] viaLCh = ColorConvertor.ToRGB.fromOKLCH(ColorConvertor.FromRGB.toOKLCH(rgb));
+
+			for (int channel = 0; channel < 3; channel++) {
+				assertEquals(rgb[channel], viaLCh[channel], ROUND_TRIP_BOUND, "OKLCh round trip of channel " + channel + " at " + i);
+			}
+		}
+	}
+}
@@ -38,6 +38,11 @@ java {
 	withSourcesJar()
 }
 
+tasks.withType<JavaCompile>().configureEach {
+	// The optional Vector API path of ColorBatch, only loaded at runtime when the module is present
+	options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
 tasks {
 	processResources {
 		inputs.property("version", libs.versions.mod.get())
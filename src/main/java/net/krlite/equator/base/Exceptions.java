@@ -21,6 +21,36 @@ public class Exceptions {
 		}
 	}
 
+	public static class RampSamplesTooFewException extends IllegalArgumentException {
+		public RampSamplesTooFewException(int samples) {
+			super("Color ramp must have at least 2 samples, but was " + samples);
+		}
+	}
+
+	public static class PaletteEmptyException extends IllegalArgumentException {
+		public PaletteEmptyException() {
+			super("Palette must not be empty");
+		}
+	}
+
+	public static class AffineNotInvertibleException extends ArithmeticException {
+		public AffineNotInvertibleException(double determinant) {
+			super("Affine transformation is not invertible, its determinant was " + determinant);
+		}
+	}
+
+	public static class CellSizeMustBePositiveException extends IllegalArgumentException {
+		public CellSizeMustBePositiveException(double cellSize) {
+			super("Cell size must be positive and finite, but was " + cellSize);
+		}
+	}
+
+	public static class LayoutNodeAttachedException extends IllegalStateException {
+		public LayoutNodeAttachedException(String node) {
+			super("Layout node " + node + " is already attached to a parent");
+		}
+	}
+
 	public static class IdentifierNotFoundException extends IOException {
 		public IdentifierNotFoundException(Identifier identifier, Throwable cause) {
 			super("Resource " + identifier.toString() + " not found", cause);
@@ -0,0 +1,297 @@
+package net.krlite.equator.math.algebra;
+
+import net.krlite.equator.base.Exceptions;
+import net.krlite.equator.math.geometry.flat.Box;
+import net.krlite.equator.math.geometry.flat.MutableVector;
+import net.krlite.equator.math.geometry.flat.Vector;
+import net.krlite.equator.math.logic.base.Transformative;
+import net.minecraft.client.util.math.MatrixStack;
+import org.joml.Matrix3x2d;
+import org.joml.Matrix3x2dc;
+import org.joml.Matrix4f;
+
+import java.util.Objects;
+
+/**
+ * <h1>Affine2D</h1>
+ * A 2D affine transformation, stored as the {@code 3×2} matrix
+ * <pre>
+ * 	x' = m00 · x + m10 · y + m20
+ * 	y' = m01 · x + m11 · y + m21
+ * </pre>
+ * which follows the column layout of {@link Matrix3x2d}. Transformations compose by multiplication, so a chain of
+ * any length costs the same six multiply-adds to apply.
+ * @see net.krlite.equator.math.logic.flat.FlatTransform#compile()
+ */
+public record Affine2D(double m00, double m01, double m10, double m11, double m20, double m21) implements Transformative<Affine2D> {
+	// Constants
+
+	public static final Affine2D IDENTITY = new Affine2D(1, 0, 0, 1, 0, 0);
+
+	// Static Constructors
+
+	public static Affine2D from(Matrix3x2dc matrix) {
+		return new Affine2D(matrix.m00(), matrix.m01(), matrix.m10(), matrix.m11(), matrix.m20(), matrix.m21());
+	}
+
+	public static Affine2D translation(double x, double y) {
+		return new Affine2D(1, 0, 0, 1, x, y);
+	}
+
+	public static Affine2D translation(Vector vector) {
+		return translation(vector.x(), vector.y());
+	}
+
+	public static Affine2D scaling(double x, double y) {
+		return new Affine2D(x, 0, 0, y, 0, 0);
+	}
+
+	public static Affine2D scaling(double scalar) {
+		return scaling(scalar, scalar);
+	}
+
+	/**
+	 * @param angle	the angle <b>in radians,</b> positive from the positive x-axis towards the positive y-axis.
+	 */
+	public static Affine2D rotation(double angle) {
+		double cos = Math.cos(angle), sin = Math.sin(angle);
+		return new Affine2D(cos, sin, -sin, cos, 0, 0);
+	}
+
+	public static Affine2D rotationDegrees(double angleDegrees) {
+		return rotation(Math.toRadians(angleDegrees));
+	}
+
+	/**
+	 * @param x	the shear along the x-axis, added to {@code x} for each unit of {@code y}.
+	 * @param y	the shear along the y-axis, added to {@code y} for each unit of {@code x}.
+	 */
+	public static Affine2D shearing(double x, double y) {
+		return new Affine2D(1, y, x, 1, 0, 0);
+	}
+
+	// Properties
+
+	public double determinant() {
+		return m00() * m11() - m01() * m10();
+	}
+
+	public boolean isIdentity() {
+		return equals(IDENTITY);
+	}
+
+	public boolean isInvertible() {
+		return !Theory.isZero(determinant());
+	}
+
+	/**
+	 * @return	{@code true -} if the transformation keeps axis-aligned boxes axis-aligned, that is, it only
+	 * translates, scales and negates.
+	 * <br />	{@code false -} otherwise.
+	 */
+	public boolean isAxisAligned() {
+		return m01() == 0 && m10() == 0;
+	}
+
+	// Operations
+
+	/**
+	 * <h1>{@code after · this}</h1>
+	 * Composes this transformation with another one, which is applied after this one.
+	 * @param after	the transformation to apply after this one.
+	 * @return	a new transformation equivalent to applying this one, and then the given one.
+	 */
+	@Override
+	public Affine2D andThen(Affine2D after) {
+		return new Affine2D(
+				after.m00() * m00() + after.m10() * m01(),
+				after.m01() * m00() + after.m11() * m01(),
+				after.m00() * m10() + after.m10() * m11(),
+				after.m01() * m10() + after.m11() * m11(),
+				after.m00() * m20() + after.m10() * m21() + after.m20(),
+				after.m01() * m20() + after.m11() * m21() + after.m21()
+		);
+	}
+
+	/**
+	 * <h1>{@code this · before}</h1>
+	 * Composes this transformation with another one, which is applied before this one.
+	 * @param before	the transformation to apply before this one.
+	 * @return	a new transformation equivalent to applying the given one, and then this one.
+	 */
+	public Affine2D compose(Affine2D before) {
+		return before.andThen(this);
+	}
+
+	public Affine2D translate(double x, double y) {
+		return new Affine2D(m00(), m01(), m10(), m11(), m20() + x, m21() + y);
+	}
+
+	public Affine2D scale(double x, double y) {
+		return new Affine2D(m00() * x, m01() * y, m10() * x, m11() * y, m20() * x, m21() * y);
+	}
+
+	public Affine2D scale(double scalar) {
+		return scale(scalar, scalar);
+	}
+
+	public Affine2D rotate(double angle) {
+		return andThen(rotation(angle));
+	}
+
+	public Affine2D rotateDegrees(double angleDegrees) {
+		return andThen(rotationDegrees(angleDegrees));
+	}
+
+	public Affine2D shear(double x, double y) {
+		return andThen(shearing(x, y));
+	}
+
+	public Affine2D invert() {
+		double determinant = determinant();
+
+		if (Theory.isZero(determinant)) {
+			throw new Exceptions.AffineNotInvertibleException(determinant);
+		}
+
+		double inverse = 1 / determinant;
+		return new Affine2D(
+				m11() * inverse,
+				-m01() * inverse,
+				-m10() * inverse,
+				m00() * inverse,
+				(m10() * m21() - m11() * m20()) * inverse,
+				(m01() * m20() - m00() * m21()) * inverse
+		);
+	}
+
+	public Affine2D interpolate(Affine2D another, double factor) {
+		return new Affine2D(
+				Theory.lerp(m00(), another.m00(), factor),
+				Theory.lerp(m01(), another.m01(), factor),
+				Theory.lerp(m10(), another.m10(), factor),
+				Theory.lerp(m11(), another.m11(), factor),
+				Theory.lerp(m20(), another.m20(), factor),
+				Theory.lerp(m21(), another.m21(), factor)
+		);
+	}
+
+
+
+	public double transformX(double x, double y) {
+		return m00() * x + m10() * y + m20();
+	}
+
+	public double transformY(double x, double y) {
+		return m01() * x + m11() * y + m21();
+	}
+
+	public Vector transform(double x, double y) {
+		return Vector.fromCartesian(transformX(x, y), transformY(x, y));
+	}
+
+	public Vector transform(Vector vector) {
+		return transform(vector.x(), vector.y());
+	}
+
+	public MutableVector transform(MutableVector vector) {
+		return vector.set(transformX(vector.x(), vector.y()), transformY(vector.x(), vector.y()));
+	}
+
+	/**
+	 * Transforms a direction, ignoring the translation.
+	 */
+	public Vector transformDirection(Vector vector) {
+		return Vector.fromCartesian(m00() * vector.x() + m10() * vector.y(), m01() * vector.x() + m11() * vector.y());
+	}
+
+	/**
+	 * Transforms a box. Since a {@link Box} is not rotatable, a rotation or a shear yields the smallest box that
+	 * contains the transformed corners.
+	 * @param box	the box to transform.
+	 * @return	a new box.
+	 */
+	public Box transform(Box box) {
+		double left = box.left(), top = box.top(), right = box.right(), bottom = box.bottom();
+
+		if (isAxisAligned()) {
+			return new Box(transformX(left, top), transformY(left, top), transformX(right, bottom), transformY(right, bottom));
+		}
+
+		double x0 = transformX(left, top), x1 = transformX(right, top), x2 = transformX(left, bottom), x3 = transformX(right, bottom);
+		double y0 = transformY(left, top), y1 = transformY(right, top), y2 = transformY(left, bottom), y3 = transformY(right, bottom);
+
+		return new Box(
+				Math.min(Math.min(x0, x1), Math.min(x2, x3)), Math.min(Math.min(y0, y1), Math.min(y2, y3)),
+				Math.max(Math.max(x0, x1), Math.max(x2, x3)), Math.max(Math.max(y0, y1), Math.max(y2, y3))
+		);
+	}
+
+	/**
+	 * Transforms points stored as planes, where the {@code i}-th point is {@code (x[i], y[i])}, in place.
+	 */
+	public void transform(double[] x, double[] y, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, x.length);
+		Objects.checkFromIndexSize(offset, length, y.length);
+
+		for (int i = offset; i < offset + length; i++) {
+			double xi = x[i], yi = y[i];
+			x[i] = m00 * xi + m10 * yi + m20;
+			y[i] = m01 * xi + m11 * yi + m21;
+		}
+	}
+
+	/**
+	 * Transforms interleaved points, {@code x0, y0, x1, y1, ...}, in place.
+	 * @param coordinates	the interleaved coordinates.
+	 * @param offset		the index of the first point's {@code x}.
+	 * @param count			the number of points.
+	 */
+	public void transform(float[] coordinates, int offset, int count) {
+		Objects.checkFromIndexSize(offset, count * 2, coordinates.length);
+
+		float m00 = (float) this.m00, m01 = (float) this.m01, m10 = (float) this.m10, m11 = (float) this.m11;
+		float m20 = (float) this.m20, m21 = (float) this.m21;
+
+		for (int i = offset; i < offset + count * 2; i += 2) {
+			float x = coordinates[i], y = coordinates[i + 1];
+			coordinates[i] = m00 * x + m10 * y + m20;
+			coordinates[i + 1] = m01 * x + m11 * y + m21;
+		}
+	}
+
+	/**
+	 * Multiplies the position matrix of the given {@link MatrixStack} by this transformation, on the
+	 * {@code xy} plane.
+	 * @param matrixStack	the matrix stack to transform.
+	 */
+	public void applyTo(MatrixStack matrixStack) {
+		matrixStack.multiplyPositionMatrix(toMatrix4f());
+	}
+
+	public Matrix3x2d toMatrix3x2d() {
+		return new Matrix3x2d(m00(), m01(), m10(), m11(), m20(), m21());
+	}
+
+	public Matrix4f toMatrix4f() {
+		return new Matrix4f(
+				(float) m00(), (float) m01(), 0, 0,
+				(float) m10(), (float) m11(), 0, 0,
+				0, 0, 1, 0,
+				(float) m20(), (float) m21(), 0, 1
+		);
+	}
+
+	// Object Methods
+
+	@Override
+	public String toString() {
+		return toString(false);
+	}
+
+	public String toString(boolean precisely) {
+		return getClass().getSimpleName() + (precisely
+													? String.format("[%f, %f, %f; %f, %f, %f]", m00(), m10(), m20(), m01(), m11(), m21())
+													: String.format("[%.5f, %.5f, %.5f; %.5f, %.5f, %.5f]", m00(), m10(), m20(), m01(), m11(), m21()));
+	}
+}
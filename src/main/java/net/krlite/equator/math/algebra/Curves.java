@@ -420,7 +420,7 @@ public class Curves {
 					return 1.0;
 				} else {
 					double s = period / (2 * Math.PI) * Math.asin(1 / amplitude);
-					return -(amplitude * Math.pow(2, 10 * --progress) * Math.sin((progress - s) * (2 * Math.PI) / period));
+					return -(amplitude * Theory.exp2(10 * --progress) * Theory.sin((progress - s) * (2 * Math.PI) / period));
 				}
 			});
 		}
@@ -441,7 +441,7 @@ public class Curves {
 					return 1.0;
 				} else {
 					double s = period / (2 * Math.PI) * Math.asin(1 / amplitude);
-					return amplitude * Math.pow(2, -10 * progress) * Math.sin((progress - s) * (2 * Math.PI) / period) + 1;
+					return amplitude * Theory.exp2(-10 * progress) * Theory.sin((progress - s) * (2 * Math.PI) / period) + 1;
 				}
 			});
 		}
@@ -464,9 +464,9 @@ public class Curves {
 					double s = period / (2 * Math.PI) * Math.asin(1 / amplitude);
 					progress *= 2;
 					if (progress < 1) {
-						return -0.5 * (amplitude * Math.pow(2, 10 * --progress) * Math.sin((progress - s) * (2 * Math.PI) / period));
+						return -0.5 * (amplitude * Theory.exp2(10 * --progress) * Theory.sin((progress - s) * (2 * Math.PI) / period));
 					} else {
-						return amplitude * Math.pow(2, -10 * --progress) * Math.sin((progress - s) * (2 * Math.PI) / period) * 0.5 + 1;
+						return amplitude * Theory.exp2(-10 * --progress) * Theory.sin((progress - s) * (2 * Math.PI) / period) * 0.5 + 1;
 					}
 				}
 			});
@@ -546,21 +546,21 @@ public class Curves {
 		 * <h2><code>f(x) = 1 - cos(x * π / 2)</code></h2>
 		 * A <b>fade-in</b> {@code sinusoidal} curve.
 		 */
-		public static final Slice IN = Slice.map(progress -> 1 - Math.cos(progress * Math.PI / 2));
+		public static final Slice IN = Slice.map(progress -> 1 - Theory.cos(progress * Math.PI / 2));
 
 		/**
 		 * <b>Sinusoidal (fade-out)</b>
 		 * <h2><code>f(x) = sin(x * π / 2)</code></h2>
 		 * A <b>fade-out</b> {@code sinusoidal} curve.
 		 */
-		public static final Slice OUT = Slice.map(progress -> Math.sin(progress * Math.PI / 2));
+		public static final Slice OUT = Slice.map(progress -> Theory.sin(progress * Math.PI / 2));
 
 		/**
 		 * <b>Sinusoidal</b>
 		 * <h2><code>f(x) = (1 - cos(x * π)) / 2</code></h2>
 		 * A {@code sinusoidal} curve.
 		 */
-		public static final Slice EASE = Slice.map(progress -> (1 - Math.cos(progress * Math.PI)) / 2);
+		public static final Slice EASE = Slice.map(progress -> (1 - Theory.cos(progress * Math.PI)) / 2);
 	}
 
 	/**
@@ -573,14 +573,14 @@ public class Curves {
 		 * <h2><code>f(x) = 2<sup>10 * (x - 1)</sup></code></h2>
 		 * A <b>fade-in</b> {@code exponential} curve.
 		 */
-		public static final Slice IN = Slice.map(progress -> Math.pow(2, 10 * (progress - 1)));
+		public static final Slice IN = Slice.map(progress -> Theory.exp2(10 * (progress - 1)));
 
 		/**
 		 * <b>2-Based Exponential (fade-out)</b>
 		 * <h2><code>f(x) = -2<sup>-10 * x</sup> + 1</code></h2>
 		 * A <b>fade-out</b> {@code exponential} curve.
 		 */
-		public static final Slice OUT = Slice.map(progress -> -Math.pow(2, -10 * progress) + 1);
+		public static final Slice OUT = Slice.map(progress -> -Theory.exp2(-10 * progress) + 1);
 
 		/**
 		 * <b>2-Based Exponential</b>
@@ -593,9 +593,9 @@ public class Curves {
 		 */
 		public static final Slice EASE = Slice.map(progress -> {
 			if (progress < 0.5) {
-				return Math.pow(2, 10 * (progress * 2 - 1)) / 2;
+				return Theory.exp2(10 * (progress * 2 - 1)) / 2;
 			} else {
-				return (-Math.pow(2, -10 * (progress * 2 - 1)) + 2) / 2;
+				return (-Theory.exp2(-10 * (progress * 2 - 1)) + 2) / 2;
 			}
 		});
 	}
@@ -610,14 +610,14 @@ public class Curves {
 		 * <h2><code>f(x) = 1 - sqrt(1 - x<sup>2</sup>)</code></h2>
 		 * A <b>fade-in</b> {@code circular} curve.
 		 */
-		public static final Slice IN = Slice.map(progress -> 1 - Math.sqrt(1 - Math.pow(progress, 2)));
+		public static final Slice IN = Slice.map(progress -> 1 - Math.sqrt(1 - progress * progress));
 
 		/**
 		 * <b>Circular (fade-out)</b>
 		 * <h2><code>f(x) = sqrt(1 - (x - 1)<sup>2</sup>)</code></h2>
 		 * A <b>fade-out</b> {@code circular} curve.
 		 */
-		public static final Slice OUT = Slice.map(progress -> Math.sqrt(1 - Math.pow(progress - 1, 2)));
+		public static final Slice OUT = Slice.map(progress -> Math.sqrt(1 - (progress - 1) * (progress - 1)));
 
 		/**
 		 * <b>Circular</b>
@@ -630,9 +630,9 @@ public class Curves {
 		 */
 		public static final Slice EASE = Slice.map(progress -> {
 			if (progress < 0.5) {
-				return (1 - Math.sqrt(1 - Math.pow(progress * 2, 2))) / 2;
+				return (1 - Math.sqrt(1 - (progress * 2) * (progress * 2))) / 2;
 			} else {
-				return (Math.sqrt(1 - Math.pow(progress * 2 - 2, 2)) + 1) / 2;
+				return (Math.sqrt(1 - (progress * 2 - 2) * (progress * 2 - 2)) + 1) / 2;
 			}
 		});
 	}
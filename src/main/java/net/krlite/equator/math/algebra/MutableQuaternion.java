@@ -0,0 +1,278 @@
+package net.krlite.equator.math.algebra;
+
+import net.krlite.equator.math.geometry.volume.MutablePos;
+import org.joml.Quaternionf;
+
+/**
+ * <h1>MutableQuaternion</h1>
+ * A scratch {@link Quaternion} whose operations modify it in place and return itself, so that composing a rotation
+ * every frame, such as {@code set(base).rotateY(yaw).rotateX(pitch)}, allocates nothing. Every operation gives the
+ * same result as its counterpart in {@link Quaternion}. Convert it back with {@link #toQuaternion()} once the result
+ * needs to be kept.
+ * <br />
+ * A mutable quaternion is not thread-safe, and should be owned by the code that reuses it rather than shared.
+ * @see Quaternion
+ * @see MutablePos
+ */
+public final class MutableQuaternion {
+	// Constructors
+
+	public MutableQuaternion(double x, double y, double z, double w) {
+		set(x, y, z, w);
+	}
+
+	public MutableQuaternion(Quaternion quaternion) {
+		set(quaternion);
+	}
+
+	public MutableQuaternion() {
+		this(0, 0, 0, 1);
+	}
+
+	// Fields
+
+	private double x, y, z, w;
+
+	// Accessors
+
+	public double x() {
+		return x;
+	}
+
+	public double y() {
+		return y;
+	}
+
+	public double z() {
+		return z;
+	}
+
+	public double w() {
+		return w;
+	}
+
+	public double magnitude() {
+		return Math.sqrt(x * x + y * y + z * z + w * w);
+	}
+
+	// Mutators
+
+	public MutableQuaternion set(double x, double y, double z, double w) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+		return this;
+	}
+
+	public MutableQuaternion set(Quaternion quaternion) {
+		return set(quaternion.x(), quaternion.y(), quaternion.z(), quaternion.w());
+	}
+
+	public MutableQuaternion set(MutableQuaternion another) {
+		return set(another.x(), another.y(), another.z(), another.w());
+	}
+
+	public MutableQuaternion identity() {
+		return set(0, 0, 0, 1);
+	}
+
+	// Properties
+
+	public double dot(Quaternion another) {
+		return x * another.x() + y * another.y() + z * another.z() + w * another.w();
+	}
+
+	// Operations
+
+	public MutableQuaternion normalize() {
+		double magnitude = magnitude();
+		return set(x / magnitude, y / magnitude, z / magnitude, w / magnitude);
+	}
+
+	public MutableQuaternion conjugate() {
+		return set(-x, -y, -z, w);
+	}
+
+	public MutableQuaternion scale(double scalar) {
+		return set(x * scalar, y * scalar, z * scalar, w * scalar);
+	}
+
+	/**
+	 * <h1>{@code this · (x, y, z, w)}</h1>
+	 * @see Quaternion#multiply(Quaternion)
+	 */
+	public MutableQuaternion multiply(double x, double y, double z, double w) {
+		return set(
+				this.w * x + this.x * w + this.y * z - this.z * y,
+				this.w * y - this.x * z + this.y * w + this.z * x,
+				this.w * z + this.x * y - this.y * x + this.z * w,
+				this.w * w - this.x * x - this.y * y - this.z * z
+		);
+	}
+
+	public MutableQuaternion multiply(Quaternion another) {
+		return multiply(another.x(), another.y(), another.z(), another.w());
+	}
+
+	public MutableQuaternion multiply(MutableQuaternion another) {
+		return multiply(another.x(), another.y(), another.z(), another.w());
+	}
+
+	/**
+	 * <h1>{@code (x, y, z, w) · this}</h1>
+	 * @see Quaternion#preMultiply(Quaternion)
+	 */
+	public MutableQuaternion preMultiply(double x, double y, double z, double w) {
+		return set(
+				w * this.x + x * this.w + y * this.z - z * this.y,
+				w * this.y - x * this.z + y * this.w + z * this.x,
+				w * this.z + x * this.y - y * this.x + z * this.w,
+				w * this.w - x * this.x - y * this.y - z * this.z
+		);
+	}
+
+	public MutableQuaternion preMultiply(Quaternion another) {
+		return preMultiply(another.x(), another.y(), another.z(), another.w());
+	}
+
+	public MutableQuaternion preMultiply(MutableQuaternion another) {
+		return preMultiply(another.x(), another.y(), another.z(), another.w());
+	}
+
+	/**
+	 * @see Quaternion#rotateX(double)
+	 */
+	public MutableQuaternion rotateX(double angle) {
+		double sin = Theory.sin(angle / 2), cos = Theory.cos(angle / 2);
+		return set(w * sin + x * cos, y * cos + z * sin, z * cos - y * sin, w * cos - x * sin);
+	}
+
+	public MutableQuaternion rotateXDegrees(double angleDegrees) {
+		return rotateX(Math.toRadians(angleDegrees));
+	}
+
+	/**
+	 * @see Quaternion#rotateY(double)
+	 */
+	public MutableQuaternion rotateY(double angle) {
+		double sin = Theory.sin(angle / 2), cos = Theory.cos(angle / 2);
+		return set(x * cos - z * sin, w * sin + y * cos, x * sin + z * cos, w * cos - y * sin);
+	}
+
+	public MutableQuaternion rotateYDegrees(double angleDegrees) {
+		return rotateY(Math.toRadians(angleDegrees));
+	}
+
+	/**
+	 * @see Quaternion#rotateZ(double)
+	 */
+	public MutableQuaternion rotateZ(double angle) {
+		double sin = Theory.sin(angle / 2), cos = Theory.cos(angle / 2);
+		return set(x * cos + y * sin, y * cos - x * sin, w * sin + z * cos, w * cos - z * sin);
+	}
+
+	public MutableQuaternion rotateZDegrees(double angleDegrees) {
+		return rotateZ(Math.toRadians(angleDegrees));
+	}
+
+	/**
+	 * @see Quaternion#rotateLocalX(double)
+	 */
+	public MutableQuaternion rotateLocalX(double angle) {
+		double sin = Theory.sin(angle / 2), cos = Theory.cos(angle / 2);
+		return set(w * sin + x * cos, y * cos - z * sin, z * cos + y * sin, w * cos - x * sin);
+	}
+
+	public MutableQuaternion rotateLocalXDegrees(double angleDegrees) {
+		return rotateLocalX(Math.toRadians(angleDegrees));
+	}
+
+	/**
+	 * @see Quaternion#rotateLocalY(double)
+	 */
+	public MutableQuaternion rotateLocalY(double angle) {
+		double sin = Theory.sin(angle / 2), cos = Theory.cos(angle / 2);
+		return set(x * cos + z * sin, y * cos + w * sin, z * cos - x * sin, w * cos - y * sin);
+	}
+
+	public MutableQuaternion rotateLocalYDegrees(double angleDegrees) {
+		return rotateLocalY(Math.toRadians(angleDegrees));
+	}
+
+	/**
+	 * @see Quaternion#rotateLocalZ(double)
+	 */
+	public MutableQuaternion rotateLocalZ(double angle) {
+		double sin = Theory.sin(angle / 2), cos = Theory.cos(angle / 2);
+		return set(x * cos - y * sin, y * cos + x * sin, z * cos + w * sin, w * cos - z * sin);
+	}
+
+	public MutableQuaternion rotateLocalZDegrees(double angleDegrees) {
+		return rotateLocalZ(Math.toRadians(angleDegrees));
+	}
+
+	/**
+	 * @see Quaternion#interpolation(Quaternion, double)
+	 */
+	public MutableQuaternion interpolation(Quaternion another, double ratio) {
+		return set(
+				(1 - ratio) * x + ratio * another.x(),
+				(1 - ratio) * y + ratio * another.y(),
+				(1 - ratio) * z + ratio * another.z(),
+				(1 - ratio) * w + ratio * another.w()
+		);
+	}
+
+	/**
+	 * @see Quaternion#fastSphericalInterpolation(Quaternion, double)
+	 */
+	public MutableQuaternion fastSphericalInterpolation(Quaternion another, double ratio) {
+		double dot = dot(another), sign = dot < 0 ? -1 : 1, corrected = Quaternion.correctRatio(Math.abs(dot), ratio);
+
+		return set(
+				Theory.lerp(x, sign * another.x(), corrected),
+				Theory.lerp(y, sign * another.y(), corrected),
+				Theory.lerp(z, sign * another.z(), corrected),
+				Theory.lerp(w, sign * another.w(), corrected)
+		).normalize();
+	}
+
+	/**
+	 * Rotates a position in place by this quaternion, which is expected to be normalized.
+	 * @return	the given position.
+	 * @see Quaternion#transform(double, double, double)
+	 */
+	public MutablePos transform(MutablePos pos) {
+		double
+				xx = x * x, yy = y * y, zz = z * z,
+				xy = x * y, xz = x * z, yz = y * z,
+				xw = x * w, yw = y * w, zw = z * w,
+				px = pos.x(), py = pos.y(), pz = pos.z();
+
+		return pos.set(
+				Math.fma(Math.fma(-2, yy + zz, 1), 	px, Math.fma(2 * (xy - zw), 				py, (2 * (xz + yw)) 			* pz)),
+				Math.fma(2 * (xy + zw), 			px, Math.fma(Math.fma(-2, xx + zz, 1), 	py, (2 * (yz - xw)) 			* pz)),
+				Math.fma(2 * (xz - yw), 			px, Math.fma(2 * (yz + xw), 				py, Math.fma(-2, xx + yy, 1) 	* pz))
+		);
+	}
+
+	public Quaternion toQuaternion() {
+		return new Quaternion(x, y, z, w);
+	}
+
+	/**
+	 * Writes the float form of this quaternion into the given one, without allocating.
+	 * @return	the given quaternion.
+	 */
+	public Quaternionf toFloat(Quaternionf destination) {
+		return destination.set((float) x, (float) y, (float) z, (float) w);
+	}
+
+	// Object Methods
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + String.format("{x=%f, y=%f, z=%f, w=%f}", x, y, z, w);
+	}
+}
@@ -0,0 +1,394 @@
+package net.krlite.equator.math.geometry.flat;
+
+import net.krlite.equator.render.frame.FrameInfo;
+
+/**
+ * <h1>MutableBox</h1>
+ * A scratch {@link Box} whose operations modify it in place and return itself, so that a chain such as
+ * {@code alignTopLeft(...).shift(...).scale(...)} inside a layout or hit-test loop allocates nothing. Every
+ * operation gives the same result as its counterpart in {@link Box}. Convert it back with {@link #toBox()} once
+ * the result needs to be kept.
+ * <br />
+ * A mutable box is not thread-safe, and should be owned by the code that reuses it rather than shared.
+ * @see Box
+ * @see MutableVector
+ */
+public final class MutableBox {
+	// Constructors
+
+	public MutableBox(double x, double y, double width, double height) {
+		set(x, y, width, height);
+	}
+
+	public MutableBox(Box box) {
+		set(box);
+	}
+
+	public MutableBox() {
+		this(0, 0, 0, 0);
+	}
+
+	// Fields
+
+	private double x, y, w, h;
+
+	// Accessors
+
+	public double x() {
+		return x;
+	}
+
+	public double y() {
+		return y;
+	}
+
+	public double w() {
+		return w;
+	}
+
+	public double h() {
+		return h;
+	}
+
+
+
+	public double top() {
+		return y;
+	}
+
+	public double bottom() {
+		return y + h;
+	}
+
+	public double left() {
+		return x;
+	}
+
+	public double right() {
+		return x + w;
+	}
+
+
+
+	public double xCenter() {
+		return x + w / 2;
+	}
+
+	public double yCenter() {
+		return y + h / 2;
+	}
+
+	// Mutators
+
+	/**
+	 * Sets the box from its top left corner and its size. A negative size extends the box the other way, the same as
+	 * {@link Box#fromCartesian(double, double, double, double)}.
+	 */
+	public MutableBox set(double x, double y, double width, double height) {
+		this.x = Math.min(x, x + width);
+		this.y = Math.min(y, y + height);
+		this.w = Math.abs(width);
+		this.h = Math.abs(height);
+		return this;
+	}
+
+	public MutableBox set(Box box) {
+		return set(box.x(), box.y(), box.w(), box.h());
+	}
+
+	public MutableBox set(MutableBox another) {
+		return set(another.x(), another.y(), another.w(), another.h());
+	}
+
+	public MutableBox width(double width) {
+		return set(x, y, width, h);
+	}
+
+	public MutableBox height(double height) {
+		return set(x, y, w, height);
+	}
+
+	public MutableBox top(double y) {
+		return bounds(left(), y, right(), bottom());
+	}
+
+	public MutableBox bottom(double y) {
+		return bounds(left(), top(), right(), y);
+	}
+
+	public MutableBox left(double x) {
+		return bounds(x, top(), right(), bottom());
+	}
+
+	public MutableBox right(double x) {
+		return bounds(left(), top(), x, bottom());
+	}
+
+	public MutableBox center(double xCenter, double yCenter) {
+		return moveTo(xCenter - w / 2, yCenter - h / 2);
+	}
+
+	public MutableBox center(Vector center) {
+		return center(center.x(), center.y());
+	}
+
+	public MutableBox center(Box another) {
+		return center(another.xCenter(), another.yCenter());
+	}
+
+	// Properties
+
+	public boolean contains(double x, double y) {
+		return x >= left() && x <= right() && y >= top() && y <= bottom();
+	}
+
+	public boolean contains(Vector vector) {
+		return contains(vector.x(), vector.y());
+	}
+
+	// Operations
+
+	/**
+	 * @see Box#translateTopLeft(double, double)
+	 */
+	public MutableBox translateTopLeft(double xFactor, double yFactor) {
+		return bounds(left() + w * xFactor, top() + h * yFactor, right(), bottom());
+	}
+
+	/**
+	 * @see Box#translateBottomLeft(double, double)
+	 */
+	public MutableBox translateBottomLeft(double xFactor, double yFactor) {
+		return bounds(left() + w * xFactor, top(), right(), bottom() + h * yFactor);
+	}
+
+	/**
+	 * @see Box#translateBottomRight(double, double)
+	 */
+	public MutableBox translateBottomRight(double xFactor, double yFactor) {
+		return bounds(left(), top(), right() + w * xFactor, bottom() + h * yFactor);
+	}
+
+	/**
+	 * @see Box#translateTopRight(double, double)
+	 */
+	public MutableBox translateTopRight(double xFactor, double yFactor) {
+		return bounds(left(), top() + h * yFactor, right() + w * xFactor, bottom());
+	}
+
+
+	public MutableBox translateTop(double yFactor) {
+		return top(top() + h * yFactor);
+	}
+
+	public MutableBox translateBottom(double yFactor) {
+		return bottom(bottom() + h * yFactor);
+	}
+
+	public MutableBox translateLeft(double xFactor) {
+		return left(left() + w * xFactor);
+	}
+
+	public MutableBox translateRight(double xFactor) {
+		return right(right() + w * xFactor);
+	}
+
+	/**
+	 * @see Box#translate(double, double)
+	 */
+	public MutableBox translate(double xFactor, double yFactor) {
+		return shift(w * xFactor, h * yFactor);
+	}
+
+
+
+	public MutableBox shift(double xOffset, double yOffset) {
+		return moveTo(x + xOffset, y + yOffset);
+	}
+
+	public MutableBox shift(Vector offset) {
+		return shift(offset.x(), offset.y());
+	}
+
+	public MutableBox shiftTop(double yOffset) {
+		return top(top() + yOffset);
+	}
+
+	public MutableBox shiftBottom(double yOffset) {
+		return bottom(bottom() + yOffset);
+	}
+
+	public MutableBox shiftLeft(double xOffset) {
+		return left(left() + xOffset);
+	}
+
+	public MutableBox shiftRight(double xOffset) {
+		return right(right() + xOffset);
+	}
+
+
+
+	public MutableBox alignTopLeft(Vector topLeft) {
+		return moveTo(topLeft.x(), topLeft.y());
+	}
+
+	public MutableBox alignBottomLeft(Vector bottomLeft) {
+		return moveTo(bottomLeft.x(), bottomLeft.y() - h);
+	}
+
+	public MutableBox alignBottomRight(Vector bottomRight) {
+		return moveTo(bottomRight.x() - w, bottomRight.y() - h);
+	}
+
+	public MutableBox alignTopRight(Vector topRight) {
+		return moveTo(topRight.x() - w, topRight.y());
+	}
+
+
+	public MutableBox alignTopLeft(Box another) {
+		return moveTo(another.left(), another.top());
+	}
+
+	public MutableBox alignBottomLeft(Box another) {
+		return moveTo(another.left(), another.bottom() - h);
+	}
+
+	public MutableBox alignBottomRight(Box another) {
+		return moveTo(another.right() - w, another.bottom() - h);
+	}
+
+	public MutableBox alignTopRight(Box another) {
+		return moveTo(another.right() - w, another.top());
+	}
+
+
+	public MutableBox alignTop(double y) {
+		return moveTo(x, y);
+	}
+
+	public MutableBox alignBottom(double y) {
+		return moveTo(x, y - h);
+	}
+
+	public MutableBox alignLeft(double x) {
+		return moveTo(x, y);
+	}
+
+	public MutableBox alignRight(double x) {
+		return moveTo(x - w, y);
+	}
+
+
+	public MutableBox alignTop(Box another) {
+		return alignTop(another.top());
+	}
+
+	public MutableBox alignBottom(Box another) {
+		return alignBottom(another.bottom());
+	}
+
+	public MutableBox alignLeft(Box another) {
+		return alignLeft(another.left());
+	}
+
+	public MutableBox alignRight(Box another) {
+		return alignRight(another.right());
+	}
+
+
+
+	/**
+	 * @see Box#scale(double, double)
+	 */
+	public MutableBox scale(double xScalar, double yScalar) {
+		return set(x, y, w * xScalar, h * yScalar);
+	}
+
+	public MutableBox scale(double scalar) {
+		return scale(scalar, scalar);
+	}
+
+	/**
+	 * @see Box#scaleCenter(double, double)
+	 */
+	public MutableBox scaleCenter(double xScalar, double yScalar) {
+		double xCenter = xCenter(), yCenter = yCenter();
+		return scale(xScalar, yScalar).center(xCenter, yCenter);
+	}
+
+	public MutableBox scaleCenter(double scalar) {
+		return scaleCenter(scalar, scalar);
+	}
+
+	/**
+	 * @see Box#expand(double, double)
+	 */
+	public MutableBox expand(double xExpansion, double yExpansion) {
+		return bounds(left() - xExpansion, top() - yExpansion, right() + xExpansion, bottom() + yExpansion);
+	}
+
+	public MutableBox expand(Vector expansion) {
+		return expand(expansion.x(), expansion.y());
+	}
+
+	public MutableBox expand(double expansion) {
+		return expand(expansion, expansion);
+	}
+
+
+
+	/**
+	 * Fits the box to the {@link net.krlite.equator.render.frame.FrameInfo.Convertor Screen Coordinate} in place.
+	 * @see Box#fitToScreen()
+	 */
+	public MutableBox fitToScreen() {
+		return FrameInfo.Convertor.scaledToScreen(this);
+	}
+
+	/**
+	 * Fits the box to the {@link net.krlite.equator.render.frame.FrameInfo.Convertor OpenGL Coordinate} in place.
+	 * @see Box#fitToOpenGL()
+	 */
+	public MutableBox fitToOpenGL() {
+		return FrameInfo.Convertor.scaledToOpenGL(this);
+	}
+
+	/**
+	 * Fits the box from the {@link net.krlite.equator.render.frame.FrameInfo.Convertor Screen Coordinate} in place.
+	 * @see Box#fitFromScreen()
+	 */
+	public MutableBox fitFromScreen() {
+		return FrameInfo.Convertor.screenToScaled(this);
+	}
+
+	/**
+	 * Fits the box from the {@link net.krlite.equator.render.frame.FrameInfo.Convertor OpenGL Coordinate} in place.
+	 * @see Box#fitFromOpenGL()
+	 */
+	public MutableBox fitFromOpenGL() {
+		return FrameInfo.Convertor.openGLToScaled(this);
+	}
+
+
+
+	public Box toBox() {
+		return Box.fromCartesian(x, y, w, h);
+	}
+
+	private MutableBox moveTo(double x, double y) {
+		this.x = x;
+		this.y = y;
+		return this;
+	}
+
+	private MutableBox bounds(double xMin, double yMin, double xMax, double yMax) {
+		return set(xMin, yMin, xMax - xMin, yMax - yMin);
+	}
+
+	// Object Methods
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + String.format("(%f, %f, %f, %f)", x, y, w, h);
+	}
+}
@@ -8,26 +8,26 @@ import net.minecraft.util.math.Vec3d;
 
 /**
  * <h1>Vector</h1>
- * Represents a vector in the {@link net.krlite.equator.render.frame.FrameInfo.Convertor Scaled Coordinate} and is
- * stored in polar form.
- * @param angle		the angle <b>in radians.</b>
- * @param magnitude	the magnitude, which is always positive.
+ * Represents a vector in the {@link net.krlite.equator.render.frame.FrameInfo.Convertor Scaled Coordinate}.
+ * <br />
+ * The vector is stored in Cartesian form, so component access and arithmetic cost no trigonometry. The polar form,
+ * {@link #angle()} and {@link #magnitude()}, is derived on demand.
  */
-public record Vector(double angle, double magnitude) implements Convertible.Scaled<Vector> {
+public final class Vector implements Convertible.Scaled<Vector> {
 	// Constants
 
-	public static final Vector ZERO = new Vector(0, 0);
+	public static final Vector ZERO = fromCartesian(0, 0);
 
-	public static final Vector UNIT = new Vector(Math.PI / 4, Math.sqrt(2));
+	public static final Vector UNIT = fromCartesian(1, 1);
 
-	public static final Vector UNIT_X = new Vector(0, 1);
+	public static final Vector UNIT_X = fromCartesian(1, 0);
 
-	public static final Vector UNIT_Y = new Vector(Math.PI / 2, 1);
+	public static final Vector UNIT_Y = fromCartesian(0, 1);
 
 	// Static Constructors
 
 	public static Vector fromCartesian(double x, double y) {
-		return new Vector(Math.atan2(y, x), Math.sqrt(x * x + y * y));
+		return new Vector(x, y, 1);
 	}
 
 	public static Vector fromDegrees(double angle, double magnitude) {
@@ -36,24 +36,45 @@ public record Vector(double angle, double magnitude) implements Convertible.Scal
 
 	// Constructors
 
+	/**
+	 * @param x		the {@code x} component before scaling.
+	 * @param y		the {@code y} component before scaling.
+	 * @param scale	the factor both components are multiplied by.
+	 */
+	private Vector(double x, double y, double scale) {
+		this.x = x * scale;
+		this.y = y * scale;
+	}
+
+	/**
+	 * @param angle		the angle <b>in radians.</b>
+	 * @param magnitude	the magnitude, a negative magnitude points the vector the opposite way.
+	 */
 	public Vector(double angle, double magnitude) {
-		this.angle = angle % (2 * Math.PI) + (magnitude < 0 ? Math.PI : 0);
-		this.magnitude = Math.abs(magnitude);
+		this(Theory.cos(angle), Theory.sin(angle), magnitude);
 	}
 
+	// Fields
+
+	private final double x, y;
+
 	// Accessors
 
-	@Override
-	public double angle() { return angle % (2 * Math.PI); }
+	/**
+	 * @return	the angle <b>in radians,</b> in {@code (-π, π]}.
+	 */
+	public double angle() { return Theory.atan2(y, x); }
 
 	public double angleDegrees() { return Math.toDegrees(angle()); }
 
-	@Override
-	public double magnitude() { return magnitude; }
+	/**
+	 * @return	the magnitude, which is always positive.
+	 */
+	public double magnitude() { return Math.sqrt(x * x + y * y); }
 
-	public double x() { return Math.cos(angle()) * magnitude(); }
+	public double x() { return x; }
 
-	public double y() { return Math.sin(angle()) * magnitude(); }
+	public double y() { return y; }
 
 	// Mutators
 
@@ -66,7 +87,8 @@ public record Vector(double angle, double magnitude) implements Convertible.Scal
 	}
 
 	public Vector magnitude(double magnitude) {
-		return new Vector(angle(), magnitude);
+		double current = magnitude();
+		return current == 0 ? fromCartesian(magnitude, 0) : scale(magnitude / current);
 	}
 
 	public Vector x(double x) {
@@ -188,7 +210,7 @@ public record Vector(double angle, double magnitude) implements Convertible.Scal
 	 * @return	a new vector scaled by the given scalars.
 	 */
 	public Vector scale(double xScalar, double yScalar) {
-		return x(x() * xScalar).y(y() * yScalar);
+		return fromCartesian(x() * xScalar, y() * yScalar);
 	}
 
 	/**
@@ -234,7 +256,7 @@ public record Vector(double angle, double magnitude) implements Convertible.Scal
 	}
 
 	public Vector negate() {
-		return angle(angle() + Math.PI);
+		return fromCartesian(-x(), -y());
 	}
 
 	public Vector negateByX() {
@@ -246,11 +268,12 @@ public record Vector(double angle, double magnitude) implements Convertible.Scal
 	}
 
 	public Vector rotate(double angle) {
-		return angle(angle() + angle);
+		double cos = Theory.cos(angle), sin = Theory.sin(angle);
+		return fromCartesian(x() * cos - y() * sin, x() * sin + y() * cos);
 	}
 
 	public Vector rotateDegrees(double angleDegrees) {
-		return angleDegrees(angleDegrees() + angleDegrees);
+		return rotate(Math.toRadians(angleDegrees));
 	}
 
 	public Vector rotateAround(Vector center, double angle) {
@@ -304,7 +327,7 @@ public record Vector(double angle, double magnitude) implements Convertible.Scal
 	}
 
 	public Vector normal() {
-		return new Vector(angle() + Math.PI / 2, magnitude());
+		return fromCartesian(-y(), x());
 	}
 
 	public Vector reflect(Vector normal) {
@@ -373,6 +396,18 @@ public record Vector(double angle, double magnitude) implements Convertible.Scal
 		return toString(false);
 	}
 
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof Vector another)) return false;
+		return Double.compare(x(), another.x()) == 0 && Double.compare(y(), another.y()) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Double.hashCode(x()) + Double.hashCode(y());
+	}
+
 	public String toString(boolean precisely) {
 		return getClass().getSimpleName()
 					   + (isZero()
@@ -1,13 +1,358 @@
 package net.krlite.equator.math.logic.base;
 
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
 @FunctionalInterface
 public interface Gate extends Gated<Gate> {
-	Gate TRUE = value -> true, FALSE = value -> false,
-			ZERO = value -> value == 0, POSITIVE = value -> value > 0, NEGATIVE = value -> value < 0,
-			NON_ZERO = value -> value != 0, NON_POSITIVE = value -> value <= 0, NON_NEGATIVE = value -> value >= 0;
+	/**
+	 * <h1>Intervals</h1>
+	 * A gate compiled into a canonical set of intervals over the real line. The set is stored as its sorted
+	 * breakpoints {@code b₀ < b₁ < … < bₙ₋₁}, which split the line into {@code 2n + 1} regions
+	 * <pre>
+	 * 	(-∞, b₀), [b₀], (b₀, b₁), [b₁], …, [bₙ₋₁], (bₙ₋₁, +∞)
+	 * </pre>
+	 * each of which either passes or not, so open, closed and half-open ranges, as well as single points, are all
+	 * exact. Passing a value costs a binary search over the breakpoints.
+	 * <br />
+	 * The {@link Gate standard constants} and the {@link Gate#greater(double) threshold comparisons} are intervals,
+	 * and combining intervals with {@link #not()}, {@link #and(Gate)}, {@link #or(Gate)} and the others yields
+	 * intervals again instead of nesting lambdas. Equal sets have equal breakpoints, so they compare
+	 * {@link #equals(Object) equal}.
+	 */
+	final class Intervals implements Gate {
+		// Truth tables of the binary operations, indexed by (pass << 1 | anotherPass)
+		private static final int AND = 0b1000, OR = 0b1110, NAND = 0b0111, XOR = 0b0110, NOR = 0b0001, XNOR = 0b1001;
+
+		// Constructors
+
+		private Intervals(double[] bounds, boolean[] regions, boolean passNaN) {
+			this.bounds = bounds;
+			this.regions = regions;
+			this.passNaN = passNaN;
+		}
+
+		private static Intervals threshold(double threshold, boolean below, boolean at, boolean above) {
+			if (Double.isNaN(threshold)) {
+				// Every comparison with NaN fails
+				return new Intervals(new double[0], new boolean[] { false }, false);
+			}
+
+			// -0.0 and 0.0 are equal to comparisons, so they must be the same breakpoint
+			return canonical(new double[] { threshold + 0.0 }, new boolean[] { below, at, above }, false);
+		}
+
+		// Fields
+
+		private final double[] bounds;
+		private final boolean[] regions;
+		private final boolean passNaN;
+
+		// Accessors
+
+		/**
+		 * @return	a copy of the sorted breakpoints.
+		 */
+		public double[] bounds() {
+			return bounds.clone();
+		}
+
+		public boolean passNaN() {
+			return passNaN;
+		}
+
+		// Properties
+
+		/**
+		 * @return	{@code true -} if no number passes, except possibly {@code NaN}.
+		 * <br />	{@code false -} otherwise.
+		 */
+		public boolean isEmpty() {
+			return bounds.length == 0 && !regions[0];
+		}
+
+		/**
+		 * @return	{@code true -} if every number passes, except possibly {@code NaN}.
+		 * <br />	{@code false -} otherwise.
+		 */
+		public boolean isFull() {
+			return bounds.length == 0 && regions[0];
+		}
+
+		// Operations
+
+		@Override
+		public boolean pass(double value) {
+			if (value != value) return passNaN;
+
+			// The number of breakpoints below the value
+			int low = 0, high = bounds.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (bounds[middle] < value) low = middle + 1;
+				else high = middle;
+			}
+
+			return regions[low < bounds.length && bounds[low] == value ? 2 * low + 1 : 2 * low];
+		}
+
+		@Override
+		public void passAll(double[] values, boolean[] out, int offset, int length) {
+			Objects.checkFromIndexSize(offset, length, values.length);
+			Objects.checkFromIndexSize(offset, length, out.length);
+
+			if (bounds.length == 1) {
+				// A single threshold, the most common case, needs no search
+				double bound = bounds[0];
+				boolean below = regions[0], at = regions[1], above = regions[2];
+
+				for (int i = offset; i < offset + length; i++) {
+					double value = values[i];
+					out[i] = value < bound ? below : value > bound ? above : value == bound ? at : passNaN;
+				}
+			}
+			else Gate.super.passAll(values, out, offset, length);
+		}
+
+		@Override
+		public Intervals not() {
+			boolean[] inverted = new boolean[regions.length];
+
+			for (int i = 0; i < regions.length; i++) {
+				inverted[i] = !regions[i];
+			}
+
+			return new Intervals(bounds, inverted, !passNaN);
+		}
+
+		@Override
+		public Gate and(Gate another) {
+			return another instanceof Intervals intervals ? combine(intervals, AND) : Gate.super.and(another);
+		}
+
+		@Override
+		public Gate or(Gate another) {
+			return another instanceof Intervals intervals ? combine(intervals, OR) : Gate.super.or(another);
+		}
+
+		@Override
+		public Gate nand(Gate another) {
+			return another instanceof Intervals intervals ? combine(intervals, NAND) : Gate.super.nand(another);
+		}
+
+		@Override
+		public Gate xor(Gate another) {
+			return another instanceof Intervals intervals ? combine(intervals, XOR) : Gate.super.xor(another);
+		}
+
+		@Override
+		public Gate nor(Gate another) {
+			return another instanceof Intervals intervals ? combine(intervals, NOR) : Gate.super.nor(another);
+		}
+
+		@Override
+		public Gate xnor(Gate another) {
+			return another instanceof Intervals intervals ? combine(intervals, XNOR) : Gate.super.xnor(another);
+		}
+
+		private Intervals combine(Intervals another, int table) {
+			double[] merged = new double[bounds.length + another.bounds.length];
+			int count = 0;
+
+			for (int i = 0, j = 0; i < bounds.length || j < another.bounds.length; ) {
+				if (j == another.bounds.length || (i < bounds.length && bounds[i] < another.bounds[j])) merged[count++] = bounds[i++];
+				else if (i == bounds.length || another.bounds[j] < bounds[i]) merged[count++] = another.bounds[j++];
+				else {
+					merged[count++] = bounds[i++];
+					j++;
+				}
+			}
+
+			merged = Arrays.copyOf(merged, count);
+			boolean[] combined = new boolean[2 * count + 1];
+
+			// Walks both sets along the merged breakpoints, tracking the region each of them is in
+			for (int k = 0, i = 0, j = 0; k <= count; k++) {
+				combined[2 * k] = apply(table, regions[2 * i], another.regions[2 * j]);
+				if (k == count) break;
+
+				boolean atBound = i < bounds.length && bounds[i] == merged[k];
+				boolean atAnotherBound = j < another.bounds.length && another.bounds[j] == merged[k];
+
+				combined[2 * k + 1] = apply(table,
+						atBound ? regions[2 * i + 1] : regions[2 * i],
+						atAnotherBound ? another.regions[2 * j + 1] : another.regions[2 * j]);
+
+				if (atBound) i++;
+				if (atAnotherBound) j++;
+			}
+
+			return canonical(merged, combined, apply(table, passNaN, another.passNaN));
+		}
+
+		private static boolean apply(int table, boolean pass, boolean anotherPass) {
+			return ((table >> ((pass ? 2 : 0) | (anotherPass ? 1 : 0))) & 1) != 0;
+		}
+
+		/**
+		 * Drops the breakpoints that do not change whether a value passes, so that equal sets have equal breakpoints.
+		 */
+		private static Intervals canonical(double[] bounds, boolean[] regions, boolean passNaN) {
+			List<Double> keptBounds = new ArrayList<>();
+			List<Boolean> keptRegions = new ArrayList<>();
+			keptRegions.add(regions[0]);
+
+			for (int k = 0; k < bounds.length; k++) {
+				boolean at = regions[2 * k + 1], above = regions[2 * k + 2];
+
+				if (at == keptRegions.get(keptRegions.size() - 1) && at == above) continue;
+
+				keptBounds.add(bounds[k]);
+				keptRegions.add(at);
+				keptRegions.add(above);
+			}
+
+			double[] canonicalBounds = new double[keptBounds.size()];
+			boolean[] canonicalRegions = new boolean[keptRegions.size()];
+
+			for (int i = 0; i < canonicalBounds.length; i++) canonicalBounds[i] = keptBounds.get(i);
+			for (int i = 0; i < canonicalRegions.length; i++) canonicalRegions[i] = keptRegions.get(i);
+
+			return new Intervals(canonicalBounds, canonicalRegions, passNaN);
+		}
+
+		// Object Methods
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof Intervals another)) return false;
+			return passNaN == another.passNaN && Arrays.equals(bounds, another.bounds) && Arrays.equals(regions, another.regions);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * Arrays.hashCode(bounds) + Arrays.hashCode(regions)) + Boolean.hashCode(passNaN);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder();
+			boolean inRange = false;
+			int start = 0;
+
+			// Region 2k is the open range (bₖ₋₁, bₖ), and region 2k + 1 is the point bₖ
+			for (int region = 0; region <= regions.length; region++) {
+				boolean passes = region < regions.length && regions[region];
+
+				if (passes && !inRange) {
+					if (builder.length() > 0) builder.append(" ∪ ");
+					builder.append(region % 2 == 1 ? "[" + bounds[region / 2] : "(" + (region == 0 ? "-∞" : bounds[region / 2 - 1]));
+					inRange = true;
+					start = region;
+				}
+
+				if (!passes && inRange) {
+					// Ends at the breakpoint just before this region, included if that breakpoint passed
+					if (region == regions.length) builder.append(", +∞)");
+					else if (region % 2 == 1) builder.append(", ").append(bounds[region / 2]).append(")");
+					else if (start == region - 1) builder.append("]");
+					else builder.append(", ").append(bounds[region / 2 - 1]).append("]");
+					inRange = false;
+				}
+			}
+
+			return getClass().getSimpleName() + "{" + (builder.length() == 0 ? "∅" : builder) + (passNaN ? ", NaN" : "") + "}";
+		}
+	}
+
+	/*
+	 * The constants are compiled into intervals, but stay typed as Gate to keep the field descriptors that
+	 * dependents were compiled against. Their intervals are reachable through asIntervals().
+	 */
+	Gate TRUE = new Intervals(new double[0], new boolean[] { true }, true), FALSE = new Intervals(new double[0], new boolean[] { false }, false);
+	Gate ZERO = equalTo(0), POSITIVE = greater(0), NEGATIVE = less(0),
+			NON_ZERO = ZERO.not(), NON_POSITIVE = lessEquals(0), NON_NEGATIVE = greaterEquals(0);
+
+	static Intervals greater(double threshold) {
+		return Intervals.threshold(threshold, false, false, true);
+	}
+
+	static Intervals greaterEquals(double threshold) {
+		return Intervals.threshold(threshold, false, true, true);
+	}
+
+	static Intervals less(double threshold) {
+		return Intervals.threshold(threshold, true, false, false);
+	}
+
+	static Intervals lessEquals(double threshold) {
+		return Intervals.threshold(threshold, true, true, false);
+	}
+
+	static Intervals equalTo(double threshold) {
+		return Intervals.threshold(threshold, false, true, false);
+	}
+
+	/**
+	 * @return	a gate passing {@code [min, max]}.
+	 */
+	static Gate within(double min, double max) {
+		return greaterEquals(min).and(lessEquals(max));
+	}
 
 	boolean pass(double value);
 
+	/**
+	 * Passes every value in a batch.
+	 * @param values	the values to pass.
+	 * @param out		the results, {@code out[i]} is whether {@code values[i]} passes.
+	 * @param offset	the index of the first value.
+	 * @param length	the number of values.
+	 */
+	default void passAll(double[] values, boolean[] out, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, values.length);
+		Objects.checkFromIndexSize(offset, length, out.length);
+
+		for (int i = offset; i < offset + length; i++) {
+			out[i] = pass(values[i]);
+		}
+	}
+
+	default void passAll(double[] values, boolean[] out) {
+		passAll(values, out, 0, values.length);
+	}
+
+	/**
+	 * Passes every value in a batch, setting bit {@code i} of {@code out} if {@code values[i]} passes and clearing
+	 * it otherwise.
+	 */
+	default void passAll(double[] values, BitSet out) {
+		for (int i = 0; i < values.length; i++) {
+			out.set(i, pass(values[i]));
+		}
+	}
+
+	/**
+	 * @return	{@code true -} if this gate is compiled into {@link Intervals}.
+	 * <br />	{@code false -} otherwise.
+	 */
+	default boolean isCompiled() {
+		return this instanceof Intervals;
+	}
+
+	/**
+	 * @return	this gate as {@link Intervals} if it is {@link #isCompiled() compiled}, or {@code null} otherwise.
+	 */
+	default @Nullable Intervals asIntervals() {
+		return this instanceof Intervals intervals ? intervals : null;
+	}
+
 	default Gate not() {
 		return value -> !pass(value);
 	}
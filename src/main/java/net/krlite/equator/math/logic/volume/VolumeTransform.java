@@ -11,7 +11,7 @@ public record VolumeTransform(Transform x, Transform y, Transform z) implements
 	// Static Constructors
 
 	public static VolumeTransform shift(double x, double y, double z) {
-		return new VolumeTransform(xOrigin -> xOrigin + x, yOrigin -> yOrigin + y, zOrigin -> zOrigin + z);
+		return new VolumeTransform(Transform.shift(x), Transform.shift(y), Transform.shift(z));
 	}
 
 	// Constructors
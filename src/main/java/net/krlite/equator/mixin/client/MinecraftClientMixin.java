@@ -6,6 +6,7 @@ import net.krlite.equator.input.Keyboard;
 import net.krlite.equator.input.Mouse;
 import net.krlite.equator.input.Window;
 import net.krlite.equator.render.RenderManager;
+import net.krlite.equator.render.renderer.FlatBatch;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.client.MinecraftClient;
@@ -36,6 +37,14 @@ public class MinecraftClientMixin {
 		Window.initCallbacks(MinecraftClient.getInstance().getWindow().getHandle());
 	}
 
+	/**
+	 * Flushes the batched geometry before the frame is presented.
+	 */
+	@Inject(method = "render", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/util/Window;swapBuffers()V"))
+	private void swapBuffers(boolean bl, CallbackInfo ci) {
+		FlatBatch.endFrame();
+	}
+
 	@Inject(method = "render", at = @At("RETURN"))
 	private void render(boolean bl, CallbackInfo ci) {
 		Equator.updateFrame(System.currentTimeMillis());
@@ -0,0 +1,24 @@
+package net.krlite.equator.mixin.client;
+
+import net.krlite.equator.render.frame.Projection;
+import net.minecraft.client.render.Camera;
+import net.minecraft.client.render.GameRenderer;
+import net.minecraft.client.render.LightmapTextureManager;
+import net.minecraft.client.render.WorldRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+import org.joml.Matrix4f;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(WorldRenderer.class)
+public class WorldRendererMixin {
+	/**
+	 * Captures the camera of the frame for {@link Projection}.
+	 */
+	@Inject(method = "render", at = @At("HEAD"))
+	private void render(MatrixStack matrices, float tickDelta, long limitTime, boolean renderBlockOutline, Camera camera, GameRenderer gameRenderer, LightmapTextureManager lightmapTextureManager, Matrix4f projectionMatrix, CallbackInfo ci) {
+		Projection.capture(matrices.peek().getPositionMatrix(), projectionMatrix, camera.getPos());
+	}
+}
@@ -2,6 +2,7 @@ package net.krlite.equator.render.base;
 
 import com.mojang.blaze3d.systems.RenderSystem;
 import net.krlite.equator.math.geometry.flat.Box;
+import net.krlite.equator.render.renderer.FlatBatch;
 import net.minecraft.client.util.math.MatrixStack;
 
 import java.util.function.Consumer;
@@ -45,6 +46,8 @@ public record Scissor(Box box) {
 	 * {@link net.krlite.equator.render.frame.FrameInfo.Convertor OpenGL Coordinate}.
 	 */
 	public void snipOn() {
+		FlatBatch.flush(); // The pending geometry belongs outside the scissor
+
 		// Fits the box to the OpenGL Coordinate
 		Box fitted = box().fitToOpenGL();
 		RenderSystem.enableScissor((int) fitted.x(), (int) fitted.y(), (int) fitted.w(), (int) fitted.h());
@@ -54,6 +57,7 @@ public record Scissor(Box box) {
 	 * Disables snipping.
 	 */
 	public void snipOff() {
+		FlatBatch.flush(); // The pending geometry belongs inside the scissor
 		RenderSystem.disableScissor();
 	}
 
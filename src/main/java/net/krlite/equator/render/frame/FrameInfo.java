@@ -1,6 +1,8 @@
 package net.krlite.equator.render.frame;
 
 import net.krlite.equator.math.geometry.flat.Box;
+import net.krlite.equator.math.geometry.flat.MutableBox;
+import net.krlite.equator.math.geometry.flat.MutableVector;
 import net.krlite.equator.math.geometry.flat.Vector;
 import net.minecraft.client.MinecraftClient;
 import org.lwjgl.glfw.GLFW;
@@ -156,5 +158,57 @@ public class FrameInfo {
 		public static Box openGLToScreen(Box box) {
 			return new Box(box.origin().y(screen().h() - box.origin().y() - box.h()).scale(0.5), box.size().scale(0.5));
 		}
+
+		public static MutableVector scaledToScreen(MutableVector vector) {
+			return vector.scale(screen().d() / scaled().d());
+		}
+
+		public static MutableVector screenToScaled(MutableVector vector) {
+			return vector.scale(scaled().d() / screen().d());
+		}
+
+		public static MutableVector scaledToOpenGL(MutableVector vector) {
+			return screenToOpenGL(scaledToScreen(vector));
+		}
+
+		public static MutableVector openGLToScaled(MutableVector vector) {
+			return screenToScaled(openGLToScreen(vector));
+		}
+
+		public static MutableVector screenToOpenGL(MutableVector vector) {
+			return vector.y(screen().h() - vector.y()).scale(2);
+		}
+
+		public static MutableVector openGLToScreen(MutableVector vector) {
+			return vector.y(screen().h() - vector.y()).scale(0.5);
+		}
+
+		public static MutableBox scaledToScreen(MutableBox box) {
+			return scaleAll(box, screen().d() / scaled().d());
+		}
+
+		public static MutableBox screenToScaled(MutableBox box) {
+			return scaleAll(box, scaled().d() / screen().d());
+		}
+
+		public static MutableBox scaledToOpenGL(MutableBox box) {
+			return screenToOpenGL(scaledToScreen(box));
+		}
+
+		public static MutableBox openGLToScaled(MutableBox box) {
+			return screenToScaled(openGLToScreen(box));
+		}
+
+		public static MutableBox screenToOpenGL(MutableBox box) {
+			return scaleAll(box.alignTop(screen().h() - box.y() - box.h()), 2);
+		}
+
+		public static MutableBox openGLToScreen(MutableBox box) {
+			return scaleAll(box.alignTop(screen().h() - box.y() - box.h()), 0.5);
+		}
+
+		private static MutableBox scaleAll(MutableBox box, double scalar) {
+			return box.set(box.x() * scalar, box.y() * scalar, box.w() * scalar, box.h() * scalar);
+		}
 	}
 }
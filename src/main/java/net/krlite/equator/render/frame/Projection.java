@@ -0,0 +1,290 @@
+package net.krlite.equator.render.frame;
+
+import net.krlite.equator.math.geometry.flat.Box;
+import net.krlite.equator.math.geometry.flat.MutableVector;
+import net.krlite.equator.math.geometry.flat.Vector;
+import net.krlite.equator.math.geometry.volume.Pos;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4fc;
+
+import java.util.Objects;
+
+/**
+ * <h1>Projection</h1>
+ * A snapshot of the camera of a frame, which projects world positions onto the screen in the
+ * {@link FrameInfo.Convertor Scaled Coordinate}, ready to be rendered through
+ * {@link net.krlite.equator.render.renderer.Flat Flat}.
+ * <br />
+ * The view and projection matrices are combined once when the world is rendered, so that projecting a
+ * {@link Pos} costs a single matrix-vector multiplication, and HUD markers such as waypoints can be projected in
+ * one batch by {@link #project(double[], float[], boolean[])}. Positions outside the view frustum are rejected.
+ * @see #current()
+ */
+public final class Projection {
+	private static @Nullable Projection current;
+
+	// Static Constructors
+
+	/**
+	 * @return	the projection of the last rendered frame, or {@code null} if no world has been rendered yet.
+	 */
+	public static @Nullable Projection current() {
+		return current;
+	}
+
+	/**
+	 * Captures the camera of the frame being rendered. Called once per frame when the world is rendered.
+	 * @param view			the view matrix, which rotates camera-relative positions into the camera space.
+	 * @param projection	the projection matrix.
+	 * @param camera		the position of the camera.
+	 * @return	the captured projection, which is also the {@link #current()} one from now on.
+	 */
+	public static Projection capture(Matrix4fc view, Matrix4fc projection, Vec3d camera) {
+		Projection captured = new Projection(
+				view, projection, camera.x, camera.y, camera.z,
+				MinecraftClient.getInstance().getWindow().getScaledWidth(),
+				MinecraftClient.getInstance().getWindow().getScaledHeight()
+		);
+
+		current = captured;
+		return captured;
+	}
+
+	// Constructors
+
+	private Projection(Matrix4fc view, Matrix4fc projection, double cameraX, double cameraY, double cameraZ, double width, double height) {
+		// projection · view, so that a camera-relative position is transformed by the view first
+		this.m00 = row(projection, 0, view, 0);
+		this.m01 = row(projection, 0, view, 1);
+		this.m02 = row(projection, 0, view, 2);
+		this.m03 = row(projection, 0, view, 3);
+		this.m10 = row(projection, 1, view, 0);
+		this.m11 = row(projection, 1, view, 1);
+		this.m12 = row(projection, 1, view, 2);
+		this.m13 = row(projection, 1, view, 3);
+		this.m20 = row(projection, 2, view, 0);
+		this.m21 = row(projection, 2, view, 1);
+		this.m22 = row(projection, 2, view, 2);
+		this.m23 = row(projection, 2, view, 3);
+		this.m30 = row(projection, 3, view, 0);
+		this.m31 = row(projection, 3, view, 1);
+		this.m32 = row(projection, 3, view, 2);
+		this.m33 = row(projection, 3, view, 3);
+
+		this.cameraX = cameraX;
+		this.cameraY = cameraY;
+		this.cameraZ = cameraZ;
+		this.width = width;
+		this.height = height;
+	}
+
+	// Fields
+
+	/**
+	 * The view-projection matrix, where {@code mRC} is the element in row {@code R} and column {@code C}.
+	 */
+	private final double
+			m00, m01, m02, m03,
+			m10, m11, m12, m13,
+			m20, m21, m22, m23,
+			m30, m31, m32, m33;
+
+	private final double cameraX, cameraY, cameraZ;
+	private final double width, height;
+
+	// Accessors
+
+	public Pos camera() {
+		return new Pos(cameraX, cameraY, cameraZ);
+	}
+
+	/**
+	 * @return	the scaled screen the positions are projected onto.
+	 */
+	public Box screen() {
+		return Box.fromCartesian(width, height);
+	}
+
+	// Properties
+
+	/**
+	 * @return	{@code true -} if the position is inside the view frustum, that is, in front of the camera and on
+	 * the screen.
+	 * <br />	{@code false -} otherwise.
+	 */
+	public boolean isVisible(double x, double y, double z) {
+		x -= cameraX;
+		y -= cameraY;
+		z -= cameraZ;
+
+		double w = m30 * x + m31 * y + m32 * z + m33;
+		return isInside(m00 * x + m01 * y + m02 * z + m03, w)
+					   && isInside(m10 * x + m11 * y + m12 * z + m13, w)
+					   && isInside(m20 * x + m21 * y + m22 * z + m23, w);
+	}
+
+	public boolean isVisible(Pos pos) {
+		return isVisible(pos.x(), pos.y(), pos.z());
+	}
+
+	// Operations
+
+	/**
+	 * Projects a position onto the screen.
+	 * @param out	the mutable vector to write the projected position into.
+	 * @return	{@code true} if the position is visible and was written, {@code false} if it was rejected, in
+	 * which case the given vector is left unchanged.
+	 */
+	public boolean project(double x, double y, double z, MutableVector out) {
+		x -= cameraX;
+		y -= cameraY;
+		z -= cameraZ;
+
+		double
+				clipX = m00 * x + m01 * y + m02 * z + m03,
+				clipY = m10 * x + m11 * y + m12 * z + m13,
+				clipZ = m20 * x + m21 * y + m22 * z + m23,
+				w = m30 * x + m31 * y + m32 * z + m33;
+
+		if (!isInside(clipX, w) || !isInside(clipY, w) || !isInside(clipZ, w)) return false;
+
+		out.set(screenX(clipX / w), screenY(clipY / w));
+		return true;
+	}
+
+	/**
+	 * Projects a position onto the screen.
+	 * @return	the projected position in the {@link FrameInfo.Convertor Scaled Coordinate}, or {@code null} if it
+	 * is outside the view frustum.
+	 */
+	public @Nullable Vector project(Pos pos) {
+		MutableVector projected = new MutableVector();
+		return project(pos.x(), pos.y(), pos.z(), projected) ? projected.toVector() : null;
+	}
+
+	/**
+	 * Projects packed positions, {@code x0, y0, z0, x1, y1, z1, ...}, onto the screen in one pass.
+	 * @param xyz			the packed world positions.
+	 * @param offset		the index of the first position's {@code x}.
+	 * @param outScreenXY	the interleaved projected positions, {@code x0, y0, x1, y1, ...}, starting from the first
+	 *                      position. Entries of rejected positions are left unchanged.
+	 * @param visible		whether each position is inside the view frustum, starting from the first position.
+	 * @param count			the number of positions.
+	 * @return	the number of visible positions.
+	 */
+	public int project(double[] xyz, int offset, float[] outScreenXY, boolean[] visible, int count) {
+		Objects.checkFromIndexSize(offset, count * 3, xyz.length);
+		Objects.checkFromIndexSize(0, count * 2, outScreenXY.length);
+		Objects.checkFromIndexSize(0, count, visible.length);
+
+		int visibleCount = 0;
+
+		for (int i = 0; i < count; i++) {
+			int index = offset + i * 3;
+			double x = xyz[index] - cameraX, y = xyz[index + 1] - cameraY, z = xyz[index + 2] - cameraZ;
+
+			double
+					clipX = m00 * x + m01 * y + m02 * z + m03,
+					clipY = m10 * x + m11 * y + m12 * z + m13,
+					clipZ = m20 * x + m21 * y + m22 * z + m23,
+					w = m30 * x + m31 * y + m32 * z + m33;
+
+			if (isInside(clipX, w) && isInside(clipY, w) && isInside(clipZ, w)) {
+				outScreenXY[i * 2] = (float) screenX(clipX / w);
+				outScreenXY[i * 2 + 1] = (float) screenY(clipY / w);
+				visible[i] = true;
+				visibleCount++;
+			}
+			else visible[i] = false;
+		}
+
+		return visibleCount;
+	}
+
+	/**
+	 * @see #project(double[], int, float[], boolean[], int)
+	 */
+	public int project(double[] xyz, float[] outScreenXY, boolean[] visible) {
+		return project(xyz, 0, outScreenXY, visible, xyz.length / 3);
+	}
+
+	/**
+	 * Projects an axis-aligned world box onto the screen.
+	 * @param min	the corner of the world box with the smallest coordinates.
+	 * @param max	the corner of the world box with the largest coordinates.
+	 * @return	the smallest screen box containing the projected corners, clipped to the screen, or {@code null} if
+	 * the world box is entirely outside the view frustum or crosses the plane of the camera.
+	 */
+	public @Nullable Box project(Pos min, Pos max) {
+		double left = Double.POSITIVE_INFINITY, top = Double.POSITIVE_INFINITY;
+		double right = Double.NEGATIVE_INFINITY, bottom = Double.NEGATIVE_INFINITY;
+		boolean anyInside = false;
+
+		for (int corner = 0; corner < 8; corner++) {
+			double
+					x = ((corner & 1) == 0 ? min.x() : max.x()) - cameraX,
+					y = ((corner & 2) == 0 ? min.y() : max.y()) - cameraY,
+					z = ((corner & 4) == 0 ? min.z() : max.z()) - cameraZ;
+
+			double
+					clipX = m00 * x + m01 * y + m02 * z + m03,
+					clipY = m10 * x + m11 * y + m12 * z + m13,
+					clipZ = m20 * x + m21 * y + m22 * z + m23,
+					w = m30 * x + m31 * y + m32 * z + m33;
+
+			// A corner behind the camera projects mirrored, so the bounds cannot be trusted
+			if (!(w > 0)) return null;
+
+			anyInside |= isInside(clipX, w) && isInside(clipY, w) && isInside(clipZ, w);
+
+			double screenX = screenX(clipX / w), screenY = screenY(clipY / w);
+			left = Math.min(left, screenX);
+			top = Math.min(top, screenY);
+			right = Math.max(right, screenX);
+			bottom = Math.max(bottom, screenY);
+		}
+
+		left = Math.max(left, 0);
+		top = Math.max(top, 0);
+		right = Math.min(right, width);
+		bottom = Math.min(bottom, height);
+
+		if (!anyInside && (left >= right || top >= bottom)) return null;
+
+		return new Box(left, top, right, bottom);
+	}
+
+	private double screenX(double ndcX) {
+		return (ndcX + 1) / 2 * width;
+	}
+
+	private double screenY(double ndcY) {
+		return (1 - ndcY) / 2 * height;
+	}
+
+	private static boolean isInside(double clip, double w) {
+		return -w <= clip && clip <= w;
+	}
+
+	/**
+	 * @return	the element in the given row and column of {@code projection · view}.
+	 */
+	private static double row(Matrix4fc projection, int row, Matrix4fc view, int column) {
+		double sum = 0;
+
+		for (int k = 0; k < 4; k++) {
+			sum += (double) projection.get(k, row) * view.get(column, k);
+		}
+
+		return sum;
+	}
+
+	// Object Methods
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + String.format("[camera=(%.5f, %.5f, %.5f), screen=%.0fx%.0f]", cameraX, cameraY, cameraZ, width, height);
+	}
+}
@@ -0,0 +1,547 @@
+package net.krlite.equator.render.layout;
+
+import net.krlite.equator.base.Exceptions;
+import net.krlite.equator.math.geometry.flat.Box;
+import net.krlite.equator.render.frame.FrameInfo;
+import net.krlite.equator.visual.text.Paragraph;
+import net.krlite.equator.visual.text.Section;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * <h1>Layout</h1>
+ * A retained layout tree of {@link Row}s, {@link Column}s, {@link Stack}s and {@link Leaf}s, which resolves the
+ * {@link Box} of every node in a single pass from the frame down, instead of chaining box operations for every
+ * element on every frame.
+ * <br />
+ * The resolved boxes are cached. Changing a node only marks the subtree it affects as dirty, and a resize only
+ * recomputes the nodes whose space actually changed, so {@link #resolve()} does no layout math at all on a frame
+ * where nothing changed.
+ * <pre>
+ * 	Layout layout = new Layout(new Layout.Row().spacing(4).padding(8).add(icon, label));
+ * 	...
+ * 	layout.resolve();
+ * 	label.box().render(...);
+ * </pre>
+ * A layout is not thread-safe, and should be resolved on the render thread.
+ */
+public class Layout {
+	/**
+	 * A size along one axis, equal to {@code pixels + fraction · available}. A positive {@code weight} instead shares
+	 * the space left along the main axis of a {@link Row} or a {@link Column} with the other weighted nodes, and fills
+	 * the available space anywhere else.
+	 * @param pixels	the fixed part of the size.
+	 * @param fraction	the part of the size relative to the available space.
+	 * @param weight	the share of the space left, or {@code 0} for a size that does not depend on it.
+	 */
+	public record Length(double pixels, double fraction, double weight) {
+		public static final Length FILL = weight(1);
+
+		public static Length pixels(double pixels) {
+			return new Length(pixels, 0, 0);
+		}
+
+		public static Length fraction(double fraction) {
+			return new Length(0, fraction, 0);
+		}
+
+		public static Length weight(double weight) {
+			return new Length(0, 0, weight);
+		}
+
+		public boolean isWeighted() {
+			return weight() > 0;
+		}
+
+		/**
+		 * @param available	the available space.
+		 * @return	the size in the available space, never negative. A weighted length fills it.
+		 */
+		public double resolve(double available) {
+			return Math.max(0, isWeighted() ? available : pixels() + fraction() * available);
+		}
+	}
+
+	/**
+	 * A node of a layout, resolved into a cached {@link Box}.
+	 * @param <N>	the type of the node itself, for chaining.
+	 */
+	public static abstract class Node<N extends Node<N>> {
+		// Fields
+
+		private @Nullable Container<?> parent;
+		private Length width = Length.FILL, height = Length.FILL;
+		private double xAlignment, yAlignment, aspectRatio;
+		private double paddingTop, paddingBottom, paddingLeft, paddingRight;
+
+		private @Nullable Box assigned;
+		private Box box = Box.fromCartesian(0, 0), content = Box.fromCartesian(0, 0);
+		private boolean dirty = true, dirtyDescendants;
+
+		// Accessors
+
+		public @Nullable Container<?> parent() {
+			return parent;
+		}
+
+		public Length width() {
+			return width;
+		}
+
+		public Length height() {
+			return height;
+		}
+
+		public double xAlignment() {
+			return xAlignment;
+		}
+
+		public double yAlignment() {
+			return yAlignment;
+		}
+
+		public double aspectRatio() {
+			return aspectRatio;
+		}
+
+		/**
+		 * @return	the resolved box of this node, as of the last {@link Layout#resolve()}.
+		 */
+		public Box box() {
+			return box;
+		}
+
+		/**
+		 * @return	the resolved box of this node without its padding, which its children are laid out in.
+		 */
+		public Box content() {
+			return content;
+		}
+
+		public boolean isDirty() {
+			return dirty || dirtyDescendants;
+		}
+
+		// Mutators
+
+		public N width(Length width) {
+			if (!this.width.equals(width)) {
+				this.width = width;
+				invalidateParent();
+			}
+			return self();
+		}
+
+		public N height(Length height) {
+			if (!this.height.equals(height)) {
+				this.height = height;
+				invalidateParent();
+			}
+			return self();
+		}
+
+		public N size(Length width, Length height) {
+			return width(width).height(height);
+		}
+
+		public N size(double width, double height) {
+			return size(Length.pixels(width), Length.pixels(height));
+		}
+
+		/**
+		 * Sets where the node sits in the space its parent gives it, along the axes it does not fill.
+		 * @param xAlignment	{@code 0} for the left, {@code 0.5} for the center and {@code 1} for the right.
+		 * @param yAlignment	{@code 0} for the top, {@code 0.5} for the center and {@code 1} for the bottom.
+		 */
+		public N align(double xAlignment, double yAlignment) {
+			if (this.xAlignment != xAlignment || this.yAlignment != yAlignment) {
+				this.xAlignment = xAlignment;
+				this.yAlignment = yAlignment;
+				invalidateParent();
+			}
+			return self();
+		}
+
+		/**
+		 * Sets the alignment the same way as a {@link net.krlite.equator.render.renderer.Flat.Text Text} is aligned in its box.
+		 */
+		public N align(Paragraph.Alignment horizontal, Section.Alignment vertical) {
+			return align(factor(horizontal), factor(vertical));
+		}
+
+		/**
+		 * Keeps the node at the given {@code width / height} ratio, by shrinking it to the largest box of that ratio
+		 * inside the space its parent gives it, placed by its alignment. The same as {@link Box#squareInner()} for
+		 * a ratio of {@code 1}.
+		 * @param aspectRatio	the ratio, or {@code 0} to fill the space.
+		 */
+		public N aspectRatio(double aspectRatio) {
+			if (this.aspectRatio != aspectRatio) {
+				this.aspectRatio = Math.max(0, aspectRatio);
+				invalidate();
+			}
+			return self();
+		}
+
+		public N padding(double top, double bottom, double left, double right) {
+			if (paddingTop != top || paddingBottom != bottom || paddingLeft != left || paddingRight != right) {
+				paddingTop = top;
+				paddingBottom = bottom;
+				paddingLeft = left;
+				paddingRight = right;
+				invalidate();
+			}
+			return self();
+		}
+
+		public N padding(double vertical, double horizontal) {
+			return padding(vertical, vertical, horizontal, horizontal);
+		}
+
+		public N padding(double padding) {
+			return padding(padding, padding);
+		}
+
+		/**
+		 * Marks this node to be resolved again on the next {@link Layout#resolve()}, along with the children whose
+		 * space changes because of it.
+		 */
+		public void invalidate() {
+			dirty = true;
+
+			for (Node<?> node = parent; node != null && !node.dirtyDescendants; node = node.parent) {
+				node.dirtyDescendants = true;
+			}
+		}
+
+		private void invalidateParent() {
+			invalidate();
+			if (parent != null) parent.invalidate();
+		}
+
+		// Operations
+
+		/**
+		 * Resolves this node in the space its parent gives it. Does nothing unless the space or the node changed, and
+		 * only descends into the children that changed.
+		 * @param assigned	the space the parent gives this node.
+		 */
+		void resolve(Box assigned) {
+			if (!dirty && assigned.equals(this.assigned)) {
+				if (dirtyDescendants) resolveDescendants();
+				dirtyDescendants = false;
+				return;
+			}
+
+			this.assigned = assigned;
+			box = fit(assigned);
+			content = Box.fromCartesian(
+					box.x() + paddingLeft, box.y() + paddingTop,
+					Math.max(0, box.w() - paddingLeft - paddingRight), Math.max(0, box.h() - paddingTop - paddingBottom)
+			);
+
+			arrange(content);
+			dirty = dirtyDescendants = false;
+		}
+
+		/**
+		 * Lays out the children of this node in its content box.
+		 */
+		abstract void arrange(Box content);
+
+		/**
+		 * Resolves the children that changed in the spaces they were given last time.
+		 */
+		abstract void resolveDescendants();
+
+		private Box fit(Box assigned) {
+			if (aspectRatio == 0 || assigned.w() == 0 || assigned.h() == 0) return assigned;
+
+			double w = Math.min(assigned.w(), assigned.h() * aspectRatio), h = w / aspectRatio;
+			return Box.fromCartesian(
+					assigned.x() + (assigned.w() - w) * xAlignment, assigned.y() + (assigned.h() - h) * yAlignment, w, h
+			);
+		}
+
+		@SuppressWarnings("unchecked")
+		private N self() {
+			return (N) this;
+		}
+
+		private static double factor(Paragraph.Alignment alignment) {
+			return switch (alignment) {
+				case LEFT -> 0;
+				case CENTER -> 0.5;
+				case RIGHT -> 1;
+			};
+		}
+
+		private static double factor(Section.Alignment alignment) {
+			return switch (alignment) {
+				case TOP -> 0;
+				case CENTER -> 0.5;
+				case BOTTOM -> 1;
+			};
+		}
+
+		// Object Methods
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[box=" + box + "]";
+		}
+	}
+
+	/**
+	 * A node without children, standing for an element such as a text or a button. Give it a size in
+	 * {@link Length#pixels(double) pixels} once its content is measured, and it only moves its siblings when the
+	 * size actually changes.
+	 */
+	public static class Leaf extends Node<Leaf> {
+		@Override
+		void arrange(Box content) {
+		}
+
+		@Override
+		void resolveDescendants() {
+		}
+	}
+
+	/**
+	 * A node that lays out children.
+	 * @param <N>	the type of the node itself, for chaining.
+	 */
+	public static abstract class Container<N extends Container<N>> extends Node<N> {
+		// Fields
+
+		final List<Node<?>> children = new ArrayList<>();
+
+		// Accessors
+
+		public List<Node<?>> children() {
+			return Collections.unmodifiableList(children);
+		}
+
+		// Mutators
+
+		public N add(Node<?>... children) {
+			for (Node<?> child : children) {
+				if (child.parent != null) {
+					throw new Exceptions.LayoutNodeAttachedException(child.toString());
+				}
+
+				child.parent = this;
+				child.assigned = null;
+				this.children.add(child);
+			}
+
+			invalidate();
+			return self();
+		}
+
+		public boolean remove(Node<?> child) {
+			if (child.parent != this) return false;
+
+			children.remove(child);
+			child.parent = null;
+			invalidate();
+			return true;
+		}
+
+		public N clear() {
+			children.forEach(child -> child.parent = null);
+			children.clear();
+			invalidate();
+			return self();
+		}
+
+		// Operations
+
+		@Override
+		void resolveDescendants() {
+			for (Node<?> child : children) {
+				if (child.isDirty()) child.resolve(child.assigned == null ? content() : child.assigned);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private N self() {
+			return (N) this;
+		}
+	}
+
+	/**
+	 * Lays out children on top of each other, each one sized by its {@link Length}s and placed by its alignment in
+	 * the whole content box.
+	 */
+	public static class Stack extends Container<Stack> {
+		@Override
+		void arrange(Box content) {
+			for (Node<?> child : children) {
+				double w = child.width().resolve(content.w()), h = child.height().resolve(content.h());
+
+				child.resolve(Box.fromCartesian(
+						content.x() + (content.w() - w) * child.xAlignment(),
+						content.y() + (content.h() - h) * child.yAlignment(),
+						w, h
+				));
+			}
+		}
+	}
+
+	/**
+	 * Lays out children one after another along an axis, with weighted children sharing the space left.
+	 * @param <N>	the type of the node itself, for chaining.
+	 */
+	public static abstract class Line<N extends Line<N>> extends Container<N> {
+		// Fields
+
+		private double spacing, justification;
+
+		// Accessors
+
+		public double spacing() {
+			return spacing;
+		}
+
+		public double justification() {
+			return justification;
+		}
+
+		// Mutators
+
+		@SuppressWarnings("unchecked")
+		public N spacing(double spacing) {
+			if (this.spacing != spacing) {
+				this.spacing = spacing;
+				invalidate();
+			}
+			return (N) this;
+		}
+
+		/**
+		 * Sets where the children sit along the main axis when none of them is weighted and they do not fill it.
+		 * @param justification	{@code 0} for the start, {@code 0.5} for the center and {@code 1} for the end.
+		 */
+		@SuppressWarnings("unchecked")
+		public N justify(double justification) {
+			if (this.justification != justification) {
+				this.justification = justification;
+				invalidate();
+			}
+			return (N) this;
+		}
+
+		// Operations
+
+		abstract boolean horizontal();
+
+		@Override
+		void arrange(Box content) {
+			boolean horizontal = horizontal();
+			double main = horizontal ? content.w() : content.h(), cross = horizontal ? content.h() : content.w();
+			double fixed = spacing * Math.max(0, children.size() - 1), weights = 0;
+
+			for (Node<?> child : children) {
+				Length length = horizontal ? child.width() : child.height();
+
+				if (length.isWeighted()) weights += length.weight();
+				else fixed += length.resolve(main);
+			}
+
+			double left = Math.max(0, main - fixed);
+			double position = (horizontal ? content.x() : content.y()) + (weights > 0 ? 0 : (main - fixed) * justification);
+
+			for (Node<?> child : children) {
+				Length length = horizontal ? child.width() : child.height(), across = horizontal ? child.height() : child.width();
+				double size = length.isWeighted() ? left * length.weight() / weights : length.resolve(main);
+				double thickness = across.resolve(cross);
+				double offset = (cross - thickness) * (horizontal ? child.yAlignment() : child.xAlignment());
+
+				child.resolve(horizontal
+									  ? Box.fromCartesian(position, content.y() + offset, size, thickness)
+									  : Box.fromCartesian(content.x() + offset, position, thickness, size));
+				position += size + spacing;
+			}
+		}
+	}
+
+	/**
+	 * Lays out children from left to right.
+	 */
+	public static class Row extends Line<Row> {
+		@Override
+		boolean horizontal() {
+			return true;
+		}
+	}
+
+	/**
+	 * Lays out children from top to bottom.
+	 */
+	public static class Column extends Line<Column> {
+		@Override
+		boolean horizontal() {
+			return false;
+		}
+	}
+
+	// Constructors
+
+	/**
+	 * @param frame	supplies the box the root is laid out in, checked on every {@link #resolve()}.
+	 * @param root	the root node.
+	 */
+	public Layout(Supplier<Box> frame, Node<?> root) {
+		this.frame = frame;
+		this.root = root;
+	}
+
+	/**
+	 * Lays out the root in the {@link FrameInfo#scaled() scaled frame}, so that resizing the window resolves it again.
+	 */
+	public Layout(Node<?> root) {
+		this(FrameInfo::scaled, root);
+	}
+
+	// Fields
+
+	private final Supplier<Box> frame;
+	private final Node<?> root;
+
+	// Accessors
+
+	public Node<?> root() {
+		return root;
+	}
+
+	public boolean isDirty() {
+		return root.isDirty() || !frame.get().equals(root.assigned);
+	}
+
+	// Operations
+
+	/**
+	 * Resolves the nodes that changed since the last call, and the ones whose space changed with the frame. Call it
+	 * once per frame before reading any {@link Node#box()}.
+	 * @return	{@code true} if anything was resolved again.
+	 */
+	public boolean resolve() {
+		Box frame = this.frame.get();
+		if (!root.isDirty() && frame.equals(root.assigned)) return false;
+
+		root.resolve(frame);
+		return true;
+	}
+
+	// Object Methods
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[root=" + root + "]";
+	}
+}
@@ -6,6 +6,7 @@ import com.mojang.blaze3d.systems.RenderSystem;
 import net.krlite.equator.math.algebra.Quaternion;
 import net.krlite.equator.math.algebra.Theory;
 import net.krlite.equator.math.geometry.flat.Box;
+import net.krlite.equator.math.geometry.flat.MutableVector;
 import net.krlite.equator.math.geometry.flat.Vector;
 import net.krlite.equator.render.RenderManager;
 import net.krlite.equator.render.base.Renderable;
@@ -15,6 +16,7 @@ import net.krlite.equator.render.renderer.base.Basic;
 import net.krlite.equator.render.vanilla.VanillaWidgets;
 import net.krlite.equator.visual.color.AccurateColor;
 import net.krlite.equator.visual.color.Colorspace;
+import net.krlite.equator.visual.color.PackedColor;
 import net.krlite.equator.visual.color.Palette;
 import net.krlite.equator.visual.color.base.ColorStandard;
 import net.krlite.equator.visual.text.Paragraph;
@@ -38,10 +40,10 @@ import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
-import org.lwjgl.opengl.GL11;
 
 import java.util.*;
 import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
@@ -116,6 +118,10 @@ public class Flat extends Basic {
 			this(null, color, null);
 		}
 
+		public Rectangle(int color) {
+			this(AccurateColor.fromPacked(color));
+		}
+
 		public Rectangle(@Nullable Texture texture) {
 			this(texture, null, null);
 		}
@@ -140,6 +146,12 @@ public class Flat extends Basic {
 		private final @NotNull Colorspace colorspace;
 		private final RectangleMode mode;
 
+		// Scratch space for the vertices, like FlatBatch's. Rendering only happens on the render thread
+		private static final MutableVector vertex = new MutableVector();
+
+		// Created on the first render, so that rendering the same rectangle again doesn't allocate
+		private @Nullable Consumer<FlatBatch.VertexSink> normalVertices;
+
 		// Accessors
 
 		public Box box() {
@@ -247,6 +259,10 @@ public class Flat extends Basic {
 			return new Rectangle(texture(), color, color, color, color, opacityMultiplier(), colorspace(), mode());
 		}
 
+		public Rectangle colors(int color) {
+			return colors(AccurateColor.fromPacked(color));
+		}
+
 		public Rectangle opacityMultiplier(double opacityMultiplier) {
 			return new Rectangle(texture(), colorTopLeft(), colorBottomLeft(), colorBottomRight(), colorTopRight(), opacityMultiplier, colorspace(), mode());
 		}
@@ -305,6 +321,33 @@ public class Flat extends Basic {
 			return color.hasColor() ? color : colorAtCenter().transparent();
 		}
 
+		/**
+		 * @return	{@code true -} if the colors can be interpolated as {@link PackedColor packed colors} without
+		 * 			changing the result. That is, every corner has a color, and they are either blended in
+		 * 			{@link Colorspace#RGB} or all the same.
+		 * <br />	{@code false -} otherwise.
+		 */
+		private boolean isPackable() {
+			if (!colorTopLeft().hasColor() || !colorBottomLeft().hasColor() || !colorBottomRight().hasColor() || !colorTopRight().hasColor())
+				return false;
+
+			int color = colorTopLeft().toPacked();
+			return colorspace() == Colorspace.RGB
+						   || (colorBottomLeft().toPacked() == color && colorBottomRight().toPacked() == color && colorTopRight().toPacked() == color);
+		}
+
+		private int packedColorAt(double xOffset, double yOffset, boolean packable) {
+			int color = packable
+								? PackedColor.bilinear(
+										colorTopLeft().toPacked(), colorBottomLeft().toPacked(),
+										colorBottomRight().toPacked(), colorTopRight().toPacked(),
+										(float) xOffset, (float) yOffset
+								)
+								: assertColor(colorAt(xOffset, yOffset)).toPacked();
+
+			return PackedColor.multiplyOpacity(color, opacityMultiplier());
+		}
+
 		private State state() {
 			if (hasColor() && hasTexture())
 				return State.COLOR_TEXTURE;
@@ -318,40 +361,27 @@ public class Flat extends Basic {
 
 		// Interface Implementations
 
-		private void renderVertex(BufferBuilder builder, Matrix4f matrix, Vector vertex, Vector uv, AccurateColor color, float z) {
-			switch (state()) {
-				case COLOR -> builder.vertex(matrix, (float) vertex.x(), (float) vertex.y(), z)
-									  .color(color.redAsFloat(), color.greenAsFloat(), color.blueAsFloat(), color.opacityAsFloat())
-									  .next();
-				case TEXTURE -> builder.vertex(matrix, (float) vertex.x(), (float) vertex.y(), z)
-										.texture((float) uv.x(), (float) uv.y())
-										.next();
-				case COLOR_TEXTURE -> builder.vertex(matrix, (float) vertex.x(), (float) vertex.y(), z)
-											  .color(color.redAsFloat(), color.greenAsFloat(), color.blueAsFloat(), color.opacityAsFloat())
-											  .texture((float) uv.x(), (float) uv.y())
-											  .next();
-			}
+		private FlatBatch.State batchState() {
+			return new FlatBatch.State(
+					Objects.requireNonNull(state().shaderProgram()), Objects.requireNonNull(state().vertexFormat()),
+					hasTexture() ? Objects.requireNonNull(texture()).identifier() : null,
+					hasColor(), true
+			);
 		}
 
-		private void renderNormal() {
-			boolean blend = GL11.glIsEnabled(GL11.GL_BLEND);
-
-			if (hasColor() && !blend) {
-				RenderSystem.enableBlend();
-			}
-
-			RenderSystem.setShader(Objects.requireNonNull(state().shaderProgram()));
+		private void renderVertex(FlatBatch.VertexSink sink, Matrix4f matrix, MutableVector vertex, double u, double v, int color, float z) {
+			sink.vertex(matrix, (float) vertex.x(), (float) vertex.y(), z, color, (float) u, (float) v);
+		}
 
-			if (hasTexture()) {
-				RenderSystem.setShaderTexture(0, Objects.requireNonNull(texture()).identifier());
-			}
+		private void renderNormal() {
+			if (normalVertices == null) normalVertices = this::renderNormalVertices;
+			FlatBatch.draw(batchState(), VertexFormat.DrawMode.TRIANGLE_STRIP, normalVertices);
+		}
 
-			BufferBuilder builder = Tessellator.getInstance().getBuffer();
+		private void renderNormalVertices(FlatBatch.VertexSink sink) {
 			Matrix4f matrix = matrixStack().peek().getPositionMatrix();
-
-
-			builder.begin(VertexFormat.DrawMode.TRIANGLE_STRIP, state().vertexFormat());
-
+			@Nullable Texture texture = texture();
+			boolean packable = isPackable();
 			double xDelta, yDelta;
 
 			// Width optimization
@@ -368,29 +398,24 @@ public class Flat extends Basic {
 
 			for (double yr = 0; yr < box().h(); yr += yDelta) {
 				double y = Math.min(box().h(), yr);
+				double yNext = Math.min(box().h(), y + yDelta);
 
 				for (double xr = 0; xr < box().w() + xDelta; xr += xDelta) {
 					double x = Math.min(box().w(), xr);
 
 					renderVertex(
-							builder, matrix, box().topLeft().add(x, y),
-							hasTexture() ? Objects.requireNonNull(texture()).uvAt(x / box().w(), y / box().h()) : Vector.ZERO,
-							assertColor(colorAt(x / box().w(), y / box().h())).multiplyOpacity(opacityMultiplier()), z()
+							sink, matrix, vertex.set(box().x() + x, box().y() + y),
+							texture != null ? texture.uAt(x / box().w()) : 0, texture != null ? texture.vAt(y / box().h()) : 0,
+							packedColorAt(x / box().w(), y / box().h(), packable), z()
 					);
 
 					renderVertex(
-							builder, matrix, box().topLeft().add(x, Math.min(box().h(), y + yDelta)),
-							hasTexture() ? Objects.requireNonNull(texture()).uvAt(x / box().w(), Math.min(box().h(), y + yDelta) / box().h()) : Vector.ZERO,
-							assertColor(colorAt(x / box().w(), Math.min(box().h(), y + yDelta) / box().h())).multiplyOpacity(opacityMultiplier()), z()
+							sink, matrix, vertex.set(box().x() + x, box().y() + yNext),
+							texture != null ? texture.uAt(x / box().w()) : 0, texture != null ? texture.vAt(yNext / box().h()) : 0,
+							packedColorAt(x / box().w(), yNext / box().h(), packable), z()
 					);
 				}
 			}
-
-			BufferRenderer.drawWithGlobalProgram(builder.end());
-
-			if (hasColor() && !blend) {
-				RenderSystem.disableBlend();
-			}
 		}
 
 		private void renderTiling() {
@@ -994,14 +1019,15 @@ public class Flat extends Basic {
 
 			public Vector vertexAt(Box box, double offset, double multiplier) {
 				double
-						x = Math.cos(offset) * (box.w() / 2),
-						y = Math.sin(offset) * (box.h() / 2),
-						radius = Math.sqrt(Math.pow(x, 2) + Math.pow(y, 2));
-
-				return box.center().add(Vector.fromCartesian(
-						Math.cos(offset) * (box.w() / 2 + breadth(radius) * multiplier),
-						Math.sin(offset) * (box.h() / 2 + breadth(radius) * multiplier)
-				));
+						cos = Theory.cos(offset), sin = Theory.sin(offset),
+						x = cos * (box.w() / 2),
+						y = sin * (box.h() / 2),
+						breadth = breadth(Math.sqrt(x * x + y * y)) * multiplier;
+
+				return Vector.fromCartesian(
+						box.xCenter() + cos * (box.w() / 2 + breadth),
+						box.yCenter() + sin * (box.h() / 2 + breadth)
+				);
 			}
 
 			public static class Constant extends Breadth {
@@ -1351,18 +1377,16 @@ public class Flat extends Basic {
 			return Math.sqrt(Math.abs(Math.pow(box().w(), 2) - Math.pow(box().h(), 2))) / Math.max(box().w(), box().h());
 		}
 
-		private void renderVertex(BufferBuilder builder, Matrix4f matrix, Vector vertex, AccurateColor color, float z) {
-			builder.vertex(matrix, (float) vertex.x(), (float) vertex.y(), z)
-					.color(color.redAsFloat(), color.greenAsFloat(), color.blueAsFloat(), color.opacityAsFloat())
-					.next();
+		private void renderVertex(FlatBatch.VertexSink sink, Matrix4f matrix, Vector vertex, int color, float z) {
+			sink.vertex(matrix, (float) vertex.x(), (float) vertex.y(), z, color, 0, 0);
 		}
 
-		private void renderInnerVertex(BufferBuilder builder, Matrix4f matrix, double offset, AccurateColor color, float z) {
-			renderVertex(builder, matrix, innerVertexAt(offset), color, z);
+		private void renderInnerVertex(FlatBatch.VertexSink sink, Matrix4f matrix, double offset, int color, float z) {
+			renderVertex(sink, matrix, innerVertexAt(offset), color, z);
 		}
 
-		private void renderOuterVertex(BufferBuilder builder, Matrix4f matrix, double offset, AccurateColor color, float z) {
-			renderVertex(builder, matrix, outerVertexAt(offset), color, z);
+		private void renderOuterVertex(FlatBatch.VertexSink sink, Matrix4f matrix, double offset, int color, float z) {
+			renderVertex(sink, matrix, outerVertexAt(offset), color, z);
 		}
 
 		private double delta() {
@@ -1399,53 +1423,43 @@ public class Flat extends Basic {
 		public void render() {
 			if (!isRenderable()) return;
 
-			RenderSystem.enableBlend();
-			RenderSystem.setShader(GameRenderer::getPositionColorProgram);
-			RenderSystem.disableCull(); // Prevents triangles from being culled
-
-			BufferBuilder builder = Tessellator.getInstance().getBuffer();
 			Matrix4f matrix = matrixStack().peek().getPositionMatrix();
+			boolean full = outline() == VertexProvider.NONE;
 
-			if (outline() == VertexProvider.NONE) { // Full circle
-				builder.begin(VertexFormat.DrawMode.TRIANGLE_FAN, VertexFormats.POSITION_COLOR);
-
-				renderVertex(builder, matrix, box().center(), colorCenter(), z());
-			} else { // Ring
-				builder.begin(VertexFormat.DrawMode.TRIANGLE_STRIP, VertexFormats.POSITION_COLOR);
-			}
-
-			for (
-					double offset = offset();
-					isOffsetLegal(offset);
-					offset = nextOffset(offset)
-			) {
-				double clampedOffset = clampOffset(offset); // Prevents offset from exceeding the end of the arc
+			// Culling is disabled to keep the triangles of any winding
+			FlatBatch.State state = new FlatBatch.State(GameRenderer::getPositionColorProgram, VertexFormats.POSITION_COLOR, null, true, false);
 
-				Vector
-						edge = VertexProvider.NONE.outerVertexAt(box(), clampedOffset, breadth()),
-						innerEdge = innerVertexAt(clampedOffset),
-						outerEdge = outerVertexAt(clampedOffset);
-				double
-						radius = edge.distanceTo(box().center()),
-						radiusFactor = 1 - (edge.distanceTo(innerEdge) + edge.distanceTo(outerEdge)) / radius;
-
-				if (outline() != VertexProvider.NONE) { // Ring
-					// Render the inner (center) vertex
-					renderVertex(builder, matrix, innerEdge,
-							mode().colorAt(this, clampedOffset - offset(), radiusFactor)
-									.multiplyOpacity(opacityMultiplier()), z());
+			FlatBatch.draw(state, full ? VertexFormat.DrawMode.TRIANGLE_FAN : VertexFormat.DrawMode.TRIANGLE_STRIP, sink -> {
+				if (full) { // Full circle
+					renderVertex(sink, matrix, box().center(), colorCenter().toPacked(), z());
 				}
 
-				// Render the outer vertex
-				renderVertex(builder, matrix, outerEdge,
-						mode().colorAt(this, clampedOffset - offset(), 1)
-								.multiplyOpacity(opacityMultiplier()), z());
-			}
-
-			BufferRenderer.drawWithGlobalProgram(builder.end());
+				for (
+						double offset = offset();
+						isOffsetLegal(offset);
+						offset = nextOffset(offset)
+				) {
+					double clampedOffset = clampOffset(offset); // Prevents offset from exceeding the end of the arc
+
+					Vector
+							edge = VertexProvider.NONE.outerVertexAt(box(), clampedOffset, breadth()),
+							innerEdge = innerVertexAt(clampedOffset),
+							outerEdge = outerVertexAt(clampedOffset);
+					double
+							radius = edge.distanceTo(box().center()),
+							radiusFactor = 1 - (edge.distanceTo(innerEdge) + edge.distanceTo(outerEdge)) / radius;
+
+					if (!full) { // Ring
+						// Render the inner (center) vertex
+						renderVertex(sink, matrix, innerEdge,
+								PackedColor.multiplyOpacity(mode().colorAt(this, clampedOffset - offset(), radiusFactor).toPacked(), opacityMultiplier()), z());
+					}
 
-			RenderSystem.disableBlend();
-			RenderSystem.enableCull();
+					// Render the outer vertex
+					renderVertex(sink, matrix, outerEdge,
+							PackedColor.multiplyOpacity(mode().colorAt(this, clampedOffset - offset(), 1).toPacked(), opacityMultiplier()), z());
+				}
+			});
 		}
 
 		// 'Oval'
@@ -1598,6 +1612,7 @@ public class Flat extends Basic {
 		public void render() {
 			if (!isRenderable()) return;
 
+			FlatBatch.flush(); // Texts are drawn through the context
 			Scissor scissor = box().scissor();
 
 			if (culled()) {
@@ -1708,6 +1723,7 @@ public class Flat extends Basic {
 						).alignTopLeft(context),
 						snapped = tooltipSnap().snap(raw, context.w(), context.h());
 
+				FlatBatch.flush(); // Vanilla widgets are drawn through the context
 				VanillaWidgets.Tooltip.render(context(), snapped.expand(bleeding()));
 				preserve(snapped).render();
 			}
@@ -1814,6 +1830,7 @@ public class Flat extends Basic {
 		public void render() {
 			if (!isRenderable()) return;
 
+			FlatBatch.flush(); // Models are drawn through the context
 			renderItemModel: {
 				BakedModel bakedModel = MinecraftClient.getInstance().getItemRenderer().getModel(itemStack(), null, null, 0);
 
@@ -1929,6 +1946,7 @@ public class Flat extends Basic {
 		public void render() {
 			if (!isRenderable()) return;
 
+			FlatBatch.flush(); // Models are drawn through the context
 			renderBlockModel: {
 				BlockState blockState = blockState();
 
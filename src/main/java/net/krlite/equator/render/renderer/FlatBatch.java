@@ -0,0 +1,304 @@
+package net.krlite.equator.render.renderer;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.krlite.equator.visual.color.PackedColor;
+import net.minecraft.client.gl.ShaderProgram;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.BufferRenderer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexFormat;
+import net.minecraft.client.render.VertexFormats;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.joml.Vector4f;
+import org.lwjgl.opengl.GL11;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * <h1>FlatBatch</h1>
+ * Gathers the geometry of consecutive {@link Flat} primitives into one buffer, so that a tooltip or an inventory
+ * background made of dozens of rectangles and ovals costs a few draw calls instead of one each.
+ * <br />
+ * Primitives drawn between {@link #begin()} and {@link #end()} are appended as triangles, with their positions
+ * transformed on the CPU, and are flushed in one draw call whenever the next primitive needs a different
+ * {@link State}. Anything drawn by other means, such as texts, items and {@link net.krlite.equator.render.base.Scissor
+ * scissors}, flushes the pending geometry first so that the drawing order is kept. Whatever is still pending at the
+ * end of the frame is flushed before the buffers are swapped.
+ * <br />
+ * Outside of a batch, primitives are drawn immediately, the same as before. Batching is only meant to be used on
+ * the render thread.
+ * @see #batch(Runnable)
+ * @see #statistics()
+ */
+public final class FlatBatch {
+	/**
+	 * The render state a primitive is drawn with. Consecutive primitives of equal states share a draw call.
+	 * @param shader	the shader program.
+	 * @param format	the vertex format, which must match the shader program.
+	 * @param texture	the texture bound to the first sampler, or {@code null} if none.
+	 * @param blend		whether blending is enabled.
+	 * @param cull		whether face culling is kept enabled.
+	 */
+	public record State(Supplier<ShaderProgram> shader, VertexFormat format, @Nullable Identifier texture, boolean blend, boolean cull) {
+		public boolean hasColor() {
+			return format().getElements().contains(VertexFormats.COLOR_ELEMENT);
+		}
+
+		public boolean hasTexture() {
+			return format().getElements().contains(VertexFormats.TEXTURE_ELEMENT);
+		}
+
+		private void apply() {
+			if (blend()) RenderSystem.enableBlend();
+			if (!cull()) RenderSystem.disableCull();
+
+			RenderSystem.setShader(shader());
+			if (texture() != null) RenderSystem.setShaderTexture(0, texture());
+		}
+
+		private void restore(boolean wasBlending) {
+			if (blend() && !wasBlending) RenderSystem.disableBlend();
+			if (!cull()) RenderSystem.enableCull();
+		}
+	}
+
+	/**
+	 * Receives the vertices of a primitive. Colors and texture coordinates are ignored when the vertex format of the
+	 * primitive has none.
+	 */
+	@FunctionalInterface
+	public interface VertexSink {
+		void vertex(Matrix4f matrix, float x, float y, float z, int color, float u, float v);
+	}
+
+	/**
+	 * The counters of a frame.
+	 * @param primitives	the number of primitives drawn.
+	 * @param drawCalls		the number of draw calls they took.
+	 */
+	public record Statistics(int primitives, int drawCalls) {
+		public static final Statistics EMPTY = new Statistics(0, 0);
+
+		/**
+		 * @return	the number of draw calls saved by batching, compared to drawing every primitive on its own.
+		 */
+		public int drawCallsSaved() {
+			return primitives() - drawCalls();
+		}
+	}
+
+	// Fields
+
+	private static final BufferBuilder builder = new BufferBuilder(0x40000);
+	private static final Vector4f transformed = new Vector4f();
+
+	private static boolean batching;
+	private static @Nullable State pending;
+	private static boolean hasColor, hasTexture;
+
+	private static VertexFormat.DrawMode mode = VertexFormat.DrawMode.TRIANGLES;
+	private static int count;
+	private static final float[] xs = new float[3], ys = new float[3], zs = new float[3], us = new float[3], vs = new float[3];
+	private static final int[] colors = new int[3];
+
+	private static int primitives, drawCalls;
+	private static Statistics statistics = Statistics.EMPTY;
+
+	private static final VertexSink batched = FlatBatch::append;
+
+	// Constructors
+
+	private FlatBatch() {
+	}
+
+	// Accessors
+
+	public static boolean isBatching() {
+		return batching;
+	}
+
+	/**
+	 * @return	the counters of the last complete frame.
+	 */
+	public static Statistics statistics() {
+		return statistics;
+	}
+
+	// Operations
+
+	/**
+	 * Starts gathering the primitives drawn from now on. Does nothing if already batching.
+	 */
+	public static void begin() {
+		batching = true;
+	}
+
+	/**
+	 * Flushes the pending geometry and stops batching.
+	 */
+	public static void end() {
+		flush();
+		batching = false;
+	}
+
+	/**
+	 * Batches the primitives drawn by the given action.
+	 */
+	public static void batch(Runnable action) {
+		if (batching) {
+			action.run();
+			return;
+		}
+
+		begin();
+		try {
+			action.run();
+		} finally {
+			end();
+		}
+	}
+
+	/**
+	 * Draws the pending geometry, if any. Called before anything is drawn by means other than this batch.
+	 */
+	public static void flush() {
+		if (pending == null) return;
+
+		State state = pending;
+		pending = null;
+
+		boolean wasBlending = GL11.glIsEnabled(GL11.GL_BLEND);
+		state.apply();
+		BufferRenderer.drawWithGlobalProgram(builder.end());
+		state.restore(wasBlending);
+
+		drawCalls++;
+	}
+
+	/**
+	 * Flushes and stops the batch left open, and rolls the {@link #statistics() statistics} over. Called at the end
+	 * of each frame, before the buffers are swapped.
+	 */
+	public static void endFrame() {
+		end();
+
+		statistics = new Statistics(primitives, drawCalls);
+		primitives = 0;
+		drawCalls = 0;
+	}
+
+	/**
+	 * Draws a primitive, appending it to the batch if batching, or drawing it immediately otherwise.
+	 * @param state		the render state of the primitive.
+	 * @param mode		the draw mode of the vertices.
+	 * @param vertices	the action that passes the vertices to the given sink.
+	 */
+	public static void draw(State state, VertexFormat.DrawMode mode, Consumer<VertexSink> vertices) {
+		primitives++;
+
+		if (!batching || !isBatchable(mode)) {
+			flush();
+			drawImmediately(state, mode, vertices);
+			return;
+		}
+
+		if (pending != null && !pending.equals(state)) {
+			flush();
+		}
+
+		if (pending == null) {
+			pending = state;
+			hasColor = state.hasColor();
+			hasTexture = state.hasTexture();
+			builder.begin(VertexFormat.DrawMode.TRIANGLES, state.format());
+		}
+
+		FlatBatch.mode = mode;
+		count = 0;
+		vertices.accept(batched);
+	}
+
+	private static void drawImmediately(State state, VertexFormat.DrawMode mode, Consumer<VertexSink> vertices) {
+		boolean color = state.hasColor(), texture = state.hasTexture();
+		boolean wasBlending = GL11.glIsEnabled(GL11.GL_BLEND);
+
+		builder.begin(mode, state.format());
+		vertices.accept((matrix, x, y, z, c, u, v) -> write(builder.vertex(matrix, x, y, z), color, texture, c, u, v));
+
+		state.apply();
+		BufferRenderer.drawWithGlobalProgram(builder.end());
+		state.restore(wasBlending);
+
+		drawCalls++;
+	}
+
+	private static boolean isBatchable(VertexFormat.DrawMode mode) {
+		return mode == VertexFormat.DrawMode.TRIANGLES
+					   || mode == VertexFormat.DrawMode.TRIANGLE_STRIP
+					   || mode == VertexFormat.DrawMode.TRIANGLE_FAN;
+	}
+
+	/**
+	 * Converts the vertices of the current primitive into separate triangles, keeping the winding that the strip or
+	 * the fan would have had.
+	 */
+	private static void append(Matrix4f matrix, float x, float y, float z, int color, float u, float v) {
+		matrix.transform(transformed.set(x, y, z, 1));
+
+		int slot = switch (mode) {
+			case TRIANGLE_FAN -> count == 0 ? 0 : 1 + (count - 1) % 2;
+			default -> count % 3;
+		};
+
+		xs[slot] = transformed.x();
+		ys[slot] = transformed.y();
+		zs[slot] = transformed.z();
+		colors[slot] = color;
+		us[slot] = u;
+		vs[slot] = v;
+		count++;
+
+		switch (mode) {
+			case TRIANGLES -> {
+				if (count % 3 == 0) emit(0, 1, 2);
+			}
+			case TRIANGLE_STRIP -> {
+				if (count < 3) return;
+
+				int first = (count - 3) % 3, second = (count - 2) % 3;
+				// GL swaps the first two vertices of every odd triangle in a strip
+				if ((count - 3) % 2 == 0) emit(first, second, slot);
+				else emit(second, first, slot);
+			}
+			case TRIANGLE_FAN -> {
+				if (count < 3) return;
+				emit(0, 1 + (count - 3) % 2, slot);
+			}
+		}
+	}
+
+	private static void emit(int a, int b, int c) {
+		emit(a);
+		emit(b);
+		emit(c);
+	}
+
+	private static void emit(int slot) {
+		write(builder.vertex(xs[slot], ys[slot], zs[slot]), hasColor, hasTexture, colors[slot], us[slot], vs[slot]);
+	}
+
+	private static void write(VertexConsumer consumer, boolean hasColor, boolean hasTexture, int color, float u, float v) {
+		if (hasColor) {
+			consumer = consumer.color(PackedColor.red(color), PackedColor.green(color), PackedColor.blue(color), PackedColor.alpha(color));
+		}
+
+		if (hasTexture) {
+			consumer = consumer.texture(u, v);
+		}
+
+		consumer.next();
+	}
+}
@@ -3,6 +3,7 @@ package net.krlite.equator.visual.animation.animated;
 import net.krlite.equator.visual.animation.Slice;
 import net.krlite.equator.visual.animation.base.Animation;
 import net.krlite.equator.visual.color.AccurateColor;
+import net.krlite.equator.visual.color.ColorRamp;
 import net.krlite.equator.visual.color.base.ColorStandard;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,6 +29,7 @@ public class AnimatedColor extends Animation<AccurateColor> {
 	}
 
 	private ColorStandard.MixMode mixMode;
+	private @Nullable ColorRamp ramp;
 
 	public ColorStandard.MixMode mixMode() {
 		return mixMode;
@@ -37,6 +39,28 @@ public class AnimatedColor extends Animation<AccurateColor> {
 		this.mixMode = mixMode;
 	}
 
+	public @Nullable ColorRamp ramp() {
+		return ramp;
+	}
+
+	/**
+	 * Samples the values from a {@link ColorRamp} baked from the start and end colors instead of mixing them on
+	 * every frame. The ramp is baked again whenever the start color, the end color or the mix mode changes, so
+	 * this is meant for animations whose colors are fixed.
+	 * @param samples	the number of samples to bake.
+	 */
+	public void bake(int samples) {
+		this.ramp = new ColorRamp(start(), end(), mixMode(), samples);
+	}
+
+	public void bake() {
+		bake(ColorRamp.DEFAULT_SAMPLES);
+	}
+
+	public void unbake() {
+		this.ramp = null;
+	}
+
 	@Override
 	public AccurateColor value(double progress) {
 		return valueClamped(progress);
@@ -44,6 +68,13 @@ public class AnimatedColor extends Animation<AccurateColor> {
 
 	@Override
 	public AccurateColor valueClamped(double progress) {
+		ColorRamp ramp = ramp();
+
+		if (ramp != null) {
+			this.ramp = ramp = ramp.rebake(start(), end(), mixMode());
+			return ramp.sample(slice().applyClamped(0, 1, progress));
+		}
+
 		return start().mix(end(), slice().applyClamped(0, 1, progress), mixMode());
 	}
 }
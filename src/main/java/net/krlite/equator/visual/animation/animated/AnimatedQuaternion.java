@@ -0,0 +1,83 @@
+package net.krlite.equator.visual.animation.animated;
+
+import net.krlite.equator.math.algebra.Quaternion;
+import net.krlite.equator.visual.animation.Slice;
+import net.krlite.equator.visual.animation.base.Animation;
+
+import java.util.concurrent.TimeUnit;
+
+public class AnimatedQuaternion {
+	/**
+	 * Interpolates linearly and normalizes the result, which is the cheapest but speeds up in the middle of wide
+	 * rotations. Takes the shorter way round, the same as the spherical interpolations.
+	 */
+	public static class Linear extends Animation<Quaternion> {
+		public Linear(Quaternion start, Quaternion end, double speed, long duration, TimeUnit timeUnit, boolean sensitive, Slice slice) {
+			super(start, end, speed, duration, timeUnit, sensitive, slice);
+		}
+
+		public Linear(Quaternion start, Quaternion end, long duration, Slice slice) {
+			super(start, end, duration, slice);
+		}
+
+		@Override
+		public Quaternion value(double progress) {
+			return start().interpolation(shorterEnd(), slice().apply(0, 1, progress)).normalize();
+		}
+
+		@Override
+		public Quaternion valueClamped(double progress) {
+			return start().interpolation(shorterEnd(), slice().applyClamped(0, 1, progress)).normalize();
+		}
+
+		/**
+		 * @return	the end, negated if that is the same rotation reached the shorter way round.
+		 */
+		private Quaternion shorterEnd() {
+			return start().dot(end()) < 0 ? end().scale(-1) : end();
+		}
+	}
+
+	public static class Spherical extends Animation<Quaternion> {
+		public Spherical(Quaternion start, Quaternion end, double speed, long duration, TimeUnit timeUnit, boolean sensitive, Slice slice) {
+			super(start, end, speed, duration, timeUnit, sensitive, slice);
+		}
+
+		public Spherical(Quaternion start, Quaternion end, long duration, Slice slice) {
+			super(start, end, duration, slice);
+		}
+
+		@Override
+		public Quaternion value(double progress) {
+			return start().sphericalInterpolation(end(), slice().apply(0, 1, progress));
+		}
+
+		@Override
+		public Quaternion valueClamped(double progress) {
+			return start().sphericalInterpolation(end(), slice().applyClamped(0, 1, progress));
+		}
+	}
+
+	/**
+	 * @see Quaternion#fastSphericalInterpolation(Quaternion, double)
+	 */
+	public static class FastSpherical extends Animation<Quaternion> {
+		public FastSpherical(Quaternion start, Quaternion end, double speed, long duration, TimeUnit timeUnit, boolean sensitive, Slice slice) {
+			super(start, end, speed, duration, timeUnit, sensitive, slice);
+		}
+
+		public FastSpherical(Quaternion start, Quaternion end, long duration, Slice slice) {
+			super(start, end, duration, slice);
+		}
+
+		@Override
+		public Quaternion value(double progress) {
+			return start().fastSphericalInterpolation(end(), slice().apply(0, 1, progress));
+		}
+
+		@Override
+		public Quaternion valueClamped(double progress) {
+			return start().fastSphericalInterpolation(end(), slice().applyClamped(0, 1, progress));
+		}
+	}
+}
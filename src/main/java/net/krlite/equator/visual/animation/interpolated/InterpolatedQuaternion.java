@@ -0,0 +1,82 @@
+package net.krlite.equator.visual.animation.interpolated;
+
+import net.krlite.equator.math.algebra.Quaternion;
+import net.krlite.equator.math.algebra.Theory;
+import net.krlite.equator.visual.animation.base.Interpolation;
+
+public class InterpolatedQuaternion {
+	/**
+	 * Interpolates linearly and normalizes the result, which is the cheapest but speeds up in the middle of wide
+	 * rotations. Takes the shorter way round, the same as the spherical interpolations.
+	 */
+	public static class Linear extends Interpolation<Quaternion> {
+		public Linear(Quaternion initial, double ratio) {
+			super(initial, ratio);
+		}
+
+		public Linear(double ratio) {
+			super(Quaternion.IDENTITY, ratio);
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return isSameRotation(value(), target());
+		}
+
+		@Override
+		public Quaternion interpolate(Quaternion value, Quaternion target) {
+			return value.interpolation(value.dot(target) < 0 ? target.scale(-1) : target, ratio()).normalize();
+		}
+	}
+
+	public static class Spherical extends Interpolation<Quaternion> {
+		public Spherical(Quaternion initial, double ratio) {
+			super(initial, ratio);
+		}
+
+		public Spherical(double ratio) {
+			super(Quaternion.IDENTITY, ratio);
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return isSameRotation(value(), target());
+		}
+
+		@Override
+		public Quaternion interpolate(Quaternion value, Quaternion target) {
+			return value.sphericalInterpolation(target, ratio());
+		}
+	}
+
+	/**
+	 * @see Quaternion#fastSphericalInterpolation(Quaternion, double)
+	 */
+	public static class FastSpherical extends Interpolation<Quaternion> {
+		public FastSpherical(Quaternion initial, double ratio) {
+			super(initial, ratio);
+		}
+
+		public FastSpherical(double ratio) {
+			super(Quaternion.IDENTITY, ratio);
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return isSameRotation(value(), target());
+		}
+
+		@Override
+		public Quaternion interpolate(Quaternion value, Quaternion target) {
+			return value.fastSphericalInterpolation(target, ratio());
+		}
+	}
+
+	/**
+	 * A quaternion and its negation are the same rotation, so the two are compared by the absolute value of their
+	 * dot product.
+	 */
+	private static boolean isSameRotation(Quaternion value, Quaternion target) {
+		return 1 - Math.abs(value.normalize().dot(target.normalize())) <= Theory.EPSILON;
+	}
+}
@@ -0,0 +1,263 @@
+package net.krlite.equator.visual.color;
+
+import net.krlite.equator.math.algebra.Theory;
+
+import java.util.Objects;
+
+import static net.krlite.equator.visual.color.ColorConvertor.EPSILON;
+import static net.krlite.equator.visual.color.ColorConvertor.KAPPA;
+import static net.krlite.equator.visual.color.ColorConvertor.X_REF;
+import static net.krlite.equator.visual.color.ColorConvertor.Y_REF;
+import static net.krlite.equator.visual.color.ColorConvertor.Z_REF;
+
+/**
+ * <h1>ColorBatch</h1>
+ * Conversions over many colors at once, stored as <b>planes</b>: one array per component, where the
+ * {@code i}-th color is made of the {@code i}-th element of every plane. Converting a texture or a gradient strip
+ * this way runs in allocation-free batch loops, with no object per color.
+ * <br />
+ * Every conversion takes an offset and a length, shared by all planes, and produces the same result as the
+ * matching {@link ColorConvertor} conversion applied to every color, within the precision of the planes.
+ * The source and the destination planes may be the same arrays.
+ * <br />
+ * When the JVM is launched with {@code --add-modules jdk.incubator.vector}, the conversions between XYZ and LAB
+ * run on the Vector API, and the rest of the colors that do not fill a whole vector fall back to the scalar loops.
+ * Without the module, every conversion runs the scalar loops.
+ */
+public class ColorBatch {
+	private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+	/**
+	 * @return	{@code true -} if the {@code jdk.incubator.vector} module is present, and the conversions that support
+	 * it run on the Vector API.
+	 * <br />	{@code false -} if every conversion runs the scalar loops.
+	 */
+	public static boolean isVectorized() {
+		return VECTORIZED;
+	}
+
+	// Packing
+
+	/**
+	 * Unpacks {@code 0xAARRGGBB} colors into RGB planes in {@code [0, 1]}, ignoring the opacity.
+	 */
+	public static void unpack(int[] argb, float[] red, float[] green, float[] blue, int offset, int length) {
+		checkPlanes(offset, length, argb.length, red.length, green.length, blue.length);
+
+		for (int i = offset; i < offset + length; i++) {
+			int color = argb[i];
+			red[i] = ((color >> 16) & 0xFF) / 255F;
+			green[i] = ((color >> 8) & 0xFF) / 255F;
+			blue[i] = (color & 0xFF) / 255F;
+		}
+	}
+
+	/**
+	 * Packs RGB planes in {@code [0, 1]} into the {@code 0xAARRGGBB} colors, keeping their opacity.
+	 */
+	public static void pack(float[] red, float[] green, float[] blue, int[] argb, int offset, int length) {
+		checkPlanes(offset, length, argb.length, red.length, green.length, blue.length);
+
+		for (int i = offset; i < offset + length; i++) {
+			argb[i] = (argb[i] & 0xFF000000)
+							  | (channel(red[i]) << 16)
+							  | (channel(green[i]) << 8)
+							  | channel(blue[i]);
+		}
+	}
+
+	public static class FromRGB {
+		public static void toXYZ(double[] red, double[] green, double[] blue, double[] x, double[] y, double[] z, int offset, int length) {
+			checkPlanes(offset, length, red.length, green.length, blue.length, x.length, y.length, z.length);
+
+			for (int i = offset; i < offset + length; i++) {
+				double r = LinearLight.toLinear(red[i]), g = LinearLight.toLinear(green[i]), b = LinearLight.toLinear(blue[i]);
+
+				x[i] = 0.4124 * r + 0.3576 * g + 0.1805 * b;
+				y[i] = 0.2126 * r + 0.7152 * g + 0.0722 * b;
+				z[i] = 0.0193 * r + 0.1192 * g + 0.9505 * b;
+			}
+		}
+
+		public static void toXYZ(float[] red, float[] green, float[] blue, float[] x, float[] y, float[] z, int offset, int length) {
+			checkPlanes(offset, length, red.length, green.length, blue.length, x.length, y.length, z.length);
+
+			for (int i = offset; i < offset + length; i++) {
+				float r = LinearLight.toLinear(red[i]), g = LinearLight.toLinear(green[i]), b = LinearLight.toLinear(blue[i]);
+
+				x[i] = 0.4124F * r + 0.3576F * g + 0.1805F * b;
+				y[i] = 0.2126F * r + 0.7152F * g + 0.0722F * b;
+				z[i] = 0.0193F * r + 0.1192F * g + 0.9505F * b;
+			}
+		}
+
+		public static void toLAB(double[] red, double[] green, double[] blue, double[] L, double[] a, double[] b, int offset, int length) {
+			toXYZ(red, green, blue, L, a, b, offset, length);
+			FromXYZ.toLAB(L, a, b, L, a, b, offset, length);
+		}
+
+		public static void toLAB(float[] red, float[] green, float[] blue, float[] L, float[] a, float[] b, int offset, int length) {
+			toXYZ(red, green, blue, L, a, b, offset, length);
+			FromXYZ.toLAB(L, a, b, L, a, b, offset, length);
+		}
+	}
+
+	public static class ToRGB {
+		public static void fromXYZ(double[] x, double[] y, double[] z, double[] red, double[] green, double[] blue, int offset, int length) {
+			checkPlanes(offset, length, x.length, y.length, z.length, red.length, green.length, blue.length);
+
+			for (int i = offset; i < offset + length; i++) {
+				double xi = x[i], yi = y[i], zi = z[i];
+
+				red[i] = LinearLight.toSRGB(Math.min(Math.max(3.2406 * xi - 1.5372 * yi - 0.4986 * zi, 0), 1));
+				green[i] = LinearLight.toSRGB(Math.min(Math.max(-0.9689 * xi + 1.8758 * yi + 0.0415 * zi, 0), 1));
+				blue[i] = LinearLight.toSRGB(Math.min(Math.max(0.0557 * xi - 0.2040 * yi + 1.0570 * zi, 0), 1));
+			}
+		}
+
+		public static void fromXYZ(float[] x, float[] y, float[] z, float[] red, float[] green, float[] blue, int offset, int length) {
+			checkPlanes(offset, length, x.length, y.length, z.length, red.length, green.length, blue.length);
+
+			for (int i = offset; i < offset + length; i++) {
+				float xi = x[i], yi = y[i], zi = z[i];
+
+				red[i] = LinearLight.toSRGB(Math.min(Math.max(3.2406F * xi - 1.5372F * yi - 0.4986F * zi, 0), 1));
+				green[i] = LinearLight.toSRGB(Math.min(Math.max(-0.9689F * xi + 1.8758F * yi + 0.0415F * zi, 0), 1));
+				blue[i] = LinearLight.toSRGB(Math.min(Math.max(0.0557F * xi - 0.2040F * yi + 1.0570F * zi, 0), 1));
+			}
+		}
+
+		public static void fromLAB(double[] L, double[] a, double[] b, double[] red, double[] green, double[] blue, int offset, int length) {
+			FromLAB.toXYZ(L, a, b, red, green, blue, offset, length);
+			fromXYZ(red, green, blue, red, green, blue, offset, length);
+		}
+
+		public static void fromLAB(float[] L, float[] a, float[] b, float[] red, float[] green, float[] blue, int offset, int length) {
+			FromLAB.toXYZ(L, a, b, red, green, blue, offset, length);
+			fromXYZ(red, green, blue, red, green, blue, offset, length);
+		}
+	}
+
+	public static class FromXYZ {
+		public static void toLAB(double[] x, double[] y, double[] z, double[] L, double[] a, double[] b, int offset, int length) {
+			checkPlanes(offset, length, x.length, y.length, z.length, L.length, a.length, b.length);
+
+			int i = VECTORIZED ? VectorizedColorBatch.toLAB(x, y, z, L, a, b, offset, length) : offset;
+
+			for (; i < offset + length; i++) {
+				double xr = labForward(x[i] / X_REF);
+				double yr = labForward(y[i] / Y_REF);
+				double zr = labForward(z[i] / Z_REF);
+
+				L[i] = 116 * yr - 16;
+				a[i] = 500 * (xr - yr);
+				b[i] = 200 * (yr - zr);
+			}
+		}
+
+		public static void toLAB(float[] x, float[] y, float[] z, float[] L, float[] a, float[] b, int offset, int length) {
+			checkPlanes(offset, length, x.length, y.length, z.length, L.length, a.length, b.length);
+
+			int i = VECTORIZED ? VectorizedColorBatch.toLAB(x, y, z, L, a, b, offset, length) : offset;
+
+			for (; i < offset + length; i++) {
+				float xr = labForward(x[i] / (float) X_REF);
+				float yr = labForward(y[i] / (float) Y_REF);
+				float zr = labForward(z[i] / (float) Z_REF);
+
+				L[i] = 116 * yr - 16;
+				a[i] = 500 * (xr - yr);
+				b[i] = 200 * (yr - zr);
+			}
+		}
+	}
+
+	public static class FromLAB {
+		public static void toXYZ(double[] L, double[] a, double[] b, double[] x, double[] y, double[] z, int offset, int length) {
+			checkPlanes(offset, length, L.length, a.length, b.length, x.length, y.length, z.length);
+
+			int i = VECTORIZED ? VectorizedColorBatch.toXYZ(L, a, b, x, y, z, offset, length) : offset;
+
+			for (; i < offset + length; i++) {
+				double yr = (L[i] + 16) / 116;
+				double xr = a[i] / 500 + yr;
+				double zr = yr - b[i] / 200;
+
+				x[i] = X_REF * labBackward(xr);
+				y[i] = Y_REF * labBackward(yr);
+				z[i] = Z_REF * labBackward(zr);
+			}
+		}
+
+		public static void toXYZ(float[] L, float[] a, float[] b, float[] x, float[] y, float[] z, int offset, int length) {
+			checkPlanes(offset, length, L.length, a.length, b.length, x.length, y.length, z.length);
+
+			int i = VECTORIZED ? VectorizedColorBatch.toXYZ(L, a, b, x, y, z, offset, length) : offset;
+
+			for (; i < offset + length; i++) {
+				float yr = (L[i] + 16) / 116;
+				float xr = a[i] / 500 + yr;
+				float zr = yr - b[i] / 200;
+
+				x[i] = (float) X_REF * labBackward(xr);
+				y[i] = (float) Y_REF * labBackward(yr);
+				z[i] = (float) Z_REF * labBackward(zr);
+			}
+		}
+
+		public static void toLCH(double[] L, double[] a, double[] b, double[] LOut, double[] C, double[] H, int offset, int length) {
+			checkPlanes(offset, length, L.length, a.length, b.length, LOut.length, C.length, H.length);
+
+			for (int i = offset; i < offset + length; i++) {
+				double ai = a[i], bi = b[i];
+				double h = Math.toDegrees(Math.atan2(bi, ai));
+
+				LOut[i] = L[i];
+				C[i] = Math.sqrt(ai * ai + bi * bi);
+				H[i] = h < 0 ? h + 360 : h;
+			}
+		}
+	}
+
+	public static class FromLCH {
+		public static void toLAB(double[] L, double[] C, double[] H, double[] LOut, double[] a, double[] b, int offset, int length) {
+			checkPlanes(offset, length, L.length, C.length, H.length, LOut.length, a.length, b.length);
+
+			for (int i = offset; i < offset + length; i++) {
+				double c = C[i], h = Math.toRadians(H[i]);
+
+				LOut[i] = L[i];
+				a[i] = c * Math.cos(h);
+				b[i] = c * Math.sin(h);
+			}
+		}
+	}
+
+	private static double labForward(double t) {
+		return t > EPSILON ? Theory.Fast.cbrt(t) : (KAPPA * t + 16) / 116;
+	}
+
+	private static float labForward(float t) {
+		return t > EPSILON ? Theory.Fast.cbrt(t) : ((float) KAPPA * t + 16) / 116;
+	}
+
+	private static double labBackward(double t) {
+		double cubed = t * t * t;
+		return cubed > EPSILON ? cubed : (116 * t - 16) / KAPPA;
+	}
+
+	private static float labBackward(float t) {
+		float cubed = t * t * t;
+		return cubed > EPSILON ? cubed : (116 * t - 16) / (float) KAPPA;
+	}
+
+	private static int channel(float value) {
+		return Math.max(0, Math.min(255, (int) (value * 255)));
+	}
+
+	private static void checkPlanes(int offset, int length, int... planeLengths) {
+		for (int planeLength : planeLengths) {
+			Objects.checkFromIndexSize(offset, length, planeLength);
+		}
+	}
+}
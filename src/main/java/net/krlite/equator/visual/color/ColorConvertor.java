@@ -1,7 +1,15 @@
 package net.krlite.equator.visual.color;
 
 import net.krlite.equator.base.Exceptions;
-
+import net.krlite.equator.math.algebra.Theory;
+
+/**
+ * Conversions between the supported {@link Colorspace Colorspaces}.
+ * <br />
+ * Every conversion comes in two forms: a checked one that allocates and returns a new array, and an unchecked one
+ * that writes into the given destination array and returns it. The unchecked forms read all the source components
+ * before writing, so the source and the destination may be the same array.
+ */
 public class ColorConvertor {
 	public static void checkArrayLength(String colorspaceName, double[] color, int expectedLength) {
 		if (color.length != expectedLength) {
@@ -41,6 +49,20 @@ public class ColorConvertor {
 		return result;
 	}
 
+	// CIE constants shared by the XYZ, LAB and LCH conversions
+
+	static final double X_REF = 0.9642, Y_REF = 1.0, Z_REF = 0.8251;
+	static final double EPSILON = 0.008856, KAPPA = 903.3;
+
+	private static double labForward(double t) {
+		return t > EPSILON ? Theory.Fast.cbrt(t) : (KAPPA * t + 16) / 116;
+	}
+
+	private static double labBackward(double t) {
+		double cubed = t * t * t;
+		return cubed > EPSILON ? cubed : (116 * t - 16) / KAPPA;
+	}
+
 	public static class FromRGB {
 		public static int toInt(double[] rgb) {
 			checkArrayLength(Colorspace.RGB.getName(), rgb, 3);
@@ -53,7 +75,10 @@ public class ColorConvertor {
 
 		public static double[] toHSV(double[] rgb) {
 			checkArrayLength(Colorspace.RGB.getName(), rgb, 3);
+			return toHSV(rgb, new double[3]);
+		}
 
+		public static double[] toHSV(double[] rgb, double[] hsv) {
 			double red = rgb[0];
 			double green = rgb[1];
 			double blue = rgb[2];
@@ -62,29 +87,19 @@ public class ColorConvertor {
 			double max = Math.max(Math.max(red, green), blue);
 			double delta = max - min;
 
-			double hue = 0;
-			if (delta != 0) {
-				if (max == red) {
-					hue = ((green - blue) / delta) % 6;
-				} else if (max == green) {
-					hue = ((blue - red) / delta) + 2;
-				} else {
-					hue = ((red - green) / delta) + 4;
-				}
-				hue *= 60;
-				if (hue < 0) {
-					hue += 360;
-				}
-			}
-
-			double saturation = max == 0 ? 0 : delta / max;
+			hsv[0] = hue(red, green, blue, max, delta);
+			hsv[1] = max == 0 ? 0 : delta / max;
+			hsv[2] = max;
 
-			return new double[] { hue, saturation, max };
+			return hsv;
 		}
 
 		public static double[] toHSL(double[] rgb) {
 			checkArrayLength(Colorspace.RGB.getName(), rgb, 3);
+			return toHSL(rgb, new double[3]);
+		}
 
+		public static double[] toHSL(double[] rgb, double[] hsl) {
 			double red = rgb[0];
 			double green = rgb[1];
 			double blue = rgb[2];
@@ -93,21 +108,6 @@ public class ColorConvertor {
 			double max = Math.max(Math.max(red, green), blue);
 			double delta = max - min;
 
-			double hue = 0;
-			if (delta != 0) {
-				if (max == red) {
-					hue = ((green - blue) / delta) % 6;
-				} else if (max == green) {
-					hue = ((blue - red) / delta) + 2;
-				} else {
-					hue = ((red - green) / delta) + 4;
-				}
-				hue *= 60;
-				if (hue < 0) {
-					hue += 360;
-				}
-			}
-
 			double lightness = (max + min) / 2;
 
 			double saturation = 0;
@@ -115,12 +115,19 @@ public class ColorConvertor {
 				saturation = delta / (1 - Math.abs(2 * lightness - 1));
 			}
 
-			return new double[] { hue, saturation, lightness };
+			hsl[0] = hue(red, green, blue, max, delta);
+			hsl[1] = saturation;
+			hsl[2] = lightness;
+
+			return hsl;
 		}
 
 		public static double[] toCMYK(double[] rgb) {
 			checkArrayLength(Colorspace.RGB.getName(), rgb, 3);
+			return toCMYK(rgb, new double[4]);
+		}
 
+		public static double[] toCMYK(double[] rgb, double[] cmyk) {
 			double red = rgb[0];
 			double green = rgb[1];
 			double blue = rgb[2];
@@ -141,130 +148,236 @@ public class ColorConvertor {
 				yellow = 0;
 			}
 
-			return new double[] { cyan, magenta, yellow, black };
+			cmyk[0] = cyan;
+			cmyk[1] = magenta;
+			cmyk[2] = yellow;
+			cmyk[3] = black;
+
+			return cmyk;
 		}
 
 		public static double[] toXYZ(double[] rgb) {
 			checkArrayLength(Colorspace.RGB.getName(), rgb, 3);
+			return toXYZ(rgb, new double[3]);
+		}
 
-			double red = rgb[0];
-			double green = rgb[1];
-			double blue = rgb[2];
+		public static double[] toXYZ(double[] rgb, double[] xyz) {
+			double red = LinearLight.toLinear(rgb[0]);
+			double green = LinearLight.toLinear(rgb[1]);
+			double blue = LinearLight.toLinear(rgb[2]);
 
-			double x = 0.4124 * red + 0.3576 * green + 0.1805 * blue;
-			double y = 0.2126 * red + 0.7152 * green + 0.0722 * blue;
-			double z = 0.0193 * red + 0.1192 * green + 0.9505 * blue;
+			xyz[0] = 0.4124 * red + 0.3576 * green + 0.1805 * blue;
+			xyz[1] = 0.2126 * red + 0.7152 * green + 0.0722 * blue;
+			xyz[2] = 0.0193 * red + 0.1192 * green + 0.9505 * blue;
 
-			return new double[] { x, y, z };
+			return xyz;
 		}
 
 		public static double[] toLAB(double[] rgb) {
 			checkArrayLength(Colorspace.RGB.getName(), rgb, 3);
+			return toLAB(rgb, new double[3]);
+		}
 
-			// Convert to XYZ
-			double[] xyz = toXYZ(rgb);
-			double x = xyz[0];
-			double y = xyz[1];
-			double z = xyz[2];
+		public static double[] toLAB(double[] rgb, double[] Lab) {
+			return FromXYZ.toLAB(toXYZ(rgb, Lab), Lab);
+		}
+
+		public static double[] toLCH(double[] rgb) {
+			checkArrayLength(Colorspace.RGB.getName(), rgb, 3);
+			return toLCH(rgb, new double[3]);
+		}
 
-			// Convert to LAB
-			double xRef = 0.9642;
-			double yRef = 1.0;
-			double zRef = 0.8251;
+		public static double[] toLCH(double[] rgb, double[] LCh) {
+			return FromLAB.toLCH(toLAB(rgb, LCh), LCh);
+		}
 
-			double fx = x / xRef;
-			double fy = y / yRef;
-			double fz = z / zRef;
+		public static double[] toOKLAB(double[] rgb) {
+			checkArrayLength(Colorspace.RGB.getName(), rgb, 3);
+			return toOKLAB(rgb, new double[3]);
+		}
 
-			double epsilon = 0.008856;
-			double kappa = 903.3;
+		public static double[] toOKLAB(double[] rgb, double[] Lab) {
+			double red = LinearLight.toLinear(rgb[0]);
+			double green = LinearLight.toLinear(rgb[1]);
+			double blue = LinearLight.toLinear(rgb[2]);
 
-			double xr = fx > epsilon ? Math.pow(fx, 1.0 / 3) : (kappa * fx + 16) / 116;
-			double yr = fy > epsilon ? Math.pow(fy, 1.0 / 3) : (kappa * fy + 16) / 116;
-			double zr = fz > epsilon ? Math.pow(fz, 1.0 / 3) : (kappa * fz + 16) / 116;
+			double l = Theory.Fast.cbrt(0.4122214708 * red + 0.5363325363 * green + 0.0514459929 * blue);
+			double m = Theory.Fast.cbrt(0.2119034982 * red + 0.6806995451 * green + 0.1073969566 * blue);
+			double s = Theory.Fast.cbrt(0.0883024619 * red + 0.2817188376 * green + 0.6299787005 * blue);
 
-			double l = 116 * yr - 16;
-			double a = 500 * (xr - yr);
-			double b = 200 * (yr - zr);
+			Lab[0] = 0.2104542553 * l + 0.7936177850 * m - 0.0040720468 * s;
+			Lab[1] = 1.9779984951 * l - 2.4285922050 * m + 0.4505937099 * s;
+			Lab[2] = 0.0259040371 * l + 0.7827717662 * m - 0.8086757660 * s;
 
-			return new double[] { l, a, b };
+			return Lab;
 		}
 
-		public static double[] toLCH(double[] rgb) {
+		public static double[] toOKLCH(double[] rgb) {
 			checkArrayLength(Colorspace.RGB.getName(), rgb, 3);
+			return toOKLCH(rgb, new double[3]);
+		}
 
-			// Convert to LAB
-			double[] Lab = toLAB(rgb);
-			double L = Lab[0];
-			double a = Lab[1];
-			double b = Lab[2];
+		public static double[] toOKLCH(double[] rgb, double[] LCh) {
+			return FromOKLAB.toOKLCH(toOKLAB(rgb, LCh), LCh);
+		}
 
-			// Convert to LCh
-			double C = Math.sqrt(a * a + b * b);
-			double H = Math.atan2(b, a);
-			H = H < 0 ? H + 2 * Math.PI : H;
-			H = H * 180 / Math.PI;
+		private static double hue(double red, double green, double blue, double max, double delta) {
+			if (delta == 0) return 0;
 
-			return new double[] { L, C, H };
+			double hue;
+			if (max == red) {
+				hue = ((green - blue) / delta) % 6;
+			} else if (max == green) {
+				hue = ((blue - red) / delta) + 2;
+			} else {
+				hue = ((red - green) / delta) + 4;
+			}
+			hue *= 60;
+
+			return hue < 0 ? hue + 360 : hue;
 		}
 	}
 
 	public static class ToRGB {
 		public static double[] fromInt(int color) {
-			double red = ((color >> 16) & 0xFF) / 255.0;
-			double green = ((color >> 8) & 0xFF) / 255.0;
-			double blue = (color & 0xFF) / 255.0;
-			return new double[] { red, green, blue };
+			return fromInt(color, new double[3]);
+		}
+
+		public static double[] fromInt(int color, double[] rgb) {
+			rgb[0] = ((color >> 16) & 0xFF) / 255.0;
+			rgb[1] = ((color >> 8) & 0xFF) / 255.0;
+			rgb[2] = (color & 0xFF) / 255.0;
+			return rgb;
 		}
 
 		public static double[] fromHSV(double[] hsv) {
 			checkArrayLength(Colorspace.HSV.getName(), hsv, 3);
+			return fromHSV(hsv, new double[3]);
+		}
 
+		public static double[] fromHSV(double[] hsv, double[] rgb) {
 			double hue = hsv[0];
 			double saturation = hsv[1];
 			double value = hsv[2];
 
 			double chroma = value * saturation;
-			double huePrime = hue / 60.0;
-			double x = chroma * (1 - Math.abs(huePrime % 2 - 1));
-
-			double red = 0, green = 0, blue = 0;
-			if (huePrime < 1) {
-				red = chroma;
-				green = x;
-			} else if (huePrime < 2) {
-				red = x;
-				green = chroma;
-			} else if (huePrime < 3) {
-				green = chroma;
-				blue = x;
-			} else if (huePrime < 4) {
-				green = x;
-				blue = chroma;
-			} else if (huePrime < 5) {
-				red = x;
-				blue = chroma;
-			} else {
-				red = chroma;
-				blue = x;
-			}
-
-			double m = value - chroma;
-			red += m;
-			green += m;
-			blue += m;
-
-			return new double[] { red, green, blue };
+			return fromHueChroma(hue, chroma, value - chroma, rgb);
 		}
 
 		public static double[] fromHSL(double[] hsl) {
 			checkArrayLength(Colorspace.HSL.getName(), hsl, 3);
+			return fromHSL(hsl, new double[3]);
+		}
 
+		public static double[] fromHSL(double[] hsl, double[] rgb) {
 			double hue = hsl[0];
 			double saturation = hsl[1];
 			double lightness = hsl[2];
 
 			double chroma = (1 - Math.abs(2 * lightness - 1)) * saturation;
+			return fromHueChroma(hue, chroma, lightness - chroma / 2, rgb);
+		}
+
+		public static double[] fromCMYK(double[] cmyk) {
+			checkArrayLength(Colorspace.CMYK.getName(), cmyk, 4);
+			return fromCMYK(cmyk, new double[3]);
+		}
+
+		public static double[] fromCMYK(double[] cmyk, double[] rgb) {
+			double cyan = cmyk[0];
+			double magenta = cmyk[1];
+			double yellow = cmyk[2];
+			double black = cmyk[3];
+
+			rgb[0] = (1 - cyan) * (1 - black);
+			rgb[1] = (1 - magenta) * (1 - black);
+			rgb[2] = (1 - yellow) * (1 - black);
+
+			return rgb;
+		}
+
+		public static double[] fromXYZ(double[] xyz) {
+			checkArrayLength(Colorspace.XYZ.getName(), xyz, 3);
+			return fromXYZ(xyz, new double[3]);
+		}
+
+		public static double[] fromXYZ(double[] xyz, double[] rgb) {
+			double x = xyz[0];
+			double y = xyz[1];
+			double z = xyz[2];
+
+			double red = 3.2406 * x - 1.5372 * y - 0.4986 * z;
+			double green = -0.9689 * x + 1.8758 * y + 0.0415 * z;
+			double blue = 0.0557 * x - 0.2040 * y + 1.0570 * z;
+
+			// Clip RGB values to the range [0, 1] before encoding them back to sRGB
+			rgb[0] = LinearLight.toSRGB(Math.min(Math.max(red, 0), 1));
+			rgb[1] = LinearLight.toSRGB(Math.min(Math.max(green, 0), 1));
+			rgb[2] = LinearLight.toSRGB(Math.min(Math.max(blue, 0), 1));
+
+			return rgb;
+		}
+
+		public static double[] fromLAB(double[] Lab) {
+			checkArrayLength(Colorspace.LAB.getName(), Lab, 3);
+			return fromLAB(Lab, new double[3]);
+		}
+
+		public static double[] fromLAB(double[] Lab, double[] rgb) {
+			return fromXYZ(FromLAB.toXYZ(Lab, rgb), rgb);
+		}
+
+		public static double[] fromLCH(double[] LCh) {
+			checkArrayLength(Colorspace.LCH.getName(), LCh, 3);
+			return fromLCH(LCh, new double[3]);
+		}
+
+		public static double[] fromLCH(double[] LCh, double[] rgb) {
+			return fromLAB(FromLCH.toLAB(LCh, rgb), rgb);
+		}
+
+		public static double[] fromOKLAB(double[] Lab) {
+			checkArrayLength(Colorspace.OKLAB.getName(), Lab, 3);
+			return fromOKLAB(Lab, new double[3]);
+		}
+
+		public static double[] fromOKLAB(double[] Lab, double[] rgb) {
+			double L = Lab[0];
+			double a = Lab[1];
+			double b = Lab[2];
+
+			// The exact inverses of the matrices in toOKLAB. The ones published with OKLab are rounded to 10 digits,
+			// which made round trips drift by up to 2.6e-7 in linear light
+			double l = 0.9999999984505199 * L + 0.39633779217376786 * a + 0.21580375806075877 * b;
+			double m = 1.0000000088817607 * L - 0.10556134232365634 * a - 0.0638541747717059 * b;
+			double s = 1.0000000546724108 * L - 0.08948418209496575 * a - 1.2914855378640917 * b;
+
+			l = l * l * l;
+			m = m * m * m;
+			s = s * s * s;
+
+			double red = 4.076741661347994 * l - 3.3077115904081937 * m + 0.2309699287294279 * s;
+			double green = -1.2684380040921763 * l + 2.609757400663372 * m - 0.3413193963102196 * s;
+			double blue = -0.004196086541837087 * l - 0.7034186144594495 * m + 1.7076147009309448 * s;
+
+			// Clip RGB values to the range [0, 1] before encoding them back to sRGB
+			rgb[0] = LinearLight.toSRGB(Math.min(Math.max(red, 0), 1));
+			rgb[1] = LinearLight.toSRGB(Math.min(Math.max(green, 0), 1));
+			rgb[2] = LinearLight.toSRGB(Math.min(Math.max(blue, 0), 1));
+
+			return rgb;
+		}
+
+		public static double[] fromOKLCH(double[] LCh) {
+			checkArrayLength(Colorspace.OKLCH.getName(), LCh, 3);
+			return fromOKLCH(LCh, new double[3]);
+		}
+
+		public static double[] fromOKLCH(double[] LCh, double[] rgb) {
+			return fromOKLAB(FromOKLCH.toOKLAB(LCh, rgb), rgb);
+		}
+
+		private static double[] fromHueChroma(double hue, double chroma, double m, double[] rgb) {
 			double huePrime = hue / 60.0;
 			double x = chroma * (1 - Math.abs(huePrime % 2 - 1));
 
@@ -289,52 +402,69 @@ public class ColorConvertor {
 				blue = x;
 			}
 
-			double m = lightness - chroma / 2;
-			red += m;
-			green += m;
-			blue += m;
+			rgb[0] = red + m;
+			rgb[1] = green + m;
+			rgb[2] = blue + m;
 
-			return new double[] { red, green, blue };
+			return rgb;
 		}
+	}
 
-		public static double[] fromCMYK(double[] cmyk) {
-			checkArrayLength(Colorspace.CMYK.getName(), cmyk, 4);
+	// Direct paths, which skip the hop through RGB
 
-			double cyan = cmyk[0];
-			double magenta = cmyk[1];
-			double yellow = cmyk[2];
-			double black = cmyk[3];
+	public static class FromHSV {
+		public static double[] toHSL(double[] hsv, double[] hsl) {
+			double hue = hsv[0];
+			double saturation = hsv[1];
+			double value = hsv[2];
 
-			double red = (1 - cyan) * (1 - black);
-			double green = (1 - magenta) * (1 - black);
-			double blue = (1 - yellow) * (1 - black);
+			double lightness = value * (1 - saturation / 2);
+			double range = Math.min(lightness, 1 - lightness);
 
-			return new double[] { red, green, blue };
+			hsl[0] = hue;
+			hsl[1] = range == 0 ? 0 : (value - lightness) / range;
+			hsl[2] = lightness;
+
+			return hsl;
 		}
+	}
 
-		public static double[] fromXYZ(double[] xyz) {
-			checkArrayLength(Colorspace.XYZ.getName(), xyz, 3);
+	public static class FromHSL {
+		public static double[] toHSV(double[] hsl, double[] hsv) {
+			double hue = hsl[0];
+			double saturation = hsl[1];
+			double lightness = hsl[2];
 
-			double x = xyz[0];
-			double y = xyz[1];
-			double z = xyz[2];
+			double value = lightness + saturation * Math.min(lightness, 1 - lightness);
 
-			double red = 3.2406 * x - 1.5372 * y - 0.4986 * z;
-			double green = -0.9689 * x + 1.8758 * y + 0.0415 * z;
-			double blue = 0.0557 * x - 0.2040 * y + 1.0570 * z;
+			hsv[0] = hue;
+			hsv[1] = value == 0 ? 0 : 2 * (1 - lightness / value);
+			hsv[2] = value;
 
-			// Clip RGB values to the range [0, 1]
-			red = Math.min(Math.max(red, 0), 1);
-			green = Math.min(Math.max(green, 0), 1);
-			blue = Math.min(Math.max(blue, 0), 1);
+			return hsv;
+		}
+	}
 
-			return new double[] { red, green, blue };
+	public static class FromXYZ {
+		public static double[] toLAB(double[] xyz, double[] Lab) {
+			double xr = labForward(xyz[0] / X_REF);
+			double yr = labForward(xyz[1] / Y_REF);
+			double zr = labForward(xyz[2] / Z_REF);
+
+			Lab[0] = 116 * yr - 16;
+			Lab[1] = 500 * (xr - yr);
+			Lab[2] = 200 * (yr - zr);
+
+			return Lab;
 		}
 
-		public static double[] fromLAB(double[] Lab) {
-			checkArrayLength(Colorspace.LAB.getName(), Lab, 3);
+		public static double[] toLCH(double[] xyz, double[] LCh) {
+			return FromLAB.toLCH(toLAB(xyz, LCh), LCh);
+		}
+	}
 
-			// Convert to XYZ
+	public static class FromLAB {
+		public static double[] toXYZ(double[] Lab, double[] xyz) {
 			double l = Lab[0];
 			double a = Lab[1];
 			double b = Lab[2];
@@ -343,32 +473,57 @@ public class ColorConvertor {
 			double xr = a / 500 + yr;
 			double zr = yr - b / 200;
 
-			double xRef = 0.9642;
-			double yRef = 1.0;
-			double zRef = 0.8251;
-
-			double x = xRef * (xr * xr * xr > 0.008856 ? xr * xr * xr : (116 * xr - 16) / 903.3);
-			double y = yRef * (yr * yr * yr > 0.008856 ? yr * yr * yr : (116 * yr - 16) / 903.3);
-			double z = zRef * (zr * zr * zr > 0.008856 ? zr * zr * zr : (116 * zr - 16) / 903.3);
+			xyz[0] = X_REF * labBackward(xr);
+			xyz[1] = Y_REF * labBackward(yr);
+			xyz[2] = Z_REF * labBackward(zr);
 
-			// Convert to RGB
-			return fromXYZ(new double[] { x, y, z });
+			return xyz;
 		}
 
-		public static double[] fromLCH(double[] LCh) {
-			checkArrayLength(Colorspace.LCH.getName(), LCh, 3);
+		public static double[] toLCH(double[] Lab, double[] LCh) {
+			double L = Lab[0];
+			double a = Lab[1];
+			double b = Lab[2];
+
+			double H = Math.atan2(b, a);
+			H = H < 0 ? H + 2 * Math.PI : H;
+
+			LCh[0] = L;
+			LCh[1] = Math.sqrt(a * a + b * b);
+			LCh[2] = H * 180 / Math.PI;
 
+			return LCh;
+		}
+	}
+
+	public static class FromLCH {
+		public static double[] toLAB(double[] LCh, double[] Lab) {
 			double L = LCh[0];
 			double C = LCh[1];
-			double h = LCh[2];
+			double h = LCh[2] * Math.PI / 180;
+
+			Lab[0] = L;
+			Lab[1] = C * Math.cos(h);
+			Lab[2] = C * Math.sin(h);
+
+			return Lab;
+		}
 
-			// Convert to LAB
-			double a = C * Math.cos(h * Math.PI / 180);
-			double b = C * Math.sin(h * Math.PI / 180);
-			double[] Lab = new double[] { L, a, b };
+		public static double[] toXYZ(double[] LCh, double[] xyz) {
+			return FromLAB.toXYZ(toLAB(LCh, xyz), xyz);
+		}
+	}
+
+	public static class FromOKLAB {
+		public static double[] toOKLCH(double[] Lab, double[] LCh) {
+			// Same polar form as CIELCh
+			return FromLAB.toLCH(Lab, LCh);
+		}
+	}
 
-			// Convert to RGB
-			return fromLAB(Lab);
+	public static class FromOKLCH {
+		public static double[] toOKLAB(double[] LCh, double[] Lab) {
+			return FromLCH.toLAB(LCh, Lab);
 		}
 	}
 }
@@ -0,0 +1,141 @@
+package net.krlite.equator.visual.color;
+
+import net.krlite.equator.base.Exceptions;
+import net.krlite.equator.math.algebra.Theory;
+import net.krlite.equator.visual.color.base.ColorStandard;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <h1>ColorRamp</h1>
+ * A fixed number of colors baked once from mixing two colors, so that sampling a mix costs a lookup instead of
+ * a colorspace conversion and a mix. The samples are shared instances, so sampling never allocates.
+ * <br />
+ * Sampling picks the nearest sample. When two sRGB colors are mixed by {@link ColorStandard.MixMode#BLEND BLEND},
+ * which interpolates the channels linearly, {@link #DEFAULT_SAMPLES} samples step at most one unit per 8-bit channel
+ * between two neighbours, so the result is indistinguishable from mixing once rendered. The other mix modes are not
+ * linear in sRGB, so their steps can be larger where the mix changes fastest.
+ * @see net.krlite.equator.visual.animation.animated.AnimatedColor#bake(int)
+ * @see net.krlite.equator.visual.animation.interpolated.InterpolatedColor#bake(int)
+ */
+public class ColorRamp {
+	public static final int DEFAULT_SAMPLES = 256;
+
+	/**
+	 * The hue wheel used by {@link Palette#rainbow(double)}, covering the full circle in {@link Colorspace#HSV}
+	 * with a full saturation and a value of {@code 0.72}.
+	 */
+	public static final ColorRamp HUE_WHEEL = hueWheel(1024, 1, 0.72);
+
+	// Static Constructors
+
+	public static ColorRamp hueWheel(int samples, double saturation, double value) {
+		AccurateColor[] colors = new AccurateColor[checkSamples(samples)];
+
+		for (int i = 0; i < samples; i++) {
+			colors[i] = new AccurateColor(Colorspace.HSV, new double[] { 360.0 * i / samples, saturation, value }, 1);
+		}
+
+		return new ColorRamp(colors[0], colors[0], ColorStandard.MixMode.BLEND, colors);
+	}
+
+	// Constructors
+
+	private ColorRamp(AccurateColor start, AccurateColor end, ColorStandard.MixMode mixMode, AccurateColor[] samples) {
+		this.start = start;
+		this.end = end;
+		this.mixMode = mixMode;
+		this.samples = samples;
+	}
+
+	public ColorRamp(@Nullable AccurateColor start, @Nullable AccurateColor end, ColorStandard.MixMode mixMode, int samples) {
+		this(AccurateColor.notnull(start), AccurateColor.notnull(end), mixMode, new AccurateColor[checkSamples(samples)]);
+
+		for (int i = 0; i < samples; i++) {
+			this.samples[i] = start().mix(end(), (double) i / (samples - 1), mixMode());
+		}
+	}
+
+	public ColorRamp(@Nullable AccurateColor start, @Nullable AccurateColor end, ColorStandard.MixMode mixMode) {
+		this(start, end, mixMode, DEFAULT_SAMPLES);
+	}
+
+	public ColorRamp(@Nullable AccurateColor start, @Nullable AccurateColor end) {
+		this(start, end, ColorStandard.MixMode.BLEND);
+	}
+
+	// Fields
+
+	private final AccurateColor start, end;
+	private final ColorStandard.MixMode mixMode;
+	private final AccurateColor[] samples;
+
+	// Accessors
+
+	public AccurateColor start() {
+		return start;
+	}
+
+	public AccurateColor end() {
+		return end;
+	}
+
+	public ColorStandard.MixMode mixMode() {
+		return mixMode;
+	}
+
+	public int samples() {
+		return samples.length;
+	}
+
+	// Properties
+
+	/**
+	 * Checks whether this ramp was baked from exactly the given colors, compared by identity.
+	 * @param start		the start color.
+	 * @param end		the end color.
+	 * @param mixMode	the mix mode.
+	 * @return	{@code true} if this ramp can stand in for mixing the given colors.
+	 */
+	public boolean matches(@Nullable AccurateColor start, @Nullable AccurateColor end, ColorStandard.MixMode mixMode) {
+		return start() == start && end() == end && mixMode() == mixMode;
+	}
+
+	// Operations
+
+	/**
+	 * Samples this ramp, equivalent to {@code start().mix(end(), ratio, mixMode())}.
+	 * @param ratio	the mixing ratio, clamped to {@code [0, 1]}.
+	 * @return	the nearest sample.
+	 */
+	public AccurateColor sample(double ratio) {
+		return samples[(int) Math.round(Theory.clamp(ratio, 0, 1) * (samples.length - 1))];
+	}
+
+	/**
+	 * Samples this ramp as a loop, where {@code 0} and {@code 1} map to the same sample.
+	 * @param ratio	the position on the loop, wrapped into {@code [0, 1)}.
+	 * @return	the nearest sample.
+	 */
+	public AccurateColor sampleWrapped(double ratio) {
+		return samples[(int) Math.round(Theory.mod(ratio, 1) * samples.length) % samples.length];
+	}
+
+	/**
+	 * Bakes a new ramp with the same number of samples, or returns this ramp if it already matches.
+	 * @param start		the start color.
+	 * @param end		the end color.
+	 * @param mixMode	the mix mode.
+	 * @return	a ramp matching the given colors.
+	 */
+	public ColorRamp rebake(@Nullable AccurateColor start, @Nullable AccurateColor end, ColorStandard.MixMode mixMode) {
+		return matches(start, end, mixMode) ? this : new ColorRamp(start, end, mixMode, samples());
+	}
+
+	private static int checkSamples(int samples) {
+		if (samples < 2) {
+			throw new Exceptions.RampSamplesTooFewException(samples);
+		}
+
+		return samples;
+	}
+}
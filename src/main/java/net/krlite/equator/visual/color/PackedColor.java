@@ -0,0 +1,165 @@
+package net.krlite.equator.visual.color;
+
+/**
+ * <h1>PackedColor</h1>
+ * Utilities for colors packed into a single {@code int} in the {@code 0xAARRGGBB} layout, which is what the
+ * renderers finally submit to the vertex buffers.
+ * <br />
+ * Every operation here works on the packed integer directly, with no {@link AccurateColor} or double-precision
+ * conversion involved. Channels are truncated the same way the vertex consumers truncate float colors, so a
+ * packed color renders identically to the {@link AccurateColor} it was packed from.
+ * @see AccurateColor#toPacked()
+ */
+public class PackedColor {
+	public static final int TRANSPARENT = 0x00000000, BLACK = 0xFF000000, WHITE = 0xFFFFFFFF;
+
+	// Packing
+
+	public static int argb(int alpha, int red, int green, int blue) {
+		return (clampChannel(alpha) << 24) | (clampChannel(red) << 16) | (clampChannel(green) << 8) | clampChannel(blue);
+	}
+
+	public static int rgb(int red, int green, int blue) {
+		return argb(255, red, green, blue);
+	}
+
+	public static int pack(double red, double green, double blue, double opacity) {
+		return argb((int) (opacity * 255), (int) (red * 255), (int) (green * 255), (int) (blue * 255));
+	}
+
+	public static int pack(float red, float green, float blue, float opacity) {
+		return argb((int) (opacity * 255), (int) (red * 255), (int) (green * 255), (int) (blue * 255));
+	}
+
+	// Accessors
+
+	public static int alpha(int argb) {
+		return argb >>> 24;
+	}
+
+	public static int red(int argb) {
+		return (argb >> 16) & 0xFF;
+	}
+
+	public static int green(int argb) {
+		return (argb >> 8) & 0xFF;
+	}
+
+	public static int blue(int argb) {
+		return argb & 0xFF;
+	}
+
+	public static float opacityAsFloat(int argb) {
+		return alpha(argb) / 255F;
+	}
+
+	public static float redAsFloat(int argb) {
+		return red(argb) / 255F;
+	}
+
+	public static float greenAsFloat(int argb) {
+		return green(argb) / 255F;
+	}
+
+	public static float blueAsFloat(int argb) {
+		return blue(argb) / 255F;
+	}
+
+	// Properties
+
+	public static boolean hasOpacity(int argb) {
+		return alpha(argb) != 0;
+	}
+
+	public static boolean isOpaque(int argb) {
+		return alpha(argb) == 0xFF;
+	}
+
+	// Operations
+
+	public static int opacity(int argb, int alpha) {
+		return (clampChannel(alpha) << 24) | (argb & 0xFFFFFF);
+	}
+
+	/**
+	 * Multiplies the opacity, clamping the result rather than the multiplier, the same as
+	 * {@link AccurateColor#multiplyOpacity(double)}.
+	 */
+	public static int multiplyOpacity(int argb, double multiplier) {
+		return opacity(argb, (int) (alpha(argb) * multiplier));
+	}
+
+	/**
+	 * Multiplies the color channels by the opacity, as expected by the {@code ONE, ONE_MINUS_SRC_ALPHA} blend
+	 * function.
+	 * @param argb	the straight (non-premultiplied) color.
+	 * @return	the premultiplied color.
+	 */
+	public static int premultiply(int argb) {
+		int alpha = alpha(argb);
+		if (alpha == 0xFF) return argb;
+		if (alpha == 0) return TRANSPARENT;
+
+		return (alpha << 24)
+					   | (divide255(red(argb) * alpha) << 16)
+					   | (divide255(green(argb) * alpha) << 8)
+					   | divide255(blue(argb) * alpha);
+	}
+
+	/**
+	 * Linearly interpolates every channel, including the opacity, of two packed colors.
+	 * @param a	the first color.
+	 * @param b	the second color.
+	 * @param t	the interpolation value, clamped to {@code [0, 1]}.
+	 * @return	the interpolated color.
+	 */
+	public static int lerp(int a, int b, float t) {
+		if (a == b || t <= 0) return a;
+		if (t >= 1) return b;
+
+		return (lerpChannel(a >>> 24, b >>> 24, t) << 24)
+					   | (lerpChannel((a >> 16) & 0xFF, (b >> 16) & 0xFF, t) << 16)
+					   | (lerpChannel((a >> 8) & 0xFF, (b >> 8) & 0xFF, t) << 8)
+					   | lerpChannel(a & 0xFF, b & 0xFF, t);
+	}
+
+	public static int mix(int a, int b, double ratio) {
+		return lerp(a, b, (float) ratio);
+	}
+
+	public static int mix(int a, int b) {
+		return lerp(a, b, 0.5F);
+	}
+
+	/**
+	 * Bilinearly interpolates the four corner colors of a rectangle, the same way as
+	 * {@code Flat.Rectangle#colorAt(double, double)} does in {@link Colorspace#RGB}.
+	 * @param topLeft		the top left color.
+	 * @param bottomLeft	the bottom left color.
+	 * @param bottomRight	the bottom right color.
+	 * @param topRight		the top right color.
+	 * @param xOffset		the horizontal offset, in {@code [0, 1]}.
+	 * @param yOffset		the vertical offset, in {@code [0, 1]}.
+	 * @return	the interpolated color.
+	 */
+	public static int bilinear(int topLeft, int bottomLeft, int bottomRight, int topRight, float xOffset, float yOffset) {
+		return lerp(lerp(topLeft, bottomLeft, yOffset), lerp(topRight, bottomRight, yOffset), xOffset);
+	}
+
+	public static int invert(int argb) {
+		return argb ^ 0xFFFFFF;
+	}
+
+	private static int lerpChannel(int a, int b, float t) {
+		return (int) (a + (b - a) * t);
+	}
+
+	private static int divide255(int value) {
+		// Exact floor division for value in [0, 255 * 255]
+		return (value + 1 + (value >> 8)) >> 8;
+	}
+
+	private static int clampChannel(int value) {
+		return Math.max(0, Math.min(255, value));
+	}
+}
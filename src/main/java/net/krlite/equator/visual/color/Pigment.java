@@ -0,0 +1,78 @@
+package net.krlite.equator.visual.color;
+
+import com.scrtwpns.Mixbox;
+
+/**
+ * <h1>Pigment</h1>
+ * Pigment mixing backed by <a href="https://github.com/scrtwpns/mixbox">Mixbox</a>, split into its two stages so the
+ * expensive one can be cached:
+ * <ol>
+ *     <li>Converting an RGB color into its latent vector of {@link Mixbox#LATENT_SIZE} components.</li>
+ *     <li>Linearly interpolating two latent vectors and converting the result back to RGB.</li>
+ * </ol>
+ * {@link Mixbox#lerpFloat(float[], float[], float)} does both stages on every call. Mixing the same endpoints
+ * repeatedly, as gradients and animations do, should convert them once and reuse the latent vectors.
+ * @see AccurateColor#mix(AccurateColor, double, net.krlite.equator.visual.color.base.ColorStandard.MixMode)
+ */
+public class Pigment {
+	public static final int LATENT_SIZE = Mixbox.LATENT_SIZE;
+
+	// Latent Conversions
+
+	public static float[] latent(float red, float green, float blue) {
+		return Mixbox.floatRgbToLatent(red, green, blue);
+	}
+
+	public static float[] latent(float[] rgb) {
+		return latent(rgb[0], rgb[1], rgb[2]);
+	}
+
+	public static float[] latent(double[] rgb) {
+		return latent((float) rgb[0], (float) rgb[1], (float) rgb[2]);
+	}
+
+	public static float[] rgb(float[] latent) {
+		return Mixbox.latentToFloatRgb(latent);
+	}
+
+	// Latent Operations
+
+	/**
+	 * Linearly interpolates two latent vectors into the destination, without allocating.
+	 * @param latent		the first latent vector.
+	 * @param anotherLatent	the second latent vector.
+	 * @param ratio			the interpolation value.
+	 * @param dst			the destination of at least {@link #LATENT_SIZE} components, may be either of the
+	 *                      sources.
+	 * @return	the destination.
+	 */
+	public static float[] lerpLatent(float[] latent, float[] anotherLatent, float ratio, float[] dst) {
+		for (int i = 0; i < LATENT_SIZE; i++) {
+			dst[i] = latent[i] + (anotherLatent[i] - latent[i]) * ratio;
+		}
+
+		return dst;
+	}
+
+	/**
+	 * Mixes two colors given by their latent vectors.
+	 * @param latent		the latent vector of the first color.
+	 * @param anotherLatent	the latent vector of the second color.
+	 * @param ratio			the mixing ratio.
+	 * @return	the mixed color in RGB.
+	 */
+	public static float[] mixLatent(float[] latent, float[] anotherLatent, float ratio) {
+		return rgb(lerpLatent(latent, anotherLatent, ratio, new float[LATENT_SIZE]));
+	}
+
+	// Operations
+
+	public static float[] mix(float[] rgb, float[] anotherRGB, float ratio) {
+		return mixLatent(latent(rgb), latent(anotherRGB), ratio);
+	}
+
+	public static double[] mix(double[] rgb, double[] anotherRGB, double ratio) {
+		float[] mixed = mixLatent(latent(rgb), latent(anotherRGB), (float) ratio);
+		return new double[] { mixed[0], mixed[1], mixed[2] };
+	}
+}
@@ -0,0 +1,158 @@
+package net.krlite.equator.visual.color;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static net.krlite.equator.visual.color.ColorConvertor.EPSILON;
+import static net.krlite.equator.visual.color.ColorConvertor.KAPPA;
+import static net.krlite.equator.visual.color.ColorConvertor.X_REF;
+import static net.krlite.equator.visual.color.ColorConvertor.Y_REF;
+import static net.krlite.equator.visual.color.ColorConvertor.Z_REF;
+
+/**
+ * <h1>VectorizedColorBatch</h1>
+ * The {@code jdk.incubator.vector} path of {@link ColorBatch}, covering the conversions between XYZ and LAB, which
+ * are pure arithmetic. Every method converts the whole vectors from the offset on, and returns the index where
+ * the scalar loop of {@link ColorBatch} takes over for the remaining colors.
+ * <br />
+ * This class must only be loaded when the module is {@link ColorBatch#isVectorized() present}.
+ */
+final class VectorizedColorBatch {
+	private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+	// The same bit-level cube root guesses as Theory.Fast.cbrt
+	private static final int FLOAT_CBRT_MAGIC = 0x2A5137A0;
+	private static final long DOUBLE_CBRT_MAGIC = 0x2A9F7893782DA1CEL;
+
+	private VectorizedColorBatch() {
+	}
+
+	// XYZ → LAB
+
+	static int toLAB(double[] x, double[] y, double[] z, double[] L, double[] a, double[] b, int offset, int length) {
+		int i = offset, bound = offset + DOUBLES.loopBound(length);
+
+		for (; i < bound; i += DOUBLES.length()) {
+			DoubleVector xr = labForward(DoubleVector.fromArray(DOUBLES, x, i).div(X_REF));
+			DoubleVector yr = labForward(DoubleVector.fromArray(DOUBLES, y, i).div(Y_REF));
+			DoubleVector zr = labForward(DoubleVector.fromArray(DOUBLES, z, i).div(Z_REF));
+
+			yr.mul(116).sub(16).intoArray(L, i);
+			xr.sub(yr).mul(500).intoArray(a, i);
+			yr.sub(zr).mul(200).intoArray(b, i);
+		}
+
+		return i;
+	}
+
+	static int toLAB(float[] x, float[] y, float[] z, float[] L, float[] a, float[] b, int offset, int length) {
+		int i = offset, bound = offset + FLOATS.loopBound(length);
+
+		for (; i < bound; i += FLOATS.length()) {
+			FloatVector xr = labForward(FloatVector.fromArray(FLOATS, x, i).div((float) X_REF));
+			FloatVector yr = labForward(FloatVector.fromArray(FLOATS, y, i).div((float) Y_REF));
+			FloatVector zr = labForward(FloatVector.fromArray(FLOATS, z, i).div((float) Z_REF));
+
+			yr.mul(116).sub(16).intoArray(L, i);
+			xr.sub(yr).mul(500).intoArray(a, i);
+			yr.sub(zr).mul(200).intoArray(b, i);
+		}
+
+		return i;
+	}
+
+	// LAB → XYZ
+
+	static int toXYZ(double[] L, double[] a, double[] b, double[] x, double[] y, double[] z, int offset, int length) {
+		int i = offset, bound = offset + DOUBLES.loopBound(length);
+
+		for (; i < bound; i += DOUBLES.length()) {
+			DoubleVector yr = DoubleVector.fromArray(DOUBLES, L, i).add(16).div(116);
+			DoubleVector xr = DoubleVector.fromArray(DOUBLES, a, i).div(500).add(yr);
+			DoubleVector zr = yr.sub(DoubleVector.fromArray(DOUBLES, b, i).div(200));
+
+			labBackward(xr).mul(X_REF).intoArray(x, i);
+			labBackward(yr).mul(Y_REF).intoArray(y, i);
+			labBackward(zr).mul(Z_REF).intoArray(z, i);
+		}
+
+		return i;
+	}
+
+	static int toXYZ(float[] L, float[] a, float[] b, float[] x, float[] y, float[] z, int offset, int length) {
+		int i = offset, bound = offset + FLOATS.loopBound(length);
+
+		for (; i < bound; i += FLOATS.length()) {
+			FloatVector yr = FloatVector.fromArray(FLOATS, L, i).add(16).div(116);
+			FloatVector xr = FloatVector.fromArray(FLOATS, a, i).div(500).add(yr);
+			FloatVector zr = yr.sub(FloatVector.fromArray(FLOATS, b, i).div(200));
+
+			labBackward(xr).mul((float) X_REF).intoArray(x, i);
+			labBackward(yr).mul((float) Y_REF).intoArray(y, i);
+			labBackward(zr).mul((float) Z_REF).intoArray(z, i);
+		}
+
+		return i;
+	}
+
+	// Helpers
+
+	private static DoubleVector labForward(DoubleVector t) {
+		VectorMask<Double> cubic = t.compare(VectorOperators.GT, EPSILON);
+		return t.mul(KAPPA).add(16).div(116).blend(cbrt(t), cubic);
+	}
+
+	private static FloatVector labForward(FloatVector t) {
+		VectorMask<Float> cubic = t.compare(VectorOperators.GT, (float) EPSILON);
+		return t.mul((float) KAPPA).add(16).div(116).blend(cbrt(t), cubic);
+	}
+
+	private static DoubleVector labBackward(DoubleVector t) {
+		DoubleVector cubed = t.mul(t).mul(t);
+		return t.mul(116).sub(16).div(KAPPA).blend(cubed, cubed.compare(VectorOperators.GT, EPSILON));
+	}
+
+	private static FloatVector labBackward(FloatVector t) {
+		FloatVector cubed = t.mul(t).mul(t);
+		return t.mul(116).sub(16).div((float) KAPPA).blend(cubed, cubed.compare(VectorOperators.GT, (float) EPSILON));
+	}
+
+	/**
+	 * The cube root of the lanes above {@link ColorConvertor#EPSILON}, which are always normal. Other lanes yield
+	 * garbage and are expected to be blended away. Integer division has no hardware lanes, so the bits are divided
+	 * by {@code 3} as floating-point numbers, which only disturbs the guess far below what the Halley iterations
+	 * correct.
+	 */
+	private static DoubleVector cbrt(DoubleVector value) {
+		DoubleVector bits = (DoubleVector) value.reinterpretAsLongs().convert(VectorOperators.L2D, 0);
+		LongVector third = (LongVector) bits.mul(1 / 3.0).convert(VectorOperators.D2L, 0);
+		DoubleVector root = third.add(DOUBLE_CBRT_MAGIC).reinterpretAsDoubles();
+		return halley(halley(root, value), value);
+	}
+
+	/**
+	 * @see #cbrt(DoubleVector)
+	 */
+	private static FloatVector cbrt(FloatVector value) {
+		FloatVector bits = (FloatVector) value.reinterpretAsInts().convert(VectorOperators.I2F, 0);
+		IntVector third = (IntVector) bits.mul(1 / 3F).convert(VectorOperators.F2I, 0);
+		FloatVector root = third.add(FLOAT_CBRT_MAGIC).reinterpretAsFloats();
+		return halley(halley(root, value), value);
+	}
+
+	private static DoubleVector halley(DoubleVector root, DoubleVector value) {
+		DoubleVector cubed = root.mul(root).mul(root);
+		return root.mul(cubed.add(value.mul(2)).div(cubed.mul(2).add(value)));
+	}
+
+	private static FloatVector halley(FloatVector root, FloatVector value) {
+		FloatVector cubed = root.mul(root).mul(root);
+		return root.mul(cubed.add(value.mul(2)).div(cubed.mul(2).add(value)));
+	}
+}
@@ -41,6 +41,16 @@ public interface ColorStandard {
 		 * Real-world pigment mixing.
 		 */
 		PIGMENT,
+		/**
+		 * Value channels blending in linear light, gamma-correct.
+		 * @see net.krlite.equator.visual.color.LinearLight
+		 */
+		LINEAR,
+		/**
+		 * Value channels blending in OKLab, perceptually uniform.
+		 * @see net.krlite.equator.visual.color.Colorspace#OKLAB
+		 */
+		PERCEPTUAL,
 		/**
 		 * Opacity channel blending.
 		 */
@@ -138,7 +138,15 @@ public class Texture {
 	}
 
 	public Vector uvAt(double uOffset, double vOffset) {
-		return flippedX() ? flippedY() ? uvBox().at(1 - uOffset, 1 - vOffset) : uvBox().at(1 - uOffset, vOffset) : flippedY() ? uvBox().at(uOffset, 1 - vOffset) : uvBox().at(uOffset, vOffset);
+		return Vector.fromCartesian(uAt(uOffset), vAt(vOffset));
+	}
+
+	public double uAt(double uOffset) {
+		return uvBox().x() + uvBox().w() * (flippedX() ? 1 - uOffset : uOffset);
+	}
+
+	public double vAt(double vOffset) {
+		return uvBox().y() + uvBox().h() * (flippedY() ? 1 - vOffset : vOffset);
 	}
 
 	public boolean flippedX() {